@@ -0,0 +1,120 @@
+package com.mentorize.carga;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Estado do cenário "assinantes-lentos". Abre em /eventos conexões que nunca leem (buffer de
+ * recepção mínimo, então o socket do servidor enche logo) e uma que lê normalmente. Sem envio
+ * não bloqueante, os lentos prenderiam as threads de envio e o saudável pararia de receber.
+ */
+public class AssinantesLentos {
+
+    // Uma escrita isolada depois da carga tem de chegar ao assinante saudável dentro deste prazo
+    private static final long PRAZO_ENTREGA_MS = 2000;
+    // Prazo de envio do servidor (mentorize.sse.prazo-envio-ms) mais folga
+    private static final long ESPERA_DESCONEXAO_MS = 30_000;
+
+    private final int lentos;
+    private final List<Socket> conexoesLentas = new ArrayList<>();
+    private final AtomicLong recebidos = new AtomicLong();
+    private final AtomicLong ressincronizacoes = new AtomicLong();
+    private Socket saudavel;
+
+    public AssinantesLentos(int lentos) {
+        this.lentos = lentos;
+    }
+
+    public void preparar(ClienteHttp cliente) throws Exception {
+        for (int i = 0; i < lentos; i++) conexoesLentas.add(assinar(cliente.getBase(), 1024));
+        saudavel = assinar(cliente.getBase(), 0);
+        Thread leitor = new Thread(this::ler, "sse-saudavel");
+        leitor.setDaemon(true);
+        leitor.start();
+    }
+
+    public void verificar(ClienteHttp cliente) throws Exception {
+        try {
+            // O assinante saudável termina de receber o que a carga gerou
+            long anterior;
+            do {
+                anterior = recebidos.get();
+                Thread.sleep(500);
+            } while (recebidos.get() != anterior);
+
+            long inicio = System.nanoTime();
+            HttpResponse<byte[]> resposta = cliente.enviar("verificacao", "POST", "/tarefas",
+                    "{\"titulo\":\"verificacao\",\"prioridade\":\"BAIXA\",\"categoria\":\"OTHER\"}", inicio).join();
+            if (resposta.statusCode() != 201) throw new IllegalStateException("Escrita de verificação: HTTP " + resposta.statusCode());
+            while (recebidos.get() == anterior && System.nanoTime() - inicio < PRAZO_ENTREGA_MS * 1_000_000) Thread.sleep(5);
+            long entregaMs = (System.nanoTime() - inicio) / 1_000_000;
+
+            long desconectados = 0;
+            long assinantes = -1;
+            long limite = System.currentTimeMillis() + ESPERA_DESCONEXAO_MS;
+            while (System.currentTimeMillis() < limite) {
+                String metricas = new String(cliente.get("verificacao", "/actuator/prometheus", System.nanoTime()).join().body(),
+                        StandardCharsets.UTF_8);
+                desconectados = metrica(metricas, "mentorize_sse_desconexoes_lentos_total");
+                assinantes = metrica(metricas, "mentorize_sse_assinantes");
+                if (desconectados >= lentos && assinantes == 1) break;
+                Thread.sleep(1000);
+            }
+
+            System.out.printf("Assinante saudável: %d notificações, %d ressincronizações, escrita isolada entregue em %d ms%n",
+                    recebidos.get(), ressincronizacoes.get(), entregaMs);
+            System.out.printf("Assinantes lentos desconectados pelo servidor: %d de %d%n", desconectados, lentos);
+            if (recebidos.get() == anterior) {
+                throw new IllegalStateException("Escrita isolada não chegou ao assinante saudável em " + PRAZO_ENTREGA_MS + " ms");
+            }
+            if (desconectados < lentos || assinantes != 1) {
+                throw new IllegalStateException("Assinantes lentos ainda conectados: " + (assinantes - 1));
+            }
+        } finally {
+            for (Socket conexao : conexoesLentas) conexao.close();
+            saudavel.close();
+        }
+    }
+
+    private Socket assinar(URI base, int bufferRecepcao) throws IOException {
+        Socket conexao = new Socket();
+        if (bufferRecepcao > 0) conexao.setReceiveBufferSize(bufferRecepcao);
+        conexao.connect(new InetSocketAddress(base.getHost(), base.getPort()));
+        OutputStream saida = conexao.getOutputStream();
+        saida.write(("GET /eventos HTTP/1.1\r\nHost: " + base.getHost() + "\r\nAccept: text/event-stream\r\n\r\n")
+                .getBytes(StandardCharsets.US_ASCII));
+        saida.flush();
+        return conexao;
+    }
+
+    private void ler() {
+        try (BufferedReader leitor = new BufferedReader(new InputStreamReader(saudavel.getInputStream(), StandardCharsets.UTF_8))) {
+            String linha;
+            while ((linha = leitor.readLine()) != null) {
+                if (linha.equals("event:alteracao")) recebidos.incrementAndGet();
+                else if (linha.equals("event:ressincronizar")) ressincronizacoes.incrementAndGet();
+            }
+        } catch (IOException e) {
+            // Conexão fechada na verificação
+        }
+    }
+
+    private static long metrica(String texto, String nome) {
+        for (String linha : texto.split("\n")) {
+            if (linha.startsWith(nome + "{") || linha.startsWith(nome + " ")) {
+                return (long) Double.parseDouble(linha.substring(linha.lastIndexOf(' ') + 1));
+            }
+        }
+        return -1;
+    }
+}
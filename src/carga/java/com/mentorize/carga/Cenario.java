@@ -0,0 +1,135 @@
+package com.mentorize.carga;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Conjunto de ações de usuário com pesos. Cada ação reproduz o que a página correspondente do
+ * frontend faz, inclusive o recarregamento da lista depois de uma escrita.
+ */
+public class Cenario {
+
+    @FunctionalInterface
+    public interface Acao {
+        CompletableFuture<?> executar(ClienteHttp cliente, long inicioPrevisto);
+    }
+
+    // Passo executado fora da medição: preparar a base antes do aquecimento ou conferir o resultado no fim
+    @FunctionalInterface
+    public interface Etapa {
+        void executar(ClienteHttp cliente) throws Exception;
+    }
+
+    private static final Etapa NENHUMA = cliente -> { };
+
+    private final String nome;
+    private final List<String> nomesAcoes = new ArrayList<>();
+    private final List<Acao> acoes = new ArrayList<>();
+    private final List<Integer> pesosAcumulados = new ArrayList<>();
+    private int pesoTotal;
+    private Etapa preparacao = NENHUMA;
+    private Etapa verificacao = NENHUMA;
+
+    public Cenario(String nome) {
+        this.nome = nome;
+    }
+
+    public Cenario com(String nomeAcao, int peso, Acao acao) {
+        pesoTotal += peso;
+        nomesAcoes.add(nomeAcao);
+        acoes.add(acao);
+        pesosAcumulados.add(pesoTotal);
+        return this;
+    }
+
+    public Cenario preparandoCom(Etapa preparacao) {
+        this.preparacao = preparacao;
+        return this;
+    }
+
+    // A verificação lança exceção quando o resultado está errado, o que falha o build do perfil carga
+    public Cenario verificandoCom(Etapa verificacao) {
+        this.verificacao = verificacao;
+        return this;
+    }
+
+    public void preparar(ClienteHttp cliente) throws Exception { preparacao.executar(cliente); }
+
+    public void verificar(ClienteHttp cliente) throws Exception { verificacao.executar(cliente); }
+
+    public int sortear() {
+        int sorteio = ThreadLocalRandom.current().nextInt(pesoTotal);
+        for (int i = 0; i < pesosAcumulados.size(); i++) {
+            if (sorteio < pesosAcumulados.get(i)) return i;
+        }
+        throw new IllegalStateException("Cenário sem ações: " + nome);
+    }
+
+    public String getNomeAcao(int indice) { return nomesAcoes.get(indice); }
+
+    public Acao getAcao(int indice) { return acoes.get(indice); }
+
+    public String getNome() { return nome; }
+
+    // ================================
+    // CENÁRIOS
+    // ================================
+    public static Cenario porNome(Configuracao configuracao, MassaInicial massa) {
+        return switch (configuracao.getCenario()) {
+            case "frontend" -> frontend(massa);
+            case "incrementos" -> incrementos(massa, configuracao.inteiro("metas-disputadas", 10),
+                    configuracao.inteiro("recusados-maximos", 0));
+            case "assinantes-lentos" -> assinantesLentos(massa, configuracao.inteiro("assinantes-lentos", 8),
+                    configuracao.inteiro("tamanho-lote", 50));
+            default -> throw new IllegalArgumentException("Cenário desconhecido: " + configuracao.getCenario());
+        };
+    }
+
+    // Mistura de uso das páginas dashboard, tarefas e metas (dashboard.js, tarefas.js, metas.js)
+    public static Cenario frontend(MassaInicial massa) {
+        return new Cenario("frontend")
+                .com("abrir dashboard", 30, (cliente, previsto) ->
+                        cliente.get("GET /dashboard/resumo", "/dashboard/resumo", previsto))
+                .com("abrir tarefas", 25, (cliente, previsto) ->
+                        cliente.get("GET /tarefas", "/tarefas", previsto))
+                .com("criar tarefa", 10, (cliente, previsto) ->
+                        cliente.enviar("POST /tarefas", "POST", "/tarefas", massa.novaTarefaJson(), previsto)
+                                .thenCompose(resposta -> cliente.get("GET /tarefas", "/tarefas", System.nanoTime())))
+                .com("concluir tarefa", 10, (cliente, previsto) ->
+                        cliente.enviar("PATCH /tarefas/{id}/concluir", "PATCH",
+                                        "/tarefas/" + massa.tarefaAleatoria() + "/concluir", null, previsto)
+                                .thenCompose(resposta -> cliente.get("GET /tarefas", "/tarefas", System.nanoTime())))
+                .com("abrir metas", 15, (cliente, previsto) ->
+                        cliente.get("GET /metas", "/metas", previsto))
+                // Os botões de progresso enviam a variação de ±10%
+                .com("mover slider de progresso", 10, (cliente, previsto) ->
+                        cliente.enviar("PATCH /metas/{id}/progresso/incremento", "PATCH",
+                                "/metas/" + massa.metaAleatoria() + "/progresso/incremento?delta="
+                                        + (ThreadLocalRandom.current().nextBoolean() ? 10 : -10), null, previsto));
+    }
+
+    // Estresse de concorrência: todos os incrementos caem em poucas metas. No fim, o progresso de cada
+    // uma tem de bater com a soma dos deltas confirmados; qualquer atualização perdida aparece na diferença.
+    // Mais de recusadosMaximos incrementos recusados também reprova.
+    public static Cenario incrementos(MassaInicial massa, int metasDisputadas, int recusadosMaximos) {
+        ContencaoMetas contencao = new ContencaoMetas(massa.primeirasMetas(metasDisputadas), recusadosMaximos);
+        return new Cenario("incrementos")
+                .com("incrementar progresso", 1, contencao::incrementar)
+                .preparandoCom(contencao::preparar)
+                .verificandoCom(contencao::verificar);
+    }
+
+    // Assinantes SSE que param de ler enquanto as escritas seguem em lote. No fim, o assinante saudável
+    // tem de receber uma escrita nova em tempo e os lentos têm de ter sido desconectados pelo prazo de envio.
+    public static Cenario assinantesLentos(MassaInicial massa, int lentos, int tamanhoLote) {
+        AssinantesLentos assinantes = new AssinantesLentos(lentos);
+        return new Cenario("assinantes-lentos")
+                .com("criar tarefas em lote", 1, (cliente, previsto) ->
+                        cliente.enviar("POST /tarefas/lote", "POST", "/tarefas/lote",
+                                massa.novoLoteTarefasJson(tamanhoLote), previsto))
+                .preparandoCom(assinantes::preparar)
+                .verificandoCom(assinantes::verificar);
+    }
+}
@@ -0,0 +1,52 @@
+package com.mentorize.carga;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Envia requisições assíncronas e registra cada uma nas métricas sob o nome da rota
+ * (ex.: "PATCH /tarefas/{id}/concluir"), não do caminho concreto.
+ */
+public class ClienteHttp {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient http;
+    private final URI base;
+    private final Metricas metricas;
+
+    public ClienteHttp(HttpClient http, URI base, Metricas metricas) {
+        this.http = http;
+        this.base = base;
+        this.metricas = metricas;
+    }
+
+    public CompletableFuture<HttpResponse<byte[]>> get(String rota, String caminho, long inicioPrevisto) {
+        return enviar(rota, "GET", caminho, null, inicioPrevisto);
+    }
+
+    // inicioPrevisto: instante agendado (System.nanoTime). Em ações encadeadas, as requisições
+    // seguintes dependem da anterior e usam o próprio instante de envio.
+    public CompletableFuture<HttpResponse<byte[]>> enviar(String rota, String metodo, String caminho,
+                                                          String corpoJson, long inicioPrevisto) {
+        HttpRequest.Builder requisicao = HttpRequest.newBuilder(base.resolve(caminho)).timeout(TIMEOUT);
+        if (corpoJson == null) {
+            requisicao.method(metodo, HttpRequest.BodyPublishers.noBody());
+        } else {
+            requisicao.header("Content-Type", "application/json")
+                    .method(metodo, HttpRequest.BodyPublishers.ofString(corpoJson));
+        }
+        long envio = System.nanoTime();
+        return http.sendAsync(requisicao.build(), HttpResponse.BodyHandlers.ofByteArray())
+                .whenComplete((resposta, erro) -> {
+                    long fim = System.nanoTime();
+                    metricas.registrar(rota, fim - inicioPrevisto, fim - envio, erro != null || resposta.statusCode() >= 400);
+                });
+    }
+
+    public URI getBase() { return base; }
+}
@@ -0,0 +1,87 @@
+package com.mentorize.carga;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Parâmetros do teste, no formato nome=valor ou --nome=valor (via -Dcarga.args="..." no Maven).
+ */
+public class Configuracao {
+
+    private final Map<String, String> valores = new HashMap<>();
+
+    public Configuracao(String[] args) {
+        for (String arg : args) {
+            String nomeValor = arg.startsWith("--") ? arg.substring(2) : arg;
+            int separador = nomeValor.indexOf('=');
+            if (separador <= 0) {
+                throw new IllegalArgumentException("Argumento inválido (use nome=valor): " + arg);
+            }
+            valores.put(nomeValor.substring(0, separador), nomeValor.substring(separador + 1));
+        }
+    }
+
+    // Sem URL, a aplicação sobe embutida no perfil "carga"
+    public String getUrl() { return valores.get("url"); }
+
+    public String getCenario() { return texto("cenario", "frontend"); }
+
+    // Ações iniciadas por segundo, independente de quanto o servidor demora (carga em malha aberta)
+    public double getTaxa() { return Double.parseDouble(texto("taxa", "100")); }
+
+    public Duration getDuracao() { return Duration.ofSeconds(inteiro("duracao", 60)); }
+
+    public Duration getAquecimento() { return Duration.ofSeconds(inteiro("aquecimento", 15)); }
+
+    public int getMaxEmVoo() { return inteiro("max-em-voo", 2000); }
+
+    public int getTarefas() { return inteiro("tarefas", 1000); }
+
+    public int getMetas() { return inteiro("metas", 100); }
+
+    public int getEstudos() { return inteiro("estudos", 500); }
+
+    public int getAnotacoes() { return inteiro("anotacoes", 500); }
+
+    public Path getSaida() { return Path.of(texto("saida", "target/carga")); }
+
+    // Chaves spring.*, server.* e mentorize.* vão para a aplicação embutida
+    // (ex.: spring.threads.virtual.enabled=true para comparar os modos de execução)
+    public Map<String, String> getPropriedadesAplicacao() {
+        Map<String, String> propriedades = new TreeMap<>();
+        valores.forEach((nome, valor) -> {
+            if (nome.startsWith("spring.") || nome.startsWith("server.") || nome.startsWith("mentorize.")) {
+                propriedades.put(nome, valor);
+            }
+        });
+        return propriedades;
+    }
+
+    public String[] getArgumentosAplicacao() {
+        List<String> argumentos = new ArrayList<>();
+        getPropriedadesAplicacao().forEach((nome, valor) -> argumentos.add("--" + nome + "=" + valor));
+        return argumentos.toArray(new String[0]);
+    }
+
+    public String texto(String nome, String padrao) {
+        return valores.getOrDefault(nome, padrao);
+    }
+
+    public int inteiro(String nome, int padrao) {
+        String valor = valores.get(nome);
+        return valor == null ? padrao : Integer.parseInt(valor);
+    }
+
+    @Override
+    public String toString() {
+        return "cenario=" + getCenario() + " taxa=" + getTaxa() + "/s duracao=" + getDuracao().toSeconds()
+                + "s aquecimento=" + getAquecimento().toSeconds() + "s massa=[tarefas=" + getTarefas()
+                + " metas=" + getMetas() + " estudos=" + getEstudos() + " anotacoes=" + getAnotacoes() + "]"
+                + (getPropriedadesAplicacao().isEmpty() ? "" : " aplicacao=" + getPropriedadesAplicacao());
+    }
+}
@@ -0,0 +1,117 @@
+package com.mentorize.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Estado do cenário "incrementos". Cada meta disputada começa em 50 e recebe deltas +1 e -1
+ * alternados, então o valor fica perto do meio e o limite 0..100 nunca corta a soma. Só entram
+ * no saldo os deltas confirmados com HTTP 200; respostas perdidas tornam o resultado inconclusivo.
+ * Recusas (409 por tentativas esgotadas, 5xx) também reprovam acima de recusadosMaximos: o saldo só
+ * prova que nenhum incremento confirmado se perdeu, não que todos foram aceitos.
+ */
+public class ContencaoMetas {
+
+    private static final int PROGRESSO_INICIAL = 50;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Long> metas;
+    private final AtomicLongArray enviados;
+    private final AtomicLongArray saldos;
+    private final AtomicLong confirmados = new AtomicLong();
+    private final AtomicLong recusados = new AtomicLong();
+    private final Map<Integer, AtomicLong> recusasPorStatus = new ConcurrentHashMap<>();
+    private final AtomicInteger incertos = new AtomicInteger();
+    private final long recusadosMaximos;
+
+    public ContencaoMetas(List<Long> metas, long recusadosMaximos) {
+        this.metas = metas;
+        this.recusadosMaximos = recusadosMaximos;
+        this.enviados = new AtomicLongArray(metas.size());
+        this.saldos = new AtomicLongArray(metas.size());
+    }
+
+    public void preparar(ClienteHttp cliente) throws Exception {
+        for (Long id : metas) {
+            HttpResponse<byte[]> resposta = cliente.enviar("preparacao", "PATCH",
+                    "/metas/" + id + "/progresso?progresso=" + PROGRESSO_INICIAL, null, System.nanoTime()).join();
+            if (resposta.statusCode() != 200) {
+                throw new IllegalStateException("Falha ao preparar meta " + id + ": HTTP " + resposta.statusCode());
+            }
+        }
+    }
+
+    public CompletableFuture<?> incrementar(ClienteHttp cliente, long inicioPrevisto) {
+        int indice = ThreadLocalRandom.current().nextInt(metas.size());
+        int delta = enviados.incrementAndGet(indice) % 2 == 1 ? 1 : -1;
+        return cliente.enviar("PATCH /metas/{id}/progresso/incremento", "PATCH",
+                        "/metas/" + metas.get(indice) + "/progresso/incremento?delta=" + delta, null, inicioPrevisto)
+                .whenComplete((resposta, erro) -> {
+                    if (erro != null) {
+                        incertos.incrementAndGet();
+                    } else if (resposta.statusCode() == 200) {
+                        saldos.addAndGet(indice, delta);
+                        confirmados.incrementAndGet();
+                    } else {
+                        recusados.incrementAndGet();
+                        recusasPorStatus.computeIfAbsent(resposta.statusCode(), status -> new AtomicLong()).incrementAndGet();
+                    }
+                });
+    }
+
+    public void verificar(ClienteHttp cliente) throws Exception {
+        System.out.printf("Incrementos: %d confirmados, %d recusados, %d sem resposta, em %d metas%n",
+                confirmados.get(), recusados.get(), incertos.get(), metas.size());
+        if (recusados.get() > 0) System.out.println("Recusas por status HTTP: " + new TreeMap<>(recusasPorStatus));
+        if (incertos.get() > 0) {
+            throw new IllegalStateException("Verificação inconclusiva: " + incertos.get()
+                    + " incrementos sem resposta podem ou não ter sido aplicados");
+        }
+
+        List<String> divergencias = new ArrayList<>();
+        for (int i = 0; i < metas.size(); i++) {
+            long esperado = PROGRESSO_INICIAL + saldos.get(i);
+            int atual = ler(cliente, metas.get(i)).get("progresso").asInt();
+            if (atual != esperado) {
+                divergencias.add("meta " + metas.get(i) + ": esperado " + esperado + ", encontrado " + atual);
+            }
+        }
+        if (!divergencias.isEmpty()) {
+            throw new IllegalStateException("Incrementos perdidos: " + divergencias);
+        }
+
+        // Um incremento que passa de 100 conclui a meta e é limitado a 100
+        Long id = metas.get(0);
+        cliente.enviar("verificacao", "PATCH", "/metas/" + id + "/progresso/incremento?delta=100",
+                null, System.nanoTime()).join();
+        JsonNode meta = ler(cliente, id);
+        if (meta.get("progresso").asInt() != 100 || !meta.get("concluida").asBoolean()) {
+            throw new IllegalStateException("Meta " + id + " não foi concluída ao chegar a 100: " + meta);
+        }
+        if (recusados.get() > recusadosMaximos) {
+            throw new IllegalStateException(recusados.get() + " incrementos recusados (máximo " + recusadosMaximos
+                    + "): " + new TreeMap<>(recusasPorStatus));
+        }
+        System.out.println("Verificação de incrementos: nenhum perdido");
+    }
+
+    private JsonNode ler(ClienteHttp cliente, Long id) throws Exception {
+        HttpResponse<byte[]> resposta = cliente.get("verificacao", "/metas/id/" + id, System.nanoTime()).join();
+        if (resposta.statusCode() != 200) {
+            throw new IllegalStateException("Falha ao ler meta " + id + ": HTTP " + resposta.statusCode());
+        }
+        return objectMapper.readTree(resposta.body());
+    }
+}
@@ -0,0 +1,71 @@
+package com.mentorize.carga;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Gerador em malha aberta: a ação i é agendada para inicio + i / taxa, independente de as
+ * anteriores já terem respondido. A latência é medida a partir do instante agendado, então um
+ * servidor travado não "segura" o gerador e as esperas aparecem nos percentis altos.
+ */
+public class GeradorCarga {
+
+    private final ClienteHttp cliente;
+    private final Cenario cenario;
+    private final Metricas metricas;
+    private final double taxa;
+    private final Semaphore emVoo;
+    private final int maxEmVoo;
+
+    public GeradorCarga(ClienteHttp cliente, Cenario cenario, Metricas metricas, double taxa, int maxEmVoo) {
+        this.cliente = cliente;
+        this.cenario = cenario;
+        this.metricas = metricas;
+        this.taxa = taxa;
+        this.maxEmVoo = maxEmVoo;
+        this.emVoo = new Semaphore(maxEmVoo);
+    }
+
+    public void executar(Duration duracao) {
+        long intervalo = (long) (TimeUnit.SECONDS.toNanos(1) / taxa);
+        long inicio = System.nanoTime();
+        long fim = inicio + duracao.toNanos();
+
+        for (long i = 0; ; i++) {
+            long previsto = inicio + i * intervalo;
+            if (previsto >= fim) break;
+            long espera = previsto - System.nanoTime();
+            if (espera > 0) LockSupport.parkNanos(espera);
+
+            // Limite de segurança do próprio gerador; descartes são reportados à parte
+            if (!emVoo.tryAcquire()) {
+                metricas.descartar();
+                continue;
+            }
+            int indice = cenario.sortear();
+            CompletableFuture<?> acao;
+            try {
+                acao = cenario.getAcao(indice).executar(cliente, previsto);
+            } catch (RuntimeException e) {
+                acao = CompletableFuture.failedFuture(e);
+            }
+            acao.whenComplete((resposta, erro) -> {
+                long agora = System.nanoTime();
+                metricas.registrar("acao: " + cenario.getNomeAcao(indice), agora - previsto, agora - previsto, erro != null);
+                emVoo.release();
+            });
+        }
+        aguardarPendentes();
+    }
+
+    private void aguardarPendentes() {
+        try {
+            if (emVoo.tryAcquire(maxEmVoo, 60, TimeUnit.SECONDS)) emVoo.release(maxEmVoo);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.mentorize.carga;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Popula a base pelos endpoints /lote antes da medição e guarda os ids criados para as ações
+ * que precisam de um registro existente.
+ */
+public class MassaInicial {
+
+    private static final int TAMANHO_LOTE = 1000;
+    private static final DateTimeFormatter DATA_HORA = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final String[] PALAVRAS = {
+            "revisar", "capítulo", "álgebra", "lista", "exercícios", "projeto", "relatório", "prova",
+            "leitura", "resumo", "java", "banco", "dados", "redes", "física", "química", "história",
+            "inglês", "apresentação", "entrega", "reunião", "estrutura", "algoritmos", "simulado"
+    };
+    private static final String[] PRIORIDADES = {"BAIXA", "MEDIA", "ALTA"};
+    private static final String[] CATEGORIAS = {"STUDY", "WORK", "PERSONAL", "OTHER"};
+    private static final String[] MATERIAS = {"Matemática", "Física", "Programação", "Inglês", "História"};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Random random = new Random(42);
+    private final List<Long> tarefas = new ArrayList<>();
+    private final List<Long> metas = new ArrayList<>();
+
+    public void popular(ClienteHttp cliente, HttpClient http, Configuracao configuracao) throws Exception {
+        tarefas.addAll(criar(cliente, http, "/tarefas/lote", configuracao.getTarefas(), this::tarefa));
+        metas.addAll(criar(cliente, http, "/metas/lote", configuracao.getMetas(), this::meta));
+        criar(cliente, http, "/estudos/lote", configuracao.getEstudos(), this::estudo);
+        criar(cliente, http, "/anotacoes/lote", configuracao.getAnotacoes(), this::anotacao);
+    }
+
+    private List<Long> criar(ClienteHttp cliente, HttpClient http, String caminho, int quantidade,
+                             Function<Random, Map<String, Object>> gerador) throws Exception {
+        List<Long> ids = new ArrayList<>(quantidade);
+        for (int inicio = 0; inicio < quantidade; inicio += TAMANHO_LOTE) {
+            List<Map<String, Object>> operacoes = new ArrayList<>();
+            for (int i = inicio; i < Math.min(quantidade, inicio + TAMANHO_LOTE); i++) {
+                operacoes.add(Map.of("operacao", "CRIAR", "dados", gerador.apply(random)));
+            }
+            HttpRequest requisicao = HttpRequest.newBuilder(cliente.getBase().resolve(caminho))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(operacoes)))
+                    .build();
+            HttpResponse<String> resposta = http.send(requisicao, HttpResponse.BodyHandlers.ofString());
+            if (resposta.statusCode() != 200) {
+                throw new IllegalStateException("Falha ao popular " + caminho + ": HTTP " + resposta.statusCode()
+                        + " " + resposta.body());
+            }
+            for (JsonNode resultado : objectMapper.readTree(resposta.body())) {
+                if (resultado.hasNonNull("id")) ids.add(resultado.get("id").asLong());
+            }
+        }
+        return ids;
+    }
+
+    // ================================
+    // GERADORES
+    // ================================
+    private Map<String, Object> tarefa(Random r) {
+        Map<String, Object> tarefa = new LinkedHashMap<>();
+        tarefa.put("titulo", frase(r, 3 + r.nextInt(4)));
+        tarefa.put("descricao", frase(r, 10 + r.nextInt(30)));
+        tarefa.put("concluida", r.nextInt(4) == 0);
+        tarefa.put("prazo", LocalDate.now().plusDays(r.nextInt(60) - 20).toString());
+        tarefa.put("prioridade", PRIORIDADES[r.nextInt(PRIORIDADES.length)]);
+        tarefa.put("categoria", CATEGORIAS[r.nextInt(CATEGORIAS.length)]);
+        return tarefa;
+    }
+
+    private Map<String, Object> meta(Random r) {
+        Map<String, Object> meta = new LinkedHashMap<>();
+        meta.put("nome", frase(r, 2 + r.nextInt(4)));
+        meta.put("descricao", frase(r, 10 + r.nextInt(20)));
+        meta.put("progresso", r.nextInt(11) * 10);
+        meta.put("dataInicio", LocalDateTime.now().minusDays(r.nextInt(30)).format(DATA_HORA));
+        meta.put("dataLimite", LocalDateTime.now().plusDays(r.nextInt(90) - 10).format(DATA_HORA));
+        return meta;
+    }
+
+    private Map<String, Object> estudo(Random r) {
+        Map<String, Object> estudo = new LinkedHashMap<>();
+        estudo.put("titulo", frase(r, 3 + r.nextInt(3)));
+        estudo.put("descricao", frase(r, 10 + r.nextInt(20)));
+        estudo.put("materia", MATERIAS[r.nextInt(MATERIAS.length)]);
+        estudo.put("duracao", 15 + r.nextInt(120));
+        estudo.put("concluido", r.nextBoolean());
+        return estudo;
+    }
+
+    private Map<String, Object> anotacao(Random r) {
+        Map<String, Object> anotacao = new LinkedHashMap<>();
+        anotacao.put("titulo", frase(r, 3 + r.nextInt(4)));
+        anotacao.put("conteudo", frase(r, 40 + r.nextInt(200)));
+        return anotacao;
+    }
+
+    private String frase(Random r, int palavras) {
+        StringBuilder frase = new StringBuilder();
+        for (int i = 0; i < palavras; i++) {
+            if (i > 0) frase.append(' ');
+            frase.append(PALAVRAS[r.nextInt(PALAVRAS.length)]);
+        }
+        return frase.toString();
+    }
+
+    // ================================
+    // USO DURANTE A CARGA
+    // ================================
+    public String novaTarefaJson() {
+        try {
+            return objectMapper.writeValueAsString(tarefa(ThreadLocalRandom.current()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public String novoLoteTarefasJson(int quantidade) {
+        List<Map<String, Object>> operacoes = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            operacoes.add(Map.of("operacao", "CRIAR", "dados", tarefa(ThreadLocalRandom.current())));
+        }
+        try {
+            return objectMapper.writeValueAsString(operacoes);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public long tarefaAleatoria() {
+        return tarefas.get(ThreadLocalRandom.current().nextInt(tarefas.size()));
+    }
+
+    public long metaAleatoria() {
+        return metas.get(ThreadLocalRandom.current().nextInt(metas.size()));
+    }
+
+    public List<Long> primeirasMetas(int quantidade) {
+        if (metas.isEmpty()) throw new IllegalStateException("Nenhuma meta na massa inicial (metas=0)");
+        return List.copyOf(metas.subList(0, Math.min(quantidade, metas.size())));
+    }
+
+    public int getTotalTarefas() { return tarefas.size(); }
+
+    public int getTotalMetas() { return metas.size(); }
+}
@@ -0,0 +1,112 @@
+package com.mentorize.carga;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Histogramas HDR (em microssegundos) por endpoint e por ação.
+ * <ul>
+ *   <li>"corrigida": do instante em que a requisição deveria ter saído pelo agendamento até a
+ *   resposta. Inclui a espera causada por um servidor lento (sem omissão coordenada).</li>
+ *   <li>"servico": do envio efetivo até a resposta, o que um gerador em malha fechada mediria.</li>
+ * </ul>
+ */
+public class Metricas {
+
+    private static final double[] PERCENTIS = {50, 90, 99, 99.9};
+
+    private final Map<String, Serie> series = new ConcurrentHashMap<>();
+    private final AtomicLong descartadas = new AtomicLong();
+    private volatile boolean registrando;
+
+    public void setRegistrando(boolean registrando) {
+        this.registrando = registrando;
+    }
+
+    public void registrar(String nome, long corrigidaNanos, long servicoNanos, boolean erro) {
+        if (!registrando) return;
+        Serie serie = series.computeIfAbsent(nome, chave -> new Serie());
+        serie.corrigida.recordValue(TimeUnit.NANOSECONDS.toMicros(corrigidaNanos));
+        serie.servico.recordValue(TimeUnit.NANOSECONDS.toMicros(servicoNanos));
+        if (erro) serie.erros.incrementAndGet();
+    }
+
+    public void descartar() {
+        if (registrando) descartadas.incrementAndGet();
+    }
+
+    public void imprimir(PrintStream saida, double segundos) {
+        saida.printf("%-42s %9s %7s %9s %9s %9s %9s %9s %12s%n",
+                "endpoint", "req/s", "erros", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "p99 serv ms");
+        for (Map.Entry<String, Serie> entrada : new TreeMap<>(series).entrySet()) {
+            Histogram corrigida = entrada.getValue().corrigida;
+            saida.printf("%-42s %9.1f %7d %9.2f %9.2f %9.2f %9.2f %9.2f %12.2f%n",
+                    entrada.getKey(), corrigida.getTotalCount() / segundos, entrada.getValue().erros.get(),
+                    ms(corrigida.getValueAtPercentile(50)), ms(corrigida.getValueAtPercentile(90)),
+                    ms(corrigida.getValueAtPercentile(99)), ms(corrigida.getValueAtPercentile(99.9)),
+                    ms(corrigida.getMaxValue()), ms(entrada.getValue().servico.getValueAtPercentile(99)));
+        }
+        if (descartadas.get() > 0) {
+            saida.printf("%d ações descartadas: limite de requisições em voo atingido%n", descartadas.get());
+        }
+    }
+
+    // Um .hgrm por série (formato do HdrHistogram, plotável) e um resumo.json para comparar execuções
+    public void gravar(Path diretorio, Configuracao configuracao, double segundos) throws IOException {
+        Files.createDirectories(diretorio);
+        Map<String, Object> resumo = new LinkedHashMap<>();
+        resumo.put("configuracao", configuracao.toString());
+        resumo.put("segundos", segundos);
+        resumo.put("descartadas", descartadas.get());
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        for (Map.Entry<String, Serie> entrada : new TreeMap<>(series).entrySet()) {
+            String arquivo = entrada.getKey().replaceAll("[^A-Za-z0-9]+", "_").replaceAll("^_|_$", "");
+            gravarDistribuicao(diretorio.resolve(arquivo + ".hgrm"), entrada.getValue().corrigida);
+            gravarDistribuicao(diretorio.resolve(arquivo + ".servico.hgrm"), entrada.getValue().servico);
+
+            Map<String, Object> valores = new LinkedHashMap<>();
+            Histogram corrigida = entrada.getValue().corrigida;
+            valores.put("total", corrigida.getTotalCount());
+            valores.put("erros", entrada.getValue().erros.get());
+            valores.put("reqPorSegundo", corrigida.getTotalCount() / segundos);
+            for (double percentil : PERCENTIS) {
+                valores.put("p" + percentil + "Ms", ms(corrigida.getValueAtPercentile(percentil)));
+            }
+            valores.put("maxMs", ms(corrigida.getMaxValue()));
+            valores.put("p99ServicoMs", ms(entrada.getValue().servico.getValueAtPercentile(99)));
+            endpoints.put(entrada.getKey(), valores);
+        }
+        resumo.put("endpoints", endpoints);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(diretorio.resolve("resumo.json").toFile(), resumo);
+    }
+
+    private void gravarDistribuicao(Path arquivo, Histogram histograma) throws IOException {
+        try (PrintStream saida = new PrintStream(Files.newOutputStream(arquivo))) {
+            histograma.outputPercentileDistribution(saida, 1000.0);
+        }
+    }
+
+    private static double ms(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static class Serie {
+        final Histogram corrigida = new ConcurrentHistogram(3);
+        final Histogram servico = new ConcurrentHistogram(3);
+        final AtomicLong erros = new AtomicLong();
+    }
+}
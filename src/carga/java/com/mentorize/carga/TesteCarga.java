@@ -0,0 +1,104 @@
+package com.mentorize.carga;
+
+import com.mentorize.MentorizeApplication;
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Teste de carga HTTP. Sem url=..., sobe a aplicação no perfil "carga" (H2 em memória), popula a
+ * base, confere os planos das consultas indexadas (verificar-planos=0 desliga), aquece e mede. Resultado impresso por endpoint e gravado em target/carga/&lt;cenario&gt;-&lt;data&gt;.
+ *
+ * <pre>
+ * mvn -P carga verify -Dcarga.args="taxa=200 duracao=60 tarefas=10000"
+ * mvn -P carga verify -Dcarga.args="url=http://localhost:8080 tarefas=0 metas=0"
+ *
+ * Incrementos concorrentes em poucas metas, conferindo no fim que nenhum se perdeu nem foi recusado
+ * (recusados-maximos=N tolera até N respostas 409/5xx):
+ * mvn -P carga verify -Dcarga.args="cenario=incrementos taxa=2000 duracao=30 metas-disputadas=5"
+ *
+ * Assinantes SSE que param de ler (conferindo entrega ao assinante saudável e desconexão dos lentos):
+ * mvn -P carga verify -Dcarga.args="cenario=assinantes-lentos taxa=20 duracao=30 assinantes-lentos=8"
+ *
+ * Threads de plataforma x virtuais (JDK 21 no JAVA_HOME e no PATH), mesma taxa; comparar req/s e p99
+ * dos resumo.json (resultados em ThreadsVirtuaisConfig):
+ * mvn -P java21,carga verify -Dcarga.args="taxa=60 duracao=60"
+ * mvn -P java21,carga verify -Dcarga.args="taxa=60 duracao=60 spring.threads.virtual.enabled=true"
+ * </pre>
+ */
+public class TesteCarga {
+
+    public static void main(String[] args) throws Exception {
+        Configuracao configuracao = new Configuracao(args);
+        ConfigurableApplicationContext contexto = null;
+        URI base;
+        if (configuracao.getUrl() != null) {
+            base = URI.create(configuracao.getUrl());
+        } else {
+            contexto = iniciarAplicacao(configuracao.getArgumentosAplicacao());
+            base = URI.create("http://localhost:" + contexto.getEnvironment().getProperty("local.server.port"));
+        }
+
+        try {
+            System.out.println("Teste de carga contra " + base + ": " + configuracao);
+            Metricas metricas = new Metricas();
+            HttpClient http = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            ClienteHttp cliente = new ClienteHttp(http, base, metricas);
+
+            MassaInicial massa = new MassaInicial();
+            long inicioCarga = System.currentTimeMillis();
+            massa.popular(cliente, http, configuracao);
+            System.out.printf("Massa inicial criada em %d ms%n", System.currentTimeMillis() - inicioCarga);
+            if (contexto != null && configuracao.inteiro("verificar-planos", 1) == 1) {
+                System.out.println("Planos de execução das consultas indexadas:");
+                new VerificadorPlanos(contexto.getBean(DataSource.class)).verificar();
+            }
+
+            Cenario cenario = Cenario.porNome(configuracao, massa);
+            cenario.preparar(cliente);
+            GeradorCarga gerador = new GeradorCarga(cliente, cenario, metricas, configuracao.getTaxa(),
+                    configuracao.getMaxEmVoo());
+
+            if (!configuracao.getAquecimento().isZero()) {
+                System.out.println("Aquecimento...");
+                gerador.executar(configuracao.getAquecimento());
+            }
+            System.out.println("Medição...");
+            metricas.setRegistrando(true);
+            gerador.executar(configuracao.getDuracao());
+            metricas.setRegistrando(false);
+
+            double segundos = configuracao.getDuracao().toMillis() / 1000.0;
+            metricas.imprimir(System.out, segundos);
+            Path diretorio = configuracao.getSaida().resolve(cenario.getNome() + "-"
+                    + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+            metricas.gravar(diretorio, configuracao, segundos);
+            System.out.println("Histogramas gravados em " + diretorio.toAbsolutePath());
+            cenario.verificar(cliente);
+        } finally {
+            if (contexto != null) contexto.close();
+        }
+    }
+
+    private static ConfigurableApplicationContext iniciarAplicacao(String[] argumentos) {
+        // O devtools só lê essa chave como propriedade de sistema; ativo, ele reinicia o main sem os argumentos
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        SpringApplication aplicacao = new SpringApplication(MentorizeApplication.class);
+        aplicacao.setBannerMode(Banner.Mode.OFF);
+        aplicacao.setLogStartupInfo(false);
+        aplicacao.setAdditionalProfiles("carga");
+        return aplicacao.run(argumentos);
+    }
+}
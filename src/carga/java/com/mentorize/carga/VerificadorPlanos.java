@@ -0,0 +1,125 @@
+package com.mentorize.carga;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Confere com EXPLAIN que as consultas quentes dos repositórios usam os índices criados pelas
+ * migrações. Roda depois da massa inicial, para o otimizador ter dados reais. O texto do plano é
+ * procurado pelo nome do índice, o que funciona tanto no H2 (comentário no SQL do plano) quanto
+ * no MySQL (coluna "key").
+ */
+public class VerificadorPlanos {
+
+    private record Consulta(String descricao, String sql, String indiceEsperado) { }
+
+    // Equivalentes em SQL das consultas JPQL/derivadas dos repositórios
+    private static final List<Consulta> CONSULTAS = List.of(
+            new Consulta("TarefaRepository.findComPrazoDTO",
+                    "SELECT * FROM tarefas WHERE prazo IS NOT NULL AND concluida = false ORDER BY prazo",
+                    "idx_tarefas_concluida_prazo"),
+            new Consulta("TarefaRepository.countTarefasAtrasadas",
+                    "SELECT COUNT(*) FROM tarefas WHERE concluida = false AND prazo IS NOT NULL AND prazo < CURRENT_DATE",
+                    "idx_tarefas_concluida_prazo"),
+            new Consulta("TarefaRepository.findPrazosPendentes",
+                    "SELECT id, prazo, versao FROM tarefas WHERE concluida = false AND prazo IS NOT NULL",
+                    "idx_tarefas_concluida_prazo"),
+            new Consulta("TarefaRepository.findPendentesByCategoria",
+                    "SELECT * FROM tarefas WHERE categoria = 'WORK' AND concluida = false",
+                    "idx_tarefas_categoria_concluida"),
+            new Consulta("TarefaRepository.findByPrioridadeDTO",
+                    "SELECT * FROM tarefas WHERE prioridade = 'ALTA'",
+                    "idx_tarefas_prioridade"),
+            new Consulta("TarefaRepository.findAllByOrderByDataCriacaoDescIdDesc",
+                    "SELECT * FROM tarefas ORDER BY data_criacao DESC, id DESC LIMIT 20",
+                    "idx_tarefas_data_criacao_id"),
+            new Consulta("TarefaRepository.findPaginaApos",
+                    "SELECT * FROM tarefas WHERE data_criacao <= CURRENT_TIMESTAMP AND (data_criacao < CURRENT_TIMESTAMP OR id < 100) "
+                            + "ORDER BY data_criacao DESC, id DESC LIMIT 20",
+                    "idx_tarefas_data_criacao_id"),
+            new Consulta("TarefaRepository.findCriadasEntreDTO",
+                    "SELECT * FROM tarefas WHERE data_criacao >= TIMESTAMP '2020-01-01 03:00:00' "
+                            + "AND data_criacao < TIMESTAMP '2020-01-02 03:00:00' ORDER BY data_criacao DESC, id DESC",
+                    "idx_tarefas_data_criacao_id"),
+            new Consulta("TarefaRepository.findConcluidasEntreDTO",
+                    "SELECT * FROM tarefas WHERE data_conclusao >= TIMESTAMP '2020-01-01 03:00:00' "
+                            + "AND data_conclusao < TIMESTAMP '2020-01-02 03:00:00' AND concluida = true "
+                            + "ORDER BY data_conclusao DESC, id DESC",
+                    "idx_tarefas_concluida_data_conclusao"),
+            new Consulta("TarefaRepository.findByDataAtualizacaoGreaterThanEqual",
+                    "SELECT * FROM tarefas WHERE data_atualizacao >= CURRENT_TIMESTAMP",
+                    "idx_tarefas_data_atualizacao"),
+            new Consulta("EstudoRepository.countEstudosAtrasados",
+                    "SELECT COUNT(*) FROM estudos WHERE concluido = false AND prazo IS NOT NULL AND prazo < CURRENT_DATE",
+                    "idx_estudos_concluido_prazo"),
+            new Consulta("EstudoRepository.findPrazosPendentes",
+                    "SELECT id, prazo, versao FROM estudos WHERE concluido = false AND prazo IS NOT NULL",
+                    "idx_estudos_concluido_prazo"),
+            new Consulta("EstudoRepository.findConcluidosFromDate",
+                    "SELECT * FROM estudos WHERE concluido = true AND data_criacao >= CURRENT_TIMESTAMP",
+                    "idx_estudos_concluido_data_criacao"),
+            new Consulta("EstudoRepository.findByMateriaDTO",
+                    "SELECT * FROM estudos WHERE materia = 'Física'",
+                    "idx_estudos_materia"),
+            new Consulta("EstudoRepository.findRecentesDTO",
+                    "SELECT * FROM estudos ORDER BY data_criacao DESC LIMIT 10",
+                    "idx_estudos_data_criacao_id"),
+            new Consulta("MetaRepository.countMetasAtrasadas",
+                    "SELECT COUNT(*) FROM metas WHERE data_limite < CURRENT_TIMESTAMP AND concluida = false",
+                    "idx_metas_concluida_data_limite"),
+            new Consulta("MetaRepository.findPrazosPendentes",
+                    "SELECT id, data_limite, versao FROM metas WHERE concluida = false AND data_limite IS NOT NULL",
+                    "idx_metas_concluida_data_limite"),
+            new Consulta("MetaRepository.findAllByOrderByDataInicioDescIdDesc",
+                    "SELECT * FROM metas ORDER BY data_inicio DESC, id DESC LIMIT 20",
+                    "idx_metas_data_inicio_id"),
+            new Consulta("MetaRepository.findByTipoDTO",
+                    "SELECT * FROM metas WHERE tipo = 'diaria'",
+                    "idx_metas_tipo"),
+            new Consulta("AnotacaoRepository.findRecentesDTO",
+                    "SELECT * FROM anotacoes ORDER BY data_criacao DESC LIMIT 5",
+                    "idx_anotacoes_data_criacao_id")
+    );
+
+    private final DataSource dataSource;
+
+    public VerificadorPlanos(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    public void verificar() throws Exception {
+        List<String> falhas = new ArrayList<>();
+        try (Connection conexao = dataSource.getConnection(); Statement comando = conexao.createStatement()) {
+            for (Consulta consulta : CONSULTAS) {
+                String plano = explicar(comando, consulta.sql());
+                boolean usaIndice = plano.toLowerCase(Locale.ROOT).contains(consulta.indiceEsperado());
+                System.out.printf("  %-4s %-60s %s%n", usaIndice ? "ok" : "ERRO", consulta.descricao(),
+                        consulta.indiceEsperado());
+                if (!usaIndice) falhas.add(consulta.descricao() + " não usa " + consulta.indiceEsperado() + ": " + plano);
+            }
+        }
+        if (!falhas.isEmpty()) {
+            throw new IllegalStateException("Planos sem o índice esperado:\n" + String.join("\n", falhas));
+        }
+    }
+
+    // Junta todas as colunas de todas as linhas do EXPLAIN em um texto só
+    private String explicar(Statement comando, String sql) throws Exception {
+        StringBuilder plano = new StringBuilder();
+        try (ResultSet linhas = comando.executeQuery("EXPLAIN " + sql)) {
+            ResultSetMetaData colunas = linhas.getMetaData();
+            while (linhas.next()) {
+                for (int i = 1; i <= colunas.getColumnCount(); i++) {
+                    plano.append(colunas.getColumnLabel(i)).append('=').append(linhas.getString(i)).append(' ');
+                }
+            }
+        }
+        return plano.toString().trim();
+    }
+}
@@ -0,0 +1,67 @@
+package com.mentorize.benchmark;
+
+import com.mentorize.dto.ResultadoBuscaDTO;
+import com.mentorize.model.Anotacao;
+import com.mentorize.repository.AnotacaoRepository;
+import com.mentorize.service.AnotacaoService;
+import com.mentorize.service.BuscaService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Busca em 20 mil anotações: índice invertido BM25 (/anotacoes/pesquisa) e índice de
+ * trigramas (/busca) contra o LIKE '%termo%' que varre a tabela.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BuscaBenchmark {
+
+    private static final int REGISTROS = 20_000;
+    private static final int LIMITE = 20;
+
+    @Param({"estrutura", "integral revisão"})
+    private String consulta;
+
+    private ConfigurableApplicationContext contexto;
+    private AnotacaoService anotacaoService;
+    private BuscaService buscaService;
+    private AnotacaoRepository anotacaoRepository;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = ContextoH2.iniciar();
+        anotacaoService = contexto.getBean(AnotacaoService.class);
+        buscaService = contexto.getBean(BuscaService.class);
+        anotacaoRepository = contexto.getBean(AnotacaoRepository.class);
+        MassaDados.gravarAnotacoes(anotacaoService, REGISTROS, new Random(42));
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public List<ResultadoBuscaDTO> indiceInvertido() {
+        return anotacaoService.pesquisar(consulta, LIMITE);
+    }
+
+    @Benchmark
+    public List<ResultadoBuscaDTO> indiceTrigramas() {
+        return buscaService.buscar(consulta, LIMITE);
+    }
+
+    // Sem ranking nem limite: é o que o banco consegue fazer sem índice de texto
+    @Benchmark
+    public List<Anotacao> like() {
+        return anotacaoRepository.findByConteudoContaining(consulta);
+    }
+}
@@ -0,0 +1,43 @@
+package com.mentorize.benchmark;
+
+import com.mentorize.MentorizeApplication;
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Sobe a aplicação sem servidor web sobre um H2 em memória (modo MySQL, mesmo dialeto
+ * da produção) para benchmarks ponta a ponta dos serviços. O esquema vem das migrações do
+ * Flyway, como em produção; o Hibernate só o valida.
+ */
+public final class ContextoH2 {
+
+    private ContextoH2() {}
+
+    public static ConfigurableApplicationContext iniciar(String... propriedadesExtras) {
+        SpringApplication aplicacao = new SpringApplication(MentorizeApplication.class);
+        aplicacao.setWebApplicationType(WebApplicationType.NONE);
+        aplicacao.setBannerMode(Banner.Mode.OFF);
+        aplicacao.setLogStartupInfo(false);
+
+        // Argumentos de linha de comando têm precedência sobre o application.properties
+        List<String> argumentos = new ArrayList<>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=validate",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=ERROR",
+                "--logging.level.com.mentorize=WARN",
+                "--spring.devtools.restart.enabled=false"
+        ));
+        argumentos.addAll(Arrays.asList(propriedadesExtras));
+        return aplicacao.run(argumentos.toArray(new String[0]));
+    }
+}
@@ -0,0 +1,71 @@
+package com.mentorize.benchmark;
+
+import com.mentorize.dto.OperacaoLoteDTO;
+import com.mentorize.dto.ResultadoLoteDTO;
+import com.mentorize.dto.TarefaDTO;
+import com.mentorize.service.TarefaService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Linhas gravadas por segundo: POST individual (uma transação por linha) contra o caminho
+ * de lote (uma transação, INSERTs agrupados pelo batching JDBC). Cada invocação grava
+ * {@link #LINHAS} tarefas, e o placar é normalizado por linha.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class LoteBenchmark {
+
+    private static final int LINHAS = 100;
+
+    private ConfigurableApplicationContext contexto;
+    private TarefaService tarefaService;
+    private List<TarefaDTO> tarefas;
+    private List<OperacaoLoteDTO<TarefaDTO>> operacoes;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = ContextoH2.iniciar();
+        tarefaService = contexto.getBean(TarefaService.class);
+
+        Random random = new Random(42);
+        tarefas = new ArrayList<>(LINHAS);
+        operacoes = new ArrayList<>(LINHAS);
+        for (int i = 0; i < LINHAS; i++) {
+            TarefaDTO tarefa = MassaDados.tarefa(random);
+            tarefas.add(tarefa);
+            operacoes.add(new OperacaoLoteDTO<>("CRIAR", null, tarefa));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINHAS)
+    public int criarIndividual() {
+        int criadas = 0;
+        for (TarefaDTO tarefa : tarefas) {
+            tarefaService.create(tarefa);
+            criadas++;
+        }
+        return criadas;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINHAS)
+    public List<ResultadoLoteDTO<TarefaDTO>> criarEmLote() {
+        return tarefaService.processarLote(operacoes);
+    }
+}
@@ -0,0 +1,100 @@
+package com.mentorize.benchmark;
+
+import com.mentorize.dto.AnotacaoDTO;
+import com.mentorize.dto.OperacaoLoteDTO;
+import com.mentorize.dto.TarefaDTO;
+import com.mentorize.service.AnotacaoService;
+import com.mentorize.service.TarefaService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Gera registros com texto variado (semente fixa, para resultados comparáveis entre execuções)
+ * e os grava pelos endpoints de lote.
+ */
+public final class MassaDados {
+
+    // Palavras reais usadas nas consultas dos benchmarks, no início do vocabulário (mais frequentes)
+    private static final String[] PALAVRAS_REAIS = {
+            "estrutura", "dados", "algoritmo", "grafo", "árvore", "revisão", "prova", "capítulo",
+            "exercício", "resumo", "cálculo", "integral", "física", "química", "história", "redação"
+    };
+
+    private static final String[] SILABAS = {
+            "ba", "ce", "di", "fo", "gu", "la", "me", "ni", "po", "ru", "sa", "te", "vi", "zo", "cha", "tra"
+    };
+
+    private static final int TAMANHO_VOCABULARIO = 5000;
+
+    private static final String[] VOCABULARIO = vocabulario();
+
+    private static final int TAMANHO_LOTE = 1000;
+
+    private MassaDados() {}
+
+    public static TarefaDTO tarefa(Random random) {
+        TarefaDTO tarefa = new TarefaDTO();
+        tarefa.setTitulo(frase(random, 4));
+        tarefa.setDescricao(frase(random, 20));
+        tarefa.setPrioridade(random.nextBoolean() ? "ALTA" : "BAIXA");
+        tarefa.setCategoria("STUDY");
+        return tarefa;
+    }
+
+    public static AnotacaoDTO anotacao(Random random) {
+        AnotacaoDTO anotacao = new AnotacaoDTO();
+        anotacao.setTitulo(frase(random, 4));
+        anotacao.setConteudo(frase(random, 60));
+        return anotacao;
+    }
+
+    public static List<Long> gravarTarefas(TarefaService tarefaService, int quantidade, Random random) {
+        List<Long> ids = new ArrayList<>(quantidade);
+        for (int inicio = 0; inicio < quantidade; inicio += TAMANHO_LOTE) {
+            List<OperacaoLoteDTO<TarefaDTO>> lote = new ArrayList<>();
+            for (int i = inicio; i < Math.min(quantidade, inicio + TAMANHO_LOTE); i++) {
+                lote.add(new OperacaoLoteDTO<>("CRIAR", null, tarefa(random)));
+            }
+            tarefaService.processarLote(lote).forEach(resultado -> ids.add(resultado.getId()));
+        }
+        return ids;
+    }
+
+    public static void gravarAnotacoes(AnotacaoService anotacaoService, int quantidade, Random random) {
+        for (int inicio = 0; inicio < quantidade; inicio += TAMANHO_LOTE) {
+            List<OperacaoLoteDTO<AnotacaoDTO>> lote = new ArrayList<>();
+            for (int i = inicio; i < Math.min(quantidade, inicio + TAMANHO_LOTE); i++) {
+                lote.add(new OperacaoLoteDTO<>("CRIAR", null, anotacao(random)));
+            }
+            anotacaoService.processarLote(lote);
+        }
+    }
+
+    // Frequência decrescente com a posição no vocabulário, aproximando a distribuição de texto real
+    private static String frase(Random random, int palavras) {
+        StringBuilder frase = new StringBuilder();
+        for (int i = 0; i < palavras; i++) {
+            if (i > 0) frase.append(' ');
+            frase.append(VOCABULARIO[random.nextInt(random.nextInt(TAMANHO_VOCABULARIO) + 1)]);
+        }
+        return frase.toString();
+    }
+
+    private static String[] vocabulario() {
+        Random random = new Random(7);
+        String[] vocabulario = new String[TAMANHO_VOCABULARIO];
+        for (int i = 0; i < vocabulario.length; i++) {
+            if (i < PALAVRAS_REAIS.length) {
+                vocabulario[i] = PALAVRAS_REAIS[i];
+                continue;
+            }
+            StringBuilder palavra = new StringBuilder();
+            int silabas = 2 + random.nextInt(3);
+            for (int j = 0; j < silabas; j++) palavra.append(SILABAS[random.nextInt(SILABAS.length)]);
+            vocabulario[i] = palavra.toString();
+        }
+        return vocabulario;
+    }
+}
@@ -0,0 +1,73 @@
+package com.mentorize.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mentorize.dto.AnotacaoDTO;
+import com.mentorize.dto.TarefaDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialização Jackson das respostas de listagem (ex.: GET /tarefas), com o ObjectMapper
+ * configurado como o do Spring Boot. A escrita vai para um stream descartável, como a
+ * resposta HTTP, sem montar o array de bytes inteiro.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SerializacaoBenchmark {
+
+    @Param({"1000", "100000"})
+    private int tamanho;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private List<TarefaDTO> tarefas;
+    private List<AnotacaoDTO> anotacoes;
+
+    @Setup
+    public void preparar() {
+        tarefas = new ArrayList<>(tamanho);
+        anotacoes = new ArrayList<>(tamanho);
+        LocalDateTime agora = LocalDateTime.now();
+        for (int i = 0; i < tamanho; i++) {
+            TarefaDTO tarefa = new TarefaDTO();
+            tarefa.setId((long) i);
+            tarefa.setTitulo("Tarefa " + i);
+            tarefa.setDescricao("Descrição da tarefa número " + i + " com algum texto de exemplo");
+            tarefa.setPrioridade(i % 2 == 0 ? "ALTA" : "BAIXA");
+            tarefa.setCategoria("STUDY");
+            tarefa.setPrazo(LocalDate.now().plusDays(i % 30));
+            tarefa.setDataCriacao(agora);
+            tarefas.add(tarefa);
+
+            AnotacaoDTO anotacao = new AnotacaoDTO();
+            anotacao.setId((long) i);
+            anotacao.setTitulo("Anotação " + i);
+            anotacao.setConteudo("Conteúdo da anotação " + i + ": ".repeat(20));
+            anotacao.setDataCriacao(agora);
+            anotacao.setDataAtualizacao(agora);
+            anotacoes.add(anotacao);
+        }
+    }
+
+    @Benchmark
+    public void serializarTarefas() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), tarefas);
+    }
+
+    @Benchmark
+    public void serializarAnotacoes() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), anotacoes);
+    }
+}
@@ -0,0 +1,70 @@
+package com.mentorize.benchmark;
+
+import com.mentorize.dto.PaginaDTO;
+import com.mentorize.dto.TarefaDTO;
+import com.mentorize.service.TarefaService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chamadas de serviço ponta a ponta (serviço → JPA → H2) sobre uma base com 10 mil tarefas,
+ * com e sem o cache de DTOs por id.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ServicosH2Benchmark {
+
+    private static final int REGISTROS = 10_000;
+
+    @Param({"caffeine", "none"})
+    private String cache;
+
+    private ConfigurableApplicationContext contexto;
+    private TarefaService tarefaService;
+    private List<Long> ids;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = ContextoH2.iniciar("--spring.cache.type=" + cache);
+        tarefaService = contexto.getBean(TarefaService.class);
+        ids = MassaDados.gravarTarefas(tarefaService, REGISTROS, new Random(42));
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    private Long idAleatorio() {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    @Benchmark
+    public TarefaDTO findById() {
+        return tarefaService.findById(idAleatorio());
+    }
+
+    @Benchmark
+    public PaginaDTO<TarefaDTO> findPagina() {
+        return tarefaService.findPagina(null, 20);
+    }
+
+    @Benchmark
+    public TarefaDTO create() {
+        return tarefaService.create(MassaDados.tarefa(ThreadLocalRandom.current()));
+    }
+
+    @Benchmark
+    public TarefaDTO update() {
+        return tarefaService.update(idAleatorio(), MassaDados.tarefa(ThreadLocalRandom.current()));
+    }
+}
@@ -0,0 +1,62 @@
+package com.mentorize.search;
+
+import com.mentorize.benchmark.MassaDados;
+import com.mentorize.dto.TarefaDTO;
+import com.mentorize.event.TipoEntidade;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latência da busca global sobre 1 milhão de documentos indexados direto no índice de trigramas
+ * (sem Spring nem banco). O modo SampleTime dá os percentis: a meta é p99 abaixo de 10 ms.
+ * Os textos são os das tarefas da massa de dados com conectivos ("de", "para"...) intercalados,
+ * como em texto real; "de" é o pior caso, com trigramas presentes em quase todos os documentos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgs = {"-Xms3g", "-Xmx3g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class IndiceTrigramasBenchmark {
+
+    private static final int LIMITE = 20;
+
+    private static final String[] CONECTIVOS = {"de", "da", "do", "para", "com", "em", "e"};
+
+    @Param({"1000000"})
+    private int documentos;
+
+    @Param({"de", "matematica", "revisar capitulo", "estrutura de dados", "integral revisão"})
+    private String consulta;
+
+    private IndiceTrigramas indice;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        indice = new IndiceTrigramas();
+        Random random = new Random(42);
+        for (int i = 1; i <= documentos; i++) {
+            TarefaDTO tarefa = MassaDados.tarefa(random);
+            indice.indexar(TipoEntidade.TAREFA, (long) i, tarefa.getTitulo() + ' ' + comConectivos(tarefa.getDescricao(), random));
+        }
+    }
+
+    @Benchmark
+    public List<IndiceTrigramas.Ocorrencia> buscar() {
+        return indice.buscar(consulta, LIMITE);
+    }
+
+    private static String comConectivos(String frase, Random random) {
+        StringBuilder texto = new StringBuilder(frase.length() + 32);
+        for (String palavra : frase.split(" ")) {
+            if (texto.length() > 0) texto.append(' ');
+            texto.append(palavra);
+            if (random.nextInt(4) == 0) texto.append(' ').append(CONECTIVOS[random.nextInt(CONECTIVOS.length)]);
+        }
+        return texto.toString();
+    }
+}
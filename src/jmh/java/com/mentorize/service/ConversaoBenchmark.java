@@ -0,0 +1,135 @@
+package com.mentorize.service;
+
+import com.mentorize.dto.AnotacaoDTO;
+import com.mentorize.dto.EstudoDTO;
+import com.mentorize.dto.MetaDTO;
+import com.mentorize.dto.TarefaDTO;
+import com.mentorize.model.Anotacao;
+import com.mentorize.model.Estudo;
+import com.mentorize.model.Meta;
+import com.mentorize.model.Tarefa;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversões entity ↔ DTO dos quatro serviços. Os métodos de conversão não usam os
+ * repositórios, então os serviços são instanciados diretamente, sem contexto Spring.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ConversaoBenchmark {
+
+    private final TarefaService tarefaService = new TarefaService();
+    private final EstudoService estudoService = new EstudoService();
+    private final MetaService metaService = new MetaService();
+    private final AnotacaoService anotacaoService = new AnotacaoService();
+
+    private Tarefa tarefa;
+    private TarefaDTO tarefaDTO;
+    private Estudo estudo;
+    private EstudoDTO estudoDTO;
+    private Meta meta;
+    private MetaDTO metaDTO;
+    private Anotacao anotacao;
+    private AnotacaoDTO anotacaoDTO;
+
+    @Setup
+    public void preparar() {
+        tarefa = new Tarefa("Revisar capítulo 3", "Exercícios de 1 a 20", LocalDate.now().plusDays(3),
+                Tarefa.Prioridade.ALTA, Tarefa.Categoria.STUDY);
+        tarefa.setId(1L);
+        tarefa.setDataCriacao(LocalDateTime.now());
+        tarefaDTO = tarefaService.toDTO(tarefa);
+
+        estudo = new Estudo("Grafos", "BFS e DFS", "Algoritmos", 90);
+        estudo.setId(2L);
+        estudo.setPrazo(LocalDate.now().plusDays(7));
+        estudo.setDataCriacao(LocalDateTime.now());
+        estudoDTO = estudoService.toDTO(estudo);
+
+        meta = new Meta("Ler 12 livros", "Um por mês", "pessoal", LocalDateTime.now().plusMonths(6));
+        meta.setId(3L);
+        meta.setProgresso(40);
+        metaDTO = metaService.toDTO(meta);
+
+        anotacao = new Anotacao("Resumo de redes", "Camadas do modelo OSI e protocolos de transporte");
+        anotacao.setId(4L);
+        anotacao.onCreate();
+        anotacaoDTO = anotacaoService.toDTO(anotacao);
+    }
+
+    // Tarefa
+    @Benchmark
+    public TarefaDTO tarefaToDTO() {
+        return tarefaService.toDTO(tarefa);
+    }
+
+    @Benchmark
+    public Tarefa tarefaToEntity() {
+        return tarefaService.toEntity(tarefaDTO);
+    }
+
+    @Benchmark
+    public Tarefa tarefaUpdateEntityFromDTO() {
+        tarefaService.updateEntityFromDTO(tarefa, tarefaDTO);
+        return tarefa;
+    }
+
+    // Estudo
+    @Benchmark
+    public EstudoDTO estudoToDTO() {
+        return estudoService.toDTO(estudo);
+    }
+
+    @Benchmark
+    public Estudo estudoToEntity() {
+        return estudoService.toEntity(estudoDTO);
+    }
+
+    @Benchmark
+    public Estudo estudoUpdateEntityFromDTO() {
+        estudoService.updateEntityFromDTO(estudo, estudoDTO);
+        return estudo;
+    }
+
+    // Meta
+    @Benchmark
+    public MetaDTO metaToDTO() {
+        return metaService.toDTO(meta);
+    }
+
+    @Benchmark
+    public Meta metaToEntity() {
+        return metaService.toEntity(metaDTO);
+    }
+
+    @Benchmark
+    public Meta metaUpdateEntityFromDTO() {
+        metaService.updateEntityFromDTO(meta, metaDTO);
+        return meta;
+    }
+
+    // Anotação
+    @Benchmark
+    public AnotacaoDTO anotacaoToDTO() {
+        return anotacaoService.toDTO(anotacao);
+    }
+
+    @Benchmark
+    public Anotacao anotacaoToEntity() {
+        return anotacaoService.toEntity(anotacaoDTO);
+    }
+
+    @Benchmark
+    public Anotacao anotacaoUpdateEntityFromDTO() {
+        anotacaoService.updateEntityFromDTO(anotacao, anotacaoDTO);
+        return anotacao;
+    }
+}
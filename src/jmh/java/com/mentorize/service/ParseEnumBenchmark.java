@@ -0,0 +1,37 @@
+package com.mentorize.service;
+
+import com.mentorize.model.Tarefa;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversão String → enum feita em TarefaService.toEntity/updateEntityFromDTO
+ * ({@code Prioridade.valueOf(valor.toUpperCase())}), com entradas em caixas variadas
+ * como chegam do frontend.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ParseEnumBenchmark {
+
+    private static final String[] PRIORIDADES = {"alta", "MEDIA", "Baixa", "media"};
+    private static final String[] CATEGORIAS = {"study", "WORK", "Personal", "other"};
+
+    private int indice;
+
+    @Benchmark
+    public Tarefa.Prioridade prioridade() {
+        String valor = PRIORIDADES[indice++ & 3];
+        return Tarefa.Prioridade.valueOf(valor.toUpperCase());
+    }
+
+    @Benchmark
+    public Tarefa.Categoria categoria() {
+        String valor = CATEGORIAS[indice++ & 3];
+        return Tarefa.Categoria.valueOf(valor.toUpperCase());
+    }
+}
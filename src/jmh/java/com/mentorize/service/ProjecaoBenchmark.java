@@ -0,0 +1,80 @@
+package com.mentorize.service;
+
+import com.mentorize.benchmark.ContextoH2;
+import com.mentorize.benchmark.MassaDados;
+import com.mentorize.dto.CursorPaginacao;
+import com.mentorize.dto.PaginaDTO;
+import com.mentorize.dto.TarefaDTO;
+import com.mentorize.repository.TarefaRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Leitura de listas com 10 mil tarefas: entidades gerenciadas convertidas por toDTO numa transação
+ * de escrita (caminho antigo) contra a projeção direta no DTO em transação somente leitura
+ * (caminho atual dos serviços). Rodar com {@code -prof gc} para ver a alocação por operação.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ProjecaoBenchmark {
+
+    private static final int REGISTROS = 10_000;
+
+    private ConfigurableApplicationContext contexto;
+    private TarefaService tarefaService;
+    private TarefaRepository tarefaRepository;
+    private TransactionTemplate transacao;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = ContextoH2.iniciar("--spring.cache.type=none");
+        tarefaService = contexto.getBean(TarefaService.class);
+        tarefaRepository = contexto.getBean(TarefaRepository.class);
+        transacao = new TransactionTemplate(contexto.getBean(PlatformTransactionManager.class));
+        MassaDados.gravarTarefas(tarefaService, REGISTROS, new Random(42));
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public List<TarefaDTO> listaEntidades() {
+        return transacao.execute(status -> tarefaRepository.findAll()
+                .stream()
+                .map(tarefaService::toDTO)
+                .collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public List<TarefaDTO> listaProjecao() {
+        return tarefaService.findAll();
+    }
+
+    @Benchmark
+    public PaginaDTO<TarefaDTO> paginaEntidades() {
+        List<TarefaDTO> itens = transacao.execute(status -> tarefaRepository.findAllByOrderByDataCriacaoDescIdDesc(PageRequest.ofSize(21))
+                .stream()
+                .map(tarefaService::toDTO)
+                .collect(Collectors.toList()));
+        return PaginaDTO.de(itens, 20, dto -> new CursorPaginacao(dto.getDataCriacao(), dto.getId()));
+    }
+
+    @Benchmark
+    public PaginaDTO<TarefaDTO> paginaProjecao() {
+        return tarefaService.findPagina(null, 20);
+    }
+}
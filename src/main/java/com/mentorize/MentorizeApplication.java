@@ -3,9 +3,13 @@ package com.mentorize;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 
 @SpringBootApplication
+@EnableScheduling
+@EnableCaching
 public class MentorizeApplication {
     public static void main(String[] args) {
         SpringApplication.run(MentorizeApplication.class, args);
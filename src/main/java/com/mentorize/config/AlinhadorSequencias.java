@@ -0,0 +1,65 @@
+package com.mentorize.config;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * As entidades usam sequências com alocação em blocos (pooled) para que o Hibernate
+ * consiga agrupar INSERTs em batch. No MySQL elas são emuladas em tabelas "*_seq".
+ * Quando essas tabelas são criadas sobre dados que vieram do antigo AUTO_INCREMENT,
+ * começam em 1. Este componente avança cada uma para além do maior id existente
+ * antes de a aplicação aceitar requisições.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class AlinhadorSequencias {
+
+    private static final Logger log = LoggerFactory.getLogger(AlinhadorSequencias.class);
+
+    // Mesmo valor de allocationSize nas entidades
+    private static final int TAMANHO_BLOCO = 50;
+
+    // sequência → tabela
+    private static final Map<String, String> SEQUENCIAS = Map.of(
+            "tarefas_seq", "tarefas",
+            "estudos_seq", "estudos",
+            "metas_seq", "metas",
+            "anotacoes_seq", "anotacoes",
+            "exclusoes_seq", "exclusoes"
+    );
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void alinhar() {
+        SEQUENCIAS.forEach(this::alinhar);
+    }
+
+    private void alinhar(String sequencia, String tabela) {
+        try {
+            Long maiorId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + tabela, Long.class);
+            if (maiorId == null || maiorId == 0) return;
+
+            // O otimizador pooled usa o valor lido como topo do bloco: os ids gerados são
+            // (valor - TAMANHO_BLOCO, valor]. Por isso o mínimo seguro é maiorId + TAMANHO_BLOCO.
+            long minimo = maiorId + TAMANHO_BLOCO;
+            int alteradas = jdbcTemplate.update(
+                    "UPDATE " + sequencia + " SET next_val = ? WHERE next_val < ?", minimo, minimo);
+            if (alteradas > 0) {
+                log.info("Sequência {} avançada para {} (maior id em {}: {})", sequencia, minimo, tabela, maiorId);
+            }
+        } catch (DataAccessException e) {
+            // Bancos com sequências nativas não têm a tabela de emulação
+            log.warn("Não foi possível alinhar a sequência {}: {}", sequencia, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.mentorize.config;
+
+import com.mentorize.service.CacheVersionado;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+/**
+ * O mesmo CaffeineCacheManager que o Spring Boot montaria com spring.cache.*, mas com caches
+ * CacheVersionado (ver CacheEntidadesService). Com outro spring.cache.type (ex.: none) a
+ * autoconfiguração do Boot segue valendo.
+ */
+@Configuration
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "spring.cache.type", havingValue = "caffeine")
+    public CaffeineCacheManager cacheManager(CacheProperties cacheProperties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new CacheVersionado(name, cache, isAllowNullValues());
+            }
+        };
+        String especificacao = cacheProperties.getCaffeine().getSpec();
+        if (StringUtils.hasText(especificacao)) cacheManager.setCacheSpecification(especificacao);
+        if (!cacheProperties.getCacheNames().isEmpty()) cacheManager.setCacheNames(cacheProperties.getCacheNames());
+        return cacheManager;
+    }
+}
@@ -0,0 +1,54 @@
+package com.mentorize.config;
+
+import org.springframework.jdbc.datasource.ConnectionHolder;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Atende por um pool de reserva os pedidos de conexão de uma thread que já tem a conexão da sua
+ * transação. No MySQL as sequências pooled são tabelas "*_seq" e o Hibernate busca cada novo bloco
+ * de ids numa conexão isolada, pedida com a da transação ainda emprestada: com o pool inteiro
+ * ocupado por transações que inserem (ex.: lotes simultâneos), todas esperariam por uma conexão
+ * que nenhuma devolve até o timeout do Hikari. A reserva só serve esse trabalho curto e isolado.
+ */
+public class DataSourceComReserva extends DelegatingDataSource implements AutoCloseable {
+
+    private final DataSource reserva;
+
+    public DataSourceComReserva(DataSource alvo, DataSource reserva) {
+        super(alvo);
+        this.reserva = reserva;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return threadTemConexao() ? reserva.getConnection() : super.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return threadTemConexao() ? reserva.getConnection(username, password) : super.getConnection(username, password);
+    }
+
+    @Override
+    public void close() throws Exception {
+        try {
+            if (reserva instanceof AutoCloseable fechavel) fechavel.close();
+        } finally {
+            if (getTargetDataSource() instanceof AutoCloseable fechavel) fechavel.close();
+        }
+    }
+
+    // Transações JPA e JDBC publicam a conexão em uso como ConnectionHolder da thread.
+    // REQUIRES_NEW suspende esse recurso, então a transação interna ainda sai do pool principal.
+    static boolean threadTemConexao() {
+        for (Object recurso : TransactionSynchronizationManager.getResourceMap().values()) {
+            if (recurso instanceof ConnectionHolder) return true;
+        }
+        return false;
+    }
+}
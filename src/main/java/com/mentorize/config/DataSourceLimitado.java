@@ -0,0 +1,99 @@
+package com.mentorize.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Limita quantas conexões podem estar emprestadas ao mesmo tempo. Com threads virtuais não há
+ * mais o teto do pool do Tomcat: milhares de requisições chegam juntas ao pool JDBC. Aqui elas
+ * esperam num semáforo justo (que estaciona a thread virtual sem prendê-la à thread de sistema)
+ * e falham com erro transitório depois de esperaMaxima, em vez de disputar o pool até o timeout.
+ * Uma thread que já tem a conexão da sua transação passa sem permissão: o pedido extra é o bloco
+ * de ids do Hibernate, atendido pela reserva (ver DataSourceComReserva), e esperar aqui travaria.
+ */
+public class DataSourceLimitado extends DelegatingDataSource {
+
+    private final Semaphore permissoes;
+    private final long esperaMaximaMs;
+
+    public DataSourceLimitado(DataSource alvo, int maxConcorrencia, long esperaMaximaMs) {
+        super(alvo);
+        this.permissoes = new Semaphore(maxConcorrencia, true);
+        this.esperaMaximaMs = esperaMaximaMs;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (DataSourceComReserva.threadTemConexao()) return super.getConnection();
+        adquirir();
+        return liberarAoFechar(() -> super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (DataSourceComReserva.threadTemConexao()) return super.getConnection(username, password);
+        adquirir();
+        return liberarAoFechar(() -> super.getConnection(username, password));
+    }
+
+    public int getDisponiveis() {
+        return permissoes.availablePermits();
+    }
+
+    public int getAguardando() {
+        return permissoes.getQueueLength();
+    }
+
+    private void adquirir() throws SQLException {
+        try {
+            if (!permissoes.tryAcquire(esperaMaximaMs, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "Limite de conexões simultâneas atingido; espera maior que " + esperaMaximaMs + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrompido aguardando conexão", e);
+        }
+    }
+
+    private Connection liberarAoFechar(Abertura abertura) throws SQLException {
+        Connection conexao;
+        try {
+            conexao = abertura.abrir();
+        } catch (SQLException | RuntimeException e) {
+            permissoes.release();
+            throw e;
+        }
+        AtomicBoolean liberada = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, metodo, argumentos) -> {
+                    if (metodo.getName().equals("close") && liberada.compareAndSet(false, true)) {
+                        try {
+                            conexao.close();
+                        } finally {
+                            permissoes.release();
+                        }
+                        return null;
+                    }
+                    try {
+                        return metodo.invoke(conexao, argumentos);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    @FunctionalInterface
+    private interface Abertura {
+        Connection abrir() throws SQLException;
+    }
+}
@@ -0,0 +1,55 @@
+package com.mentorize.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Acrescenta ao pool do Hikari um pool de reserva para as conexões isoladas que o Hibernate pede
+ * de dentro de uma transação (ver DataSourceComReserva). mentorize.jdbc.conexoes-reserva=0 desliga.
+ */
+@Configuration
+public class ReservaConexoesConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservaConexoesConfig.class);
+
+    @Bean
+    public static BeanPostProcessor reservaConexoes(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof DataSourceComReserva) return bean;
+
+                int tamanhoReserva = environment.getProperty("mentorize.jdbc.conexoes-reserva", Integer.class, 2);
+                HikariDataSource principal = hikari(dataSource);
+                if (tamanhoReserva <= 0 || principal == null) return bean;
+
+                // Mesmo banco e credenciais do principal; sem conexões ociosas enquanto ninguém usa
+                HikariConfig configuracao = new HikariConfig();
+                principal.copyStateTo(configuracao);
+                // O nome do principal só é gerado quando ele inicia
+                configuracao.setPoolName((principal.getPoolName() != null ? principal.getPoolName() : "HikariPool") + "-reserva");
+                configuracao.setMaximumPoolSize(tamanhoReserva);
+                configuracao.setMinimumIdle(0);
+                log.info("Pool de reserva com {} conexões para os blocos de ids do Hibernate", tamanhoReserva);
+                return new DataSourceComReserva(dataSource, new HikariDataSource(configuracao));
+            }
+        };
+    }
+
+    private static HikariDataSource hikari(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
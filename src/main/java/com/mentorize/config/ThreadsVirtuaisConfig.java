@@ -0,0 +1,71 @@
+package com.mentorize.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Modo opcional de execução em threads virtuais (spring.threads.virtual.enabled=true). O próprio
+ * Spring Boot passa a atender o Tomcat e o applicationTaskExecutor com threads virtuais; esta
+ * configuração acrescenta o limite de concorrência JDBC (ver DataSourceLimitado).
+ * <p>
+ * Threads virtuais exigem Java 21 (build com o perfil java21). Em versões anteriores o Boot ignora
+ * a chave e a aplicação continua no pool de threads de plataforma, só com o limitador ativo.
+ * <p>
+ * Medido com TesteCarga (cenário frontend, JDK 21, 1 CPU, H2 embutido; duas rodadas a 60 ações/s):
+ * mesma vazão e p99 por endpoint de 150–700 ms caindo para 55–190 ms. A 100/s as threads de
+ * plataforma enfileiram (p99 de 7,7 a 14,6 s) e as virtuais ficam perto de 0,9 s, exceto o dashboard,
+ * que espera as suas consultas paralelas (p99 15,5 s). Saturado (400/s), 141 contra 153 req/s.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class ThreadsVirtuaisConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ThreadsVirtuaisConfig.class);
+
+    // Padrão do Hikari quando maximum-pool-size não é configurado (antes de o pool iniciar ele reporta -1)
+    private static final int TAMANHO_POOL_PADRAO = 10;
+
+    @Bean
+    public static BeanPostProcessor limitadorConexoes(Environment environment,
+                                                      ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof DataSourceLimitado) return bean;
+
+                if (JavaVersion.getJavaVersion().isOlderThan(JavaVersion.TWENTY_ONE)) {
+                    log.warn("spring.threads.virtual.enabled=true requer Java 21 (perfil java21); rodando em {} com threads de plataforma",
+                            JavaVersion.getJavaVersion());
+                }
+                int tamanhoPool = bean instanceof HikariDataSource hikari && hikari.getMaximumPoolSize() > 0
+                        ? hikari.getMaximumPoolSize() : TAMANHO_POOL_PADRAO;
+                // Padrão do limite: o tamanho do pool, para que ninguém espere dentro do Hikari
+                int maxConcorrencia = environment.getProperty("mentorize.jdbc.max-concorrencia", Integer.class, tamanhoPool);
+                long esperaMaximaMs = environment.getProperty("mentorize.jdbc.espera-maxima-ms", Long.class, 30000L);
+                log.info("Concorrência JDBC limitada a {} conexões (espera máxima {} ms)", maxConcorrencia, esperaMaximaMs);
+
+                DataSourceLimitado limitado = new DataSourceLimitado(dataSource, maxConcorrencia, esperaMaximaMs);
+                meterRegistry.ifAvailable(registry -> {
+                    Gauge.builder("mentorize.jdbc.limitador.aguardando", limitado, DataSourceLimitado::getAguardando)
+                            .description("Threads aguardando permissão para obter uma conexão")
+                            .register(registry);
+                    Gauge.builder("mentorize.jdbc.limitador.disponiveis", limitado, DataSourceLimitado::getDisponiveis)
+                            .register(registry);
+                });
+                return limitado;
+            }
+        };
+    }
+}
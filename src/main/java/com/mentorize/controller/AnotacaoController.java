@@ -1,14 +1,24 @@
 package com.mentorize.controller;
 
 import com.mentorize.dto.AnotacaoDTO;
+import com.mentorize.dto.OperacaoLoteDTO;
+import com.mentorize.dto.ResultadoLoteDTO;
+import com.mentorize.dto.ResultadoBuscaDTO;
+import com.mentorize.event.TipoEntidade;
 import com.mentorize.service.AnotacaoService;
+import com.mentorize.service.CacheRespostas;
+import com.mentorize.service.ContadorAlteracoes;
+import com.mentorize.service.EstatisticasService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Objects;
 
 @RestController
 @RequestMapping("/anotacoes")
@@ -18,16 +28,27 @@ public class AnotacaoController {
     @Autowired
     private AnotacaoService anotacaoService;
 
+    @Autowired
+    private CacheRespostas cacheRespostas;
+
+    @Autowired
+    private EstatisticasService estatisticasService;
+
     @GetMapping
-    public ResponseEntity<List<AnotacaoDTO>> listarTodas() {
-        List<AnotacaoDTO> anotacoes = anotacaoService.findAll();
-        return ResponseEntity.ok(anotacoes);
+    public ResponseEntity<byte[]> listarTodas(WebRequest request) {
+        return cacheRespostas.responder(TipoEntidade.ANOTACAO, "todas", request, anotacaoService::findAll);
+    }
+
+    @GetMapping(params = "limit")
+    public ResponseEntity<byte[]> listarPagina(@RequestParam(required = false) String after, @RequestParam Integer limit, WebRequest request) {
+        return cacheRespostas.responder(TipoEntidade.ANOTACAO, "pagina:" + limit + ":" + Objects.toString(after, ""), request, () -> anotacaoService.findPagina(after, limit));
     }
 
     @GetMapping("/id/{id}")
-    public ResponseEntity<AnotacaoDTO> buscarPorId(@PathVariable Long id) {
+    public ResponseEntity<AnotacaoDTO> buscarPorId(@PathVariable Long id, WebRequest request) {
         AnotacaoDTO anotacao = anotacaoService.findById(id);
-        return ResponseEntity.ok(anotacao);
+        if (request.checkNotModified(ContadorAlteracoes.etagItem(TipoEntidade.ANOTACAO, anotacao.getId(), anotacao.getVersao()))) return null;
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(anotacao);
     }
 
     @PostMapping
@@ -48,21 +69,30 @@ public class AnotacaoController {
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/lote")
+    public ResponseEntity<List<ResultadoLoteDTO<AnotacaoDTO>>> processarLote(@RequestBody List<OperacaoLoteDTO.DeAnotacao> operacoes) {
+        List<ResultadoLoteDTO<AnotacaoDTO>> resultados = anotacaoService.processarLote(operacoes);
+        return ResponseEntity.ok(resultados);
+    }
+
     @GetMapping("/buscar")
-    public ResponseEntity<List<AnotacaoDTO>> buscarPorTitulo(@RequestParam String titulo) {
-        List<AnotacaoDTO> anotacoes = anotacaoService.findByTituloContaining(titulo);
-        return ResponseEntity.ok(anotacoes);
+    public ResponseEntity<byte[]> buscarPorTitulo(@RequestParam String titulo, WebRequest request) {
+        return cacheRespostas.responder(TipoEntidade.ANOTACAO, "titulo:" + titulo, request, () -> anotacaoService.findByTituloContaining(titulo));
+    }
+
+    @GetMapping("/pesquisa")
+    public ResponseEntity<List<ResultadoBuscaDTO>> pesquisar(@RequestParam String q, @RequestParam(required = false) Integer limite) {
+        List<ResultadoBuscaDTO> resultados = anotacaoService.pesquisar(q, limite);
+        return ResponseEntity.ok(resultados);
     }
 
     @GetMapping("/recentes")
-    public ResponseEntity<List<AnotacaoDTO>> listarRecentes() {
-        List<AnotacaoDTO> anotacoes = anotacaoService.findRecent();
-        return ResponseEntity.ok(anotacoes);
+    public ResponseEntity<byte[]> listarRecentes(WebRequest request) {
+        return cacheRespostas.responder(TipoEntidade.ANOTACAO, "recentes", request, anotacaoService::findRecent);
     }
 
     @GetMapping("/contagem")
     public ResponseEntity<Long> contarAnotacoes() {
-        // Este método seria implementado no repository
-        return ResponseEntity.ok(anotacaoService.findAll().stream().count());
+        return ResponseEntity.ok(estatisticasService.getEstatisticas(TipoEntidade.ANOTACAO).getTotal());
     }
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.mentorize.controller;
+
+import com.mentorize.dto.ResultadoBuscaDTO;
+import com.mentorize.service.BuscaService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/busca")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class BuscaController {
+
+    @Autowired
+    private BuscaService buscaService;
+
+    @GetMapping
+    public ResponseEntity<List<ResultadoBuscaDTO>> buscar(@RequestParam String q, @RequestParam(required = false) Integer limite) {
+        List<ResultadoBuscaDTO> resultados = buscaService.buscar(q, limite);
+        return ResponseEntity.ok(resultados);
+    }
+}
@@ -0,0 +1,30 @@
+package com.mentorize.controller;
+
+import com.mentorize.dto.EstatisticasCacheDTO;
+import com.mentorize.service.CacheEntidadesService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/cache")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class CacheController {
+
+    @Autowired
+    private CacheEntidadesService cacheEntidadesService;
+
+    @GetMapping("/estatisticas")
+    public ResponseEntity<List<EstatisticasCacheDTO>> estatisticas() {
+        List<EstatisticasCacheDTO> estatisticas = cacheEntidadesService.getEstatisticas();
+        return ResponseEntity.ok(estatisticas);
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> limpar() {
+        cacheEntidadesService.limpar();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.mentorize.controller;
+
+import com.mentorize.dto.ResumoDashboardDTO;
+import com.mentorize.service.DashboardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/dashboard")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class DashboardController {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @GetMapping("/resumo")
+    public ResponseEntity<ResumoDashboardDTO> getResumo() {
+        ResumoDashboardDTO resumo = dashboardService.getResumo();
+        return ResponseEntity.ok(resumo);
+    }
+}
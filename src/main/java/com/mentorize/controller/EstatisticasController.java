@@ -0,0 +1,37 @@
+package com.mentorize.controller;
+
+import com.mentorize.dto.EstatisticasDTO;
+import com.mentorize.event.TipoEntidade;
+import com.mentorize.service.EstatisticasService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/estatisticas")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class EstatisticasController {
+
+    @Autowired
+    private EstatisticasService estatisticasService;
+
+    @GetMapping
+    public ResponseEntity<Map<String, EstatisticasDTO>> listarTodas() {
+        Map<String, EstatisticasDTO> estatisticas = estatisticasService.getTodas();
+        return ResponseEntity.ok(estatisticas);
+    }
+
+    @GetMapping("/{entidade}")
+    public ResponseEntity<EstatisticasDTO> buscarPorEntidade(@PathVariable String entidade) {
+        EstatisticasDTO estatisticas = estatisticasService.getEstatisticas(TipoEntidade.fromRecurso(entidade));
+        return ResponseEntity.ok(estatisticas);
+    }
+
+    @PostMapping("/ressincronizar")
+    public ResponseEntity<Map<String, EstatisticasDTO>> ressincronizar() {
+        estatisticasService.ressincronizar();
+        return ResponseEntity.ok(estatisticasService.getTodas());
+    }
+}
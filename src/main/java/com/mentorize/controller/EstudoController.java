@@ -1,14 +1,26 @@
 package com.mentorize.controller;
 
 import com.mentorize.dto.EstudoDTO;
+import com.mentorize.dto.OperacaoLoteDTO;
+import com.mentorize.dto.ResultadoLoteDTO;
+import com.mentorize.event.TipoEntidade;
+import com.mentorize.service.CacheRespostas;
+import com.mentorize.service.ContadorAlteracoes;
+import com.mentorize.service.EstatisticasService;
 import com.mentorize.service.EstudoService;
+import com.mentorize.service.ResumoEstudosService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Objects;
 
 @RestController
 @RequestMapping("/estudos")
@@ -18,16 +30,30 @@ public class EstudoController {
     @Autowired
     private EstudoService estudoService;
 
+    @Autowired
+    private CacheRespostas cacheRespostas;
+
+    @Autowired
+    private EstatisticasService estatisticasService;
+
+    @Autowired
+    private ResumoEstudosService resumoEstudosService;
+
     @GetMapping
-    public ResponseEntity<List<EstudoDTO>> listarTodos() {
-        List<EstudoDTO> estudos = estudoService.findAll();
-        return ResponseEntity.ok(estudos);
+    public ResponseEntity<byte[]> listarTodos(WebRequest request) {
+        return cacheRespostas.responder(TipoEntidade.ESTUDO, "todos", request, estudoService::findAll);
+    }
+
+    @GetMapping(params = "limit")
+    public ResponseEntity<byte[]> listarPagina(@RequestParam(required = false) String after, @RequestParam Integer limit, WebRequest request) {
+        return cacheRespostas.responder(TipoEntidade.ESTUDO, "pagina:" + limit + ":" + Objects.toString(after, ""), request, () -> estudoService.findPagina(after, limit));
     }
 
     @GetMapping("/id/{id}")
-    public ResponseEntity<EstudoDTO> buscarPorId(@PathVariable Long id) {
+    public ResponseEntity<EstudoDTO> buscarPorId(@PathVariable Long id, WebRequest request) {
         EstudoDTO estudo = estudoService.findById(id);
-        return ResponseEntity.ok(estudo);
+        if (request.checkNotModified(ContadorAlteracoes.etagItem(TipoEntidade.ESTUDO, estudo.getId(), estudo.getVersao()))) return null;
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(estudo);
     }
 
     @PostMapping
@@ -48,22 +74,25 @@ public class EstudoController {
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/lote")
+    public ResponseEntity<List<ResultadoLoteDTO<EstudoDTO>>> processarLote(@RequestBody List<OperacaoLoteDTO.DeEstudo> operacoes) {
+        List<ResultadoLoteDTO<EstudoDTO>> resultados = estudoService.processarLote(operacoes);
+        return ResponseEntity.ok(resultados);
+    }
+
     @GetMapping("/pendentes")
-    public ResponseEntity<List<EstudoDTO>> listarPendentes() {
-        List<EstudoDTO> estudos = estudoService.findByConcluidoFalse();
-        return ResponseEntity.ok(estudos);
+    public ResponseEntity<byte[]> listarPendentes(WebRequest request) {
+        return cacheRespostas.responder(TipoEntidade.ESTUDO, "pendentes", request, estudoService::findByConcluidoFalse);
     }
 
     @GetMapping("/materia/{materia}")
-    public ResponseEntity<List<EstudoDTO>> listarPorMateria(@PathVariable String materia) {
-        List<EstudoDTO> estudos = estudoService.findByMateria(materia);
-        return ResponseEntity.ok(estudos);
+    public ResponseEntity<byte[]> listarPorMateria(@PathVariable String materia, WebRequest request) {
+        return cacheRespostas.responder(TipoEntidade.ESTUDO, "materia:" + materia, request, () -> estudoService.findByMateria(materia));
     }
 
     @GetMapping("/recentes")
-    public ResponseEntity<List<EstudoDTO>> listarRecentes() {
-        List<EstudoDTO> estudos = estudoService.findRecent();
-        return ResponseEntity.ok(estudos);
+    public ResponseEntity<byte[]> listarRecentes(WebRequest request) {
+        return cacheRespostas.responder(TipoEntidade.ESTUDO, "recentes", request, estudoService::findRecent);
     }
 
     @PatchMapping("/{id}/concluir")
@@ -74,15 +103,33 @@ public class EstudoController {
 
     @GetMapping("/estatisticas/tempo-total")
     public ResponseEntity<Long> getTempoTotalEstudo() {
-        Long tempoTotal = estudoService.getTotalTempoEstudo();
-        return ResponseEntity.ok(tempoTotal != null ? tempoTotal : 0L);
+        Long tempoTotal = estatisticasService.getEstatisticas(TipoEntidade.ESTUDO).getMinutosConcluidos();
+        return ResponseEntity.ok(tempoTotal);
     }
 
     @GetMapping("/estatisticas/concluidos")
     public ResponseEntity<Long> contarConcluidos() {
-        Long concluidos = estudoService.findAll().stream()
-                .filter(EstudoDTO::isConcluido)
-                .count();
+        Long concluidos = estatisticasService.getEstatisticas(TipoEntidade.ESTUDO).getConcluidos();
         return ResponseEntity.ok(concluidos);
     }
+
+    // Minutos e estudos por período (dia | semana | mes) e matéria, lidos do resumo diário.
+    // Datas no formato yyyy-MM-dd; sem início, últimos 30 dias, 12 semanas ou 12 meses até o fim (padrão: hoje)
+    @GetMapping("/estatisticas/serie")
+    public ResponseEntity<byte[]> serie(
+            @RequestParam(defaultValue = "dia") String periodo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate inicio,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fim,
+            @RequestParam(required = false) String materia,
+            WebRequest request) {
+        return cacheRespostas.responder(TipoEntidade.ESTUDO, "serie:" + periodo + ":" + inicio + ":" + fim + ":" + materia, request,
+                () -> resumoEstudosService.serie(ResumoEstudosService.Periodo.fromNome(periodo), inicio, fim, materia));
+    }
+
+    // Recalcula o resumo diário a partir da tabela de estudos (também roda toda madrugada)
+    @PostMapping("/estatisticas/resumo/reconstruir")
+    public ResponseEntity<Integer> reconstruirResumo() {
+        int baldes = resumoEstudosService.reconstruir();
+        return ResponseEntity.ok(baldes);
+    }
 }
\ No newline at end of file
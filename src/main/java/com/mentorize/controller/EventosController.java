@@ -0,0 +1,29 @@
+package com.mentorize.controller;
+
+import com.mentorize.service.CanalAlteracoes;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/eventos")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class EventosController {
+
+    @Autowired
+    private CanalAlteracoes canalAlteracoes;
+
+    // Eventos: "conectado", "alteracao" ({tipo, operacao, id, versao}) e "ressincronizar" (consultar /sync).
+    // A resposta é escrita pelo próprio canal, em modo assíncrono e não bloqueante.
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public void assinar(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (!canalAlteracoes.assinar(request, response)) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.mentorize.controller;
+
+import com.mentorize.service.ExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/export")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class ExportController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+    private static final int TAMANHO_BUFFER_GZIP = 64 * 1024;
+
+    @Autowired
+    private ExportService exportService;
+
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> exportar(@RequestParam(defaultValue = "false") boolean gzip) {
+        StreamingResponseBody corpo = saida -> {
+            if (gzip) {
+                GZIPOutputStream compactado = new GZIPOutputStream(saida, TAMANHO_BUFFER_GZIP);
+                exportService.exportar(compactado);
+                compactado.finish();
+            } else {
+                exportService.exportar(saida);
+            }
+        };
+
+        String arquivo = gzip ? "mentorize-export.ndjson.gz" : "mentorize-export.ndjson";
+        return ResponseEntity.ok()
+                .contentType(gzip ? GZIP : NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(arquivo).build().toString())
+                .body(corpo);
+    }
+}
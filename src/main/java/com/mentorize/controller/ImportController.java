@@ -0,0 +1,60 @@
+package com.mentorize.controller;
+
+import com.mentorize.dto.RelatorioImportacaoDTO;
+import com.mentorize.event.TipoEntidade;
+import com.mentorize.service.ImportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+@RestController
+@RequestMapping("/import")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class ImportController {
+
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv");
+    private static final int TAMANHO_BUFFER_GZIP = 64 * 1024;
+
+    @Autowired
+    private ImportService importService;
+
+    // Corpo lido direto do request, sem passar por conversores que o carregariam inteiro
+    @PostMapping(consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<RelatorioImportacaoDTO> importar(InputStream corpo,
+                                                          @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                          @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+                                                          @RequestParam(required = false) String tipo,
+                                                          @RequestParam(required = false) String id) throws IOException {
+        InputStream entrada = "gzip".equalsIgnoreCase(contentEncoding)
+                ? new GZIPInputStream(corpo, TAMANHO_BUFFER_GZIP)
+                : corpo;
+
+        RelatorioImportacaoDTO relatorio;
+        if (contentType.isCompatibleWith(CSV)) {
+            if (tipo == null) throw new IllegalArgumentException("Parâmetro \"tipo\" é obrigatório para CSV");
+            relatorio = importService.importarCsv(entrada, TipoEntidade.fromRecurso(tipo), id);
+        } else {
+            relatorio = importService.importarNdjson(entrada, id);
+        }
+        return ResponseEntity.ok(relatorio);
+    }
+
+    @GetMapping
+    public ResponseEntity<List<RelatorioImportacaoDTO>> listarRecentes() {
+        List<RelatorioImportacaoDTO> relatorios = importService.listar();
+        return ResponseEntity.ok(relatorios);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<RelatorioImportacaoDTO> buscarPorId(@PathVariable String id) {
+        RelatorioImportacaoDTO relatorio = importService.getRelatorio(id);
+        return ResponseEntity.ok(relatorio);
+    }
+}
@@ -1,14 +1,22 @@
 package com.mentorize.controller;
 
 import com.mentorize.dto.MetaDTO;
+import com.mentorize.dto.OperacaoLoteDTO;
+import com.mentorize.dto.ResultadoLoteDTO;
+import com.mentorize.event.TipoEntidade;
+import com.mentorize.service.CacheRespostas;
+import com.mentorize.service.ContadorAlteracoes;
 import com.mentorize.service.MetaService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Objects;
 
 @RestController
 @RequestMapping("/metas")
@@ -18,16 +26,24 @@ public class MetaController {
     @Autowired
     private MetaService metaService;
 
+    @Autowired
+    private CacheRespostas cacheRespostas;
+
     @GetMapping
-    public ResponseEntity<List<MetaDTO>> listarTodas() {
-        List<MetaDTO> metas = metaService.findAll();
-        return ResponseEntity.ok(metas);
+    public ResponseEntity<byte[]> listarTodas(WebRequest request) {
+        return cacheRespostas.responder(TipoEntidade.META, "todas", request, metaService::findAll);
+    }
+
+    @GetMapping(params = "limit")
+    public ResponseEntity<byte[]> listarPagina(@RequestParam(required = false) String after, @RequestParam Integer limit, WebRequest request) {
+        return cacheRespostas.responder(TipoEntidade.META, "pagina:" + limit + ":" + Objects.toString(after, ""), request, () -> metaService.findPagina(after, limit));
     }
 
     @GetMapping("/id/{id}")
-    public ResponseEntity<MetaDTO> buscarPorId(@PathVariable Long id) {
+    public ResponseEntity<MetaDTO> buscarPorId(@PathVariable Long id, WebRequest request) {
         MetaDTO meta = metaService.findById(id);
-        return ResponseEntity.ok(meta);
+        if (request.checkNotModified(ContadorAlteracoes.etagItem(TipoEntidade.META, meta.getId(), meta.getVersao()))) return null;
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(meta);
     }
 
     @PostMapping
@@ -48,16 +64,32 @@ public class MetaController {
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/lote")
+    public ResponseEntity<List<ResultadoLoteDTO<MetaDTO>>> processarLote(@RequestBody List<OperacaoLoteDTO.DeMeta> operacoes) {
+        List<ResultadoLoteDTO<MetaDTO>> resultados = metaService.processarLote(operacoes);
+        return ResponseEntity.ok(resultados);
+    }
+
     @GetMapping("/pendentes")
-    public ResponseEntity<List<MetaDTO>> listarPendentes() {
-        List<MetaDTO> metas = metaService.findByConcluidaFalse();
-        return ResponseEntity.ok(metas);
+    public ResponseEntity<byte[]> listarPendentes(WebRequest request) {
+        return cacheRespostas.responder(TipoEntidade.META, "pendentes", request, metaService::findByConcluidaFalse);
     }
 
     @GetMapping("/tipo/{tipo}")
-    public ResponseEntity<List<MetaDTO>> listarPorTipo(@PathVariable String tipo) {
-        List<MetaDTO> metas = metaService.findByTipo(tipo);
-        return ResponseEntity.ok(metas);
+    public ResponseEntity<byte[]> listarPorTipo(@PathVariable String tipo, WebRequest request) {
+        return cacheRespostas.responder(TipoEntidade.META, "tipo:" + tipo, request, () -> metaService.findByTipo(tipo));
+    }
+
+    // Pendentes com data limite vencida, da mais antiga à mais recente
+    @GetMapping("/atrasadas")
+    public ResponseEntity<byte[]> listarAtrasadas(WebRequest request) {
+        return cacheRespostas.responder(TipoEntidade.META, "atrasadas", request, metaService::findAtrasadas);
+    }
+
+    // Pendentes com data limite entre agora e agora + dias, em ordem de data limite
+    @GetMapping("/expirando")
+    public ResponseEntity<byte[]> listarExpirando(@RequestParam(defaultValue = "7") int dias, WebRequest request) {
+        return cacheRespostas.responder(TipoEntidade.META, "expirando:" + dias, request, () -> metaService.findExpirando(dias));
     }
 
     @PatchMapping("/{id}/progresso")
@@ -66,6 +98,13 @@ public class MetaController {
         return ResponseEntity.ok(metaAtualizada);
     }
 
+    // Soma (ou subtrai, com delta negativo) ao progresso atual; ao chegar a 100 a meta é concluída
+    @PatchMapping("/{id}/progresso/incremento")
+    public ResponseEntity<MetaDTO> incrementarProgresso(@PathVariable Long id, @RequestParam int delta) {
+        MetaDTO metaAtualizada = metaService.incrementarProgresso(id, delta);
+        return ResponseEntity.ok(metaAtualizada);
+    }
+
     @PatchMapping("/{id}/concluir")
     public ResponseEntity<MetaDTO> concluirMeta(@PathVariable Long id) {
         MetaDTO metaAtualizada = metaService.updateProgresso(id, 100);
@@ -0,0 +1,27 @@
+package com.mentorize.controller;
+
+import com.mentorize.dto.SincronizacaoDTO;
+import com.mentorize.service.SincronizacaoService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/sync")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class SincronizacaoController {
+
+    @Autowired
+    private SincronizacaoService sincronizacaoService;
+
+    // Sem "desde": sincronização completa. Depois, passar a "marca" da resposta anterior
+    @GetMapping
+    public ResponseEntity<SincronizacaoDTO> sincronizar(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime desde) {
+        SincronizacaoDTO sincronizacao = sincronizacaoService.sincronizar(desde);
+        return ResponseEntity.ok(sincronizacao);
+    }
+}
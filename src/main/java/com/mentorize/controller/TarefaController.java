@@ -1,14 +1,24 @@
 package com.mentorize.controller;
 
 import com.mentorize.dto.TarefaDTO;
+import com.mentorize.dto.OperacaoLoteDTO;
+import com.mentorize.dto.ResultadoLoteDTO;
+import com.mentorize.event.TipoEntidade;
+import com.mentorize.service.CacheRespostas;
+import com.mentorize.service.ContadorAlteracoes;
 import com.mentorize.service.TarefaService;
+import com.mentorize.service.TarefasHojeService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Objects;
 
 @RestController
 @RequestMapping("/tarefas")
@@ -18,16 +28,27 @@ public class TarefaController {
     @Autowired
     private TarefaService tarefaService;
 
+    @Autowired
+    private TarefasHojeService tarefasHojeService;
+
+    @Autowired
+    private CacheRespostas cacheRespostas;
+
     @GetMapping
-    public ResponseEntity<List<TarefaDTO>> listarTodas() {
-        List<TarefaDTO> tarefas = tarefaService.findAll();
-        return ResponseEntity.ok(tarefas);
+    public ResponseEntity<byte[]> listarTodas(WebRequest request) {
+        return cacheRespostas.responder(TipoEntidade.TAREFA, "todas", request, tarefaService::findAll);
+    }
+
+    @GetMapping(params = "limit")
+    public ResponseEntity<byte[]> listarPagina(@RequestParam(required = false) String after, @RequestParam Integer limit, WebRequest request) {
+        return cacheRespostas.responder(TipoEntidade.TAREFA, "pagina:" + limit + ":" + Objects.toString(after, ""), request, () -> tarefaService.findPagina(after, limit));
     }
 
     @GetMapping("/id/{id}")
-    public ResponseEntity<TarefaDTO> buscarPorId(@PathVariable Long id) {
+    public ResponseEntity<TarefaDTO> buscarPorId(@PathVariable Long id, WebRequest request) {
         TarefaDTO tarefa = tarefaService.findById(id);
-        return ResponseEntity.ok(tarefa);
+        if (request.checkNotModified(ContadorAlteracoes.etagItem(TipoEntidade.TAREFA, tarefa.getId(), tarefa.getVersao()))) return null;
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(tarefa);
     }
 
     @PostMapping
@@ -48,29 +69,58 @@ public class TarefaController {
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/lote")
+    public ResponseEntity<List<ResultadoLoteDTO<TarefaDTO>>> processarLote(@RequestBody List<OperacaoLoteDTO.DeTarefa> operacoes) {
+        List<ResultadoLoteDTO<TarefaDTO>> resultados = tarefaService.processarLote(operacoes);
+        return ResponseEntity.ok(resultados);
+    }
+
     @GetMapping("/pendentes")
-    public ResponseEntity<List<TarefaDTO>> listarPendentes() {
-        List<TarefaDTO> tarefas = tarefaService.findByConcluidaFalse();
-        return ResponseEntity.ok(tarefas);
+    public ResponseEntity<byte[]> listarPendentes(WebRequest request) {
+        return cacheRespostas.responder(TipoEntidade.TAREFA, "pendentes", request, tarefaService::findByConcluidaFalse);
     }
 
     @GetMapping("/prioridade/{prioridade}")
-    public ResponseEntity<List<TarefaDTO>> listarPorPrioridade(@PathVariable String prioridade) {
-        List<TarefaDTO> tarefas = tarefaService.findByPrioridade(prioridade);
-        return ResponseEntity.ok(tarefas);
+    public ResponseEntity<byte[]> listarPorPrioridade(@PathVariable String prioridade, WebRequest request) {
+        return cacheRespostas.responder(TipoEntidade.TAREFA, "prioridade:" + prioridade, request, () -> tarefaService.findByPrioridade(prioridade));
     }
 
     @GetMapping("/com-prazo")
-    public ResponseEntity<List<TarefaDTO>> listarComPrazo() {
-        List<TarefaDTO> tarefas = tarefaService.findTarefasComPrazo();
-        return ResponseEntity.ok(tarefas);
+    public ResponseEntity<byte[]> listarComPrazo(WebRequest request) {
+        return cacheRespostas.responder(TipoEntidade.TAREFA, "com-prazo", request, tarefaService::findTarefasComPrazo);
+    }
+
+    // Criadas hoje no fuso "zona" (ex.: America/Sao_Paulo; padrão: fuso do servidor), mais recentes primeiro
+    @GetMapping("/hoje")
+    public ResponseEntity<byte[]> listarDeHoje(@RequestParam(required = false) String zona, WebRequest request) {
+        ZoneId fuso = TarefasHojeService.zona(zona);
+        return cacheRespostas.responder(TipoEntidade.TAREFA, TarefasHojeService.hoje(fuso), "hoje:" + fuso.getId(), request,
+                () -> tarefasHojeService.findCriadasHoje(fuso));
+    }
+
+    // Concluídas hoje no fuso "zona", mais recentes primeiro
+    @GetMapping("/concluidas-hoje")
+    public ResponseEntity<byte[]> listarConcluidasHoje(@RequestParam(required = false) String zona, WebRequest request) {
+        ZoneId fuso = TarefasHojeService.zona(zona);
+        return cacheRespostas.responder(TipoEntidade.TAREFA, TarefasHojeService.hoje(fuso), "concluidas-hoje:" + fuso.getId(), request,
+                () -> tarefasHojeService.findConcluidasHoje(fuso));
+    }
+
+    // Pendentes com prazo vencido, do mais antigo ao mais recente
+    @GetMapping("/atrasadas")
+    public ResponseEntity<byte[]> listarAtrasadas(WebRequest request) {
+        return cacheRespostas.responder(TipoEntidade.TAREFA, "atrasadas", request, tarefaService::findAtrasadas);
+    }
+
+    // Pendentes com prazo entre hoje e hoje + dias, em ordem de prazo
+    @GetMapping("/vencendo")
+    public ResponseEntity<byte[]> listarVencendo(@RequestParam(defaultValue = "7") int dias, WebRequest request) {
+        return cacheRespostas.responder(TipoEntidade.TAREFA, "vencendo:" + dias, request, () -> tarefaService.findVencendo(dias));
     }
 
     @PatchMapping("/{id}/concluir")
     public ResponseEntity<TarefaDTO> marcarComoConcluida(@PathVariable Long id) {
-        TarefaDTO tarefaDTO = tarefaService.findById(id);
-        tarefaDTO.setConcluida(true);
-        TarefaDTO tarefaAtualizada = tarefaService.update(id, tarefaDTO);
+        TarefaDTO tarefaAtualizada = tarefaService.marcarComoConcluida(id);
         return ResponseEntity.ok(tarefaAtualizada);
     }
 }
\ No newline at end of file
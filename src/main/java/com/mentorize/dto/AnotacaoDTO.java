@@ -10,6 +10,9 @@ public class AnotacaoDTO {
 
     private Long id;
 
+    // Somente leitura: ignorada em criações e atualizações
+    private Long versao;
+
     @NotBlank(message = "Título é obrigatório")
     @Size(min = 1, max = 255, message = "Título deve ter entre 1 e 255 caracteres")
     private String titulo;
@@ -48,6 +51,13 @@ public class AnotacaoDTO {
         this.dataAtualizacao = dataAtualizacao;
     }
 
+    // Projeção JPQL (SELECT new ...): preenchido direto da consulta, sem entidade gerenciada
+    public AnotacaoDTO(Long id, Long versao, String titulo, String conteudo,
+                       LocalDateTime dataCriacao, LocalDateTime dataAtualizacao) {
+        this(id, titulo, conteudo, dataCriacao, dataAtualizacao);
+        this.versao = versao;
+    }
+
     // ============================
     // Getters e Setters
     // ============================
@@ -60,6 +70,14 @@ public class AnotacaoDTO {
         this.id = id; 
     }
 
+    public Long getVersao() { 
+        return versao; 
+    }
+
+    public void setVersao(Long versao) { 
+        this.versao = versao; 
+    }
+
     public String getTitulo() { 
         return titulo; 
     }
@@ -0,0 +1,42 @@
+package com.mentorize.dto;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Posição de uma página na ordenação (dataCriacao DESC, id DESC).
+ * Formato textual: {@code <dataCriacao ISO-8601>,<id>}, ex.: {@code 2024-05-01T10:15:30.123,42}.
+ */
+public class CursorPaginacao {
+
+    private final LocalDateTime data;
+    private final Long id;
+
+    public CursorPaginacao(LocalDateTime data, Long id) {
+        this.data = data;
+        this.id = id;
+    }
+
+    public static CursorPaginacao parse(String valor) {
+        int separador = valor != null ? valor.lastIndexOf(',') : -1;
+        if (separador <= 0) {
+            throw new IllegalArgumentException("Cursor inválido: " + valor);
+        }
+        try {
+            LocalDateTime data = LocalDateTime.parse(valor.substring(0, separador).trim());
+            Long id = Long.valueOf(valor.substring(separador + 1).trim());
+            return new CursorPaginacao(data, id);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Cursor inválido: " + valor);
+        }
+    }
+
+    public LocalDateTime getData() { return data; }
+
+    public Long getId() { return id; }
+
+    @Override
+    public String toString() {
+        return data + "," + id;
+    }
+}
@@ -0,0 +1,41 @@
+package com.mentorize.dto;
+
+public class EstatisticasCacheDTO {
+
+    private String nome;
+    private long tamanho;
+    private long acertos;
+    private long falhas;
+    private double taxaAcerto;
+    private long remocoes;
+
+    public EstatisticasCacheDTO() {}
+
+    public EstatisticasCacheDTO(String nome, long tamanho, long acertos, long falhas, double taxaAcerto, long remocoes) {
+        this.nome = nome;
+        this.tamanho = tamanho;
+        this.acertos = acertos;
+        this.falhas = falhas;
+        this.taxaAcerto = taxaAcerto;
+        this.remocoes = remocoes;
+    }
+
+    // Getters e Setters
+    public String getNome() { return nome; }
+    public void setNome(String nome) { this.nome = nome; }
+
+    public long getTamanho() { return tamanho; }
+    public void setTamanho(long tamanho) { this.tamanho = tamanho; }
+
+    public long getAcertos() { return acertos; }
+    public void setAcertos(long acertos) { this.acertos = acertos; }
+
+    public long getFalhas() { return falhas; }
+    public void setFalhas(long falhas) { this.falhas = falhas; }
+
+    public double getTaxaAcerto() { return taxaAcerto; }
+    public void setTaxaAcerto(double taxaAcerto) { this.taxaAcerto = taxaAcerto; }
+
+    public long getRemocoes() { return remocoes; }
+    public void setRemocoes(long remocoes) { this.remocoes = remocoes; }
+}
@@ -0,0 +1,41 @@
+package com.mentorize.dto;
+
+import java.util.Map;
+
+public class EstatisticasDTO {
+
+    private long total;
+    private long concluidos;
+    private long pendentes;
+    private long atrasados;
+
+    private long minutosConcluidos; // apenas estudos
+
+    private String agrupamento; // materia | categoria | tipo
+    private Map<String, Long> porGrupo;
+
+    // Construtor padrão
+    public EstatisticasDTO() {}
+
+    // Getters e Setters
+    public long getTotal() { return total; }
+    public void setTotal(long total) { this.total = total; }
+
+    public long getConcluidos() { return concluidos; }
+    public void setConcluidos(long concluidos) { this.concluidos = concluidos; }
+
+    public long getPendentes() { return pendentes; }
+    public void setPendentes(long pendentes) { this.pendentes = pendentes; }
+
+    public long getAtrasados() { return atrasados; }
+    public void setAtrasados(long atrasados) { this.atrasados = atrasados; }
+
+    public long getMinutosConcluidos() { return minutosConcluidos; }
+    public void setMinutosConcluidos(long minutosConcluidos) { this.minutosConcluidos = minutosConcluidos; }
+
+    public String getAgrupamento() { return agrupamento; }
+    public void setAgrupamento(String agrupamento) { this.agrupamento = agrupamento; }
+
+    public Map<String, Long> getPorGrupo() { return porGrupo; }
+    public void setPorGrupo(Map<String, Long> porGrupo) { this.porGrupo = porGrupo; }
+}
@@ -12,6 +12,9 @@ public class EstudoDTO {
 
     private Long id;
 
+    // Somente leitura: ignorada em criações e atualizações
+    private Long versao;
+
     @NotBlank(message = "Título é obrigatório")
     @Size(min = 1, max = 255, message = "Título deve ter entre 1 e 255 caracteres")
     private String titulo;
@@ -36,6 +39,9 @@ public class EstudoDTO {
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime dataCriacao;
 
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime dataAtualizacao;
+
     // Construtores
     public EstudoDTO() {}
 
@@ -48,10 +54,30 @@ public class EstudoDTO {
         this.dataCriacao = LocalDateTime.now();
     }
 
+    // Projeção JPQL (SELECT new ...): preenchido direto da consulta, sem entidade gerenciada
+    public EstudoDTO(Long id, Long versao, String titulo, String descricao, String materia, LocalDate prazo,
+                     Boolean concluido, Integer duracao, String anotacoes, LocalDateTime dataCriacao,
+                     LocalDateTime dataAtualizacao) {
+        this.id = id;
+        this.versao = versao;
+        this.titulo = titulo;
+        this.descricao = descricao;
+        this.materia = materia;
+        this.prazo = prazo;
+        this.concluido = concluido;
+        this.duracao = duracao;
+        this.anotacoes = anotacoes;
+        this.dataCriacao = dataCriacao;
+        this.dataAtualizacao = dataAtualizacao;
+    }
+
     // Getters e Setters
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
 
+    public Long getVersao() { return versao; }
+    public void setVersao(Long versao) { this.versao = versao; }
+
     public String getTitulo() { return titulo; }
     public void setTitulo(String titulo) { this.titulo = titulo; }
 
@@ -76,4 +102,7 @@ public class EstudoDTO {
 
     public LocalDateTime getDataCriacao() { return dataCriacao; }
     public void setDataCriacao(LocalDateTime dataCriacao) { this.dataCriacao = dataCriacao; }
+
+    public LocalDateTime getDataAtualizacao() { return dataAtualizacao; }
+    public void setDataAtualizacao(LocalDateTime dataAtualizacao) { this.dataAtualizacao = dataAtualizacao; }
 }
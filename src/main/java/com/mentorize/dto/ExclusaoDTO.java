@@ -0,0 +1,32 @@
+package com.mentorize.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+
+public class ExclusaoDTO {
+
+    private String tipo;
+    private Long id;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime dataExclusao;
+
+    public ExclusaoDTO() {}
+
+    public ExclusaoDTO(String tipo, Long id, LocalDateTime dataExclusao) {
+        this.tipo = tipo;
+        this.id = id;
+        this.dataExclusao = dataExclusao;
+    }
+
+    // Getters e Setters
+    public String getTipo() { return tipo; }
+    public void setTipo(String tipo) { this.tipo = tipo; }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public LocalDateTime getDataExclusao() { return dataExclusao; }
+    public void setDataExclusao(LocalDateTime dataExclusao) { this.dataExclusao = dataExclusao; }
+}
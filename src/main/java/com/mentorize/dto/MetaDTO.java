@@ -1,6 +1,7 @@
 package com.mentorize.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.mentorize.model.Meta;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
@@ -12,6 +13,9 @@ public class MetaDTO {
 
     private Long id;
 
+    // Somente leitura: ignorada em criações e atualizações
+    private Long versao;
+
     @NotBlank(message = "Nome da meta é obrigatório")
     @Size(min = 1, max = 255, message = "Nome deve ter entre 1 e 255 caracteres")
     private String nome;
@@ -31,6 +35,9 @@ public class MetaDTO {
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime dataLimite;
 
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime dataAtualizacao;
+
     private boolean concluida;
 
     // Campos derivados da entidade Meta
@@ -51,10 +58,31 @@ public class MetaDTO {
         this.dataInicio = LocalDateTime.now();
     }
 
+    // Projeção JPQL (SELECT new ...): preenchido direto da consulta, sem entidade gerenciada
+    public MetaDTO(Long id, Long versao, String nome, String descricao, Integer progresso, String tipo,
+                   LocalDateTime dataInicio, LocalDateTime dataLimite, LocalDateTime dataAtualizacao, Boolean concluida) {
+        this.id = id;
+        this.versao = versao;
+        this.nome = nome;
+        this.descricao = descricao;
+        this.progresso = progresso != null ? progresso : 0;
+        this.tipo = tipo;
+        this.dataInicio = dataInicio;
+        this.dataLimite = dataLimite;
+        this.dataAtualizacao = dataAtualizacao;
+        this.concluida = Boolean.TRUE.equals(concluida);
+        LocalDateTime agora = LocalDateTime.now();
+        this.diasRestantes = Meta.diasRestantes(this.concluida, dataLimite, agora);
+        this.atrasada = Meta.isAtrasada(this.concluida, dataLimite, agora);
+    }
+
     // Getters e Setters
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
 
+    public Long getVersao() { return versao; }
+    public void setVersao(Long versao) { this.versao = versao; }
+
     public String getNome() { return nome; }
     public void setNome(String nome) { this.nome = nome; }
 
@@ -73,6 +101,9 @@ public class MetaDTO {
     public LocalDateTime getDataLimite() { return dataLimite; }
     public void setDataLimite(LocalDateTime dataLimite) { this.dataLimite = dataLimite; }
 
+    public LocalDateTime getDataAtualizacao() { return dataAtualizacao; }
+    public void setDataAtualizacao(LocalDateTime dataAtualizacao) { this.dataAtualizacao = dataAtualizacao; }
+
     public boolean isConcluida() { return concluida; }
     public void setConcluida(boolean concluida) { this.concluida = concluida; }
 
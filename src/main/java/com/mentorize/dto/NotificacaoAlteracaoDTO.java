@@ -0,0 +1,34 @@
+package com.mentorize.dto;
+
+public class NotificacaoAlteracaoDTO {
+
+    // Item pendente que passou do prazo; nada foi gravado
+    public static final String PRAZO_VENCIDO = "PRAZO_VENCIDO";
+
+    private String tipo; // tarefa | estudo | meta | anotacao
+    private String operacao; // CRIACAO | ATUALIZACAO | EXCLUSAO | PRAZO_VENCIDO
+    private Long id;
+    private Long versao; // nula na exclusão
+
+    public NotificacaoAlteracaoDTO() {}
+
+    public NotificacaoAlteracaoDTO(String tipo, String operacao, Long id, Long versao) {
+        this.tipo = tipo;
+        this.operacao = operacao;
+        this.id = id;
+        this.versao = versao;
+    }
+
+    // Getters e Setters
+    public String getTipo() { return tipo; }
+    public void setTipo(String tipo) { this.tipo = tipo; }
+
+    public String getOperacao() { return operacao; }
+    public void setOperacao(String operacao) { this.operacao = operacao; }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getVersao() { return versao; }
+    public void setVersao(Long versao) { this.versao = versao; }
+}
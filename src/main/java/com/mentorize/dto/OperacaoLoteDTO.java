@@ -0,0 +1,39 @@
+package com.mentorize.dto;
+
+public class OperacaoLoteDTO<T> {
+
+    private String operacao; // CRIAR | ATUALIZAR | EXCLUIR
+
+    private Long id; // obrigatório para ATUALIZAR e EXCLUIR
+
+    private T dados; // obrigatório para CRIAR e ATUALIZAR
+
+    // Construtores
+    public OperacaoLoteDTO() {}
+
+    public OperacaoLoteDTO(String operacao, Long id, T dados) {
+        this.operacao = operacao;
+        this.id = id;
+        this.dados = dados;
+    }
+
+    // Getters e Setters
+    public String getOperacao() { return operacao; }
+    public void setOperacao(String operacao) { this.operacao = operacao; }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public T getDados() { return dados; }
+    public void setDados(T dados) { this.dados = dados; }
+
+    // Tipos concretos para o @RequestBody: o Spring 6.1.1 não resolve o genérico
+    // aninhado em List<OperacaoLoteDTO<T>> e entregaria "dados" como Map
+    public static class DeTarefa extends OperacaoLoteDTO<TarefaDTO> {}
+
+    public static class DeEstudo extends OperacaoLoteDTO<EstudoDTO> {}
+
+    public static class DeMeta extends OperacaoLoteDTO<MetaDTO> {}
+
+    public static class DeAnotacao extends OperacaoLoteDTO<AnotacaoDTO> {}
+}
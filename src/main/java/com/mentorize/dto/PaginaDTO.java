@@ -0,0 +1,51 @@
+package com.mentorize.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+public class PaginaDTO<T> {
+
+    public static final int LIMITE_PADRAO = 20;
+    public static final int LIMITE_MAXIMO = 100;
+
+    private List<T> itens;
+
+    private String proximoCursor; // null quando não há mais itens
+
+    private int limite;
+
+    // Construtores
+    public PaginaDTO() {}
+
+    public PaginaDTO(List<T> itens, String proximoCursor, int limite) {
+        this.itens = itens;
+        this.proximoCursor = proximoCursor;
+        this.limite = limite;
+    }
+
+    // Mantém o limite dentro de [1, LIMITE_MAXIMO]
+    public static int normalizarLimite(Integer limite) {
+        if (limite == null) return LIMITE_PADRAO;
+        return Math.max(1, Math.min(LIMITE_MAXIMO, limite));
+    }
+
+    // Recebe até limite + 1 itens: o item excedente só indica que existe próxima página
+    public static <T> PaginaDTO<T> de(List<T> itens, int limite, Function<T, CursorPaginacao> cursor) {
+        if (itens.size() <= limite) {
+            return new PaginaDTO<>(itens, null, limite);
+        }
+        List<T> pagina = itens.subList(0, limite);
+        String proximo = cursor.apply(pagina.get(limite - 1)).toString();
+        return new PaginaDTO<>(pagina, proximo, limite);
+    }
+
+    // Getters e Setters
+    public List<T> getItens() { return itens; }
+    public void setItens(List<T> itens) { this.itens = itens; }
+
+    public String getProximoCursor() { return proximoCursor; }
+    public void setProximoCursor(String proximoCursor) { this.proximoCursor = proximoCursor; }
+
+    public int getLimite() { return limite; }
+    public void setLimite(int limite) { this.limite = limite; }
+}
@@ -0,0 +1,37 @@
+package com.mentorize.dto;
+
+import java.time.LocalDate;
+
+// Um balde da série de tempo de estudo: período que começa em "inicio", por matéria
+public class PontoSerieEstudoDTO {
+
+    private LocalDate inicio;
+
+    private String materia;
+    private long estudos;
+    private long concluidos;
+    private long minutosConcluidos;
+
+    public PontoSerieEstudoDTO() {}
+
+    public PontoSerieEstudoDTO(LocalDate inicio, String materia) {
+        this.inicio = inicio;
+        this.materia = materia;
+    }
+
+    // Getters e Setters
+    public LocalDate getInicio() { return inicio; }
+    public void setInicio(LocalDate inicio) { this.inicio = inicio; }
+
+    public String getMateria() { return materia; }
+    public void setMateria(String materia) { this.materia = materia; }
+
+    public long getEstudos() { return estudos; }
+    public void setEstudos(long estudos) { this.estudos = estudos; }
+
+    public long getConcluidos() { return concluidos; }
+    public void setConcluidos(long concluidos) { this.concluidos = concluidos; }
+
+    public long getMinutosConcluidos() { return minutosConcluidos; }
+    public void setMinutosConcluidos(long minutosConcluidos) { this.minutosConcluidos = minutosConcluidos; }
+}
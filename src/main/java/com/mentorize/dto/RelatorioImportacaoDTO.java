@@ -0,0 +1,74 @@
+package com.mentorize.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class RelatorioImportacaoDTO {
+
+    private String id;
+
+    private String status; // EM_ANDAMENTO | CONCLUIDA | FALHOU
+
+    private long linhasLidas;
+
+    private long importados;
+
+    private long rejeitados;
+
+    // Limitado aos primeiros erros; "rejeitados" tem o total
+    private List<ErroLinha> erros;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime dataInicio;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime dataFim;
+
+    // Construtores
+    public RelatorioImportacaoDTO() {}
+
+    // Getters e Setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public long getLinhasLidas() { return linhasLidas; }
+    public void setLinhasLidas(long linhasLidas) { this.linhasLidas = linhasLidas; }
+
+    public long getImportados() { return importados; }
+    public void setImportados(long importados) { this.importados = importados; }
+
+    public long getRejeitados() { return rejeitados; }
+    public void setRejeitados(long rejeitados) { this.rejeitados = rejeitados; }
+
+    public List<ErroLinha> getErros() { return erros; }
+    public void setErros(List<ErroLinha> erros) { this.erros = erros; }
+
+    public LocalDateTime getDataInicio() { return dataInicio; }
+    public void setDataInicio(LocalDateTime dataInicio) { this.dataInicio = dataInicio; }
+
+    public LocalDateTime getDataFim() { return dataFim; }
+    public void setDataFim(LocalDateTime dataFim) { this.dataFim = dataFim; }
+
+    public static class ErroLinha {
+        private long linha;
+        private String erro;
+
+        public ErroLinha() {}
+
+        public ErroLinha(long linha, String erro) {
+            this.linha = linha;
+            this.erro = erro;
+        }
+
+        public long getLinha() { return linha; }
+        public void setLinha(long linha) { this.linha = linha; }
+
+        public String getErro() { return erro; }
+        public void setErro(String erro) { this.erro = erro; }
+    }
+}
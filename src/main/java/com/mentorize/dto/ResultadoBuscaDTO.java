@@ -0,0 +1,45 @@
+package com.mentorize.dto;
+
+public class ResultadoBuscaDTO {
+
+    private String tipo; // tarefa | estudo | meta | anotacao
+
+    private Long id;
+
+    private String titulo;
+
+    // HTML já escapado, com os termos encontrados envoltos em <mark>
+    private String tituloDestacado;
+    private String trecho;
+
+    private double relevancia;
+
+    // Construtores
+    public ResultadoBuscaDTO() {}
+
+    public ResultadoBuscaDTO(String tipo, Long id, String titulo, double relevancia) {
+        this.tipo = tipo;
+        this.id = id;
+        this.titulo = titulo;
+        this.relevancia = relevancia;
+    }
+
+    // Getters e Setters
+    public String getTipo() { return tipo; }
+    public void setTipo(String tipo) { this.tipo = tipo; }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getTitulo() { return titulo; }
+    public void setTitulo(String titulo) { this.titulo = titulo; }
+
+    public String getTituloDestacado() { return tituloDestacado; }
+    public void setTituloDestacado(String tituloDestacado) { this.tituloDestacado = tituloDestacado; }
+
+    public String getTrecho() { return trecho; }
+    public void setTrecho(String trecho) { this.trecho = trecho; }
+
+    public double getRelevancia() { return relevancia; }
+    public void setRelevancia(double relevancia) { this.relevancia = relevancia; }
+}
@@ -0,0 +1,49 @@
+package com.mentorize.dto;
+
+public class ResultadoLoteDTO<T> {
+
+    private int indice; // posição da operação na requisição
+
+    private int status; // mesmo significado do código HTTP da operação individual
+
+    private Long id;
+
+    private T dados;
+
+    private String erro;
+
+    // Construtores
+    public ResultadoLoteDTO() {}
+
+    public ResultadoLoteDTO(int indice, int status, Long id, T dados, String erro) {
+        this.indice = indice;
+        this.status = status;
+        this.id = id;
+        this.dados = dados;
+        this.erro = erro;
+    }
+
+    public static <T> ResultadoLoteDTO<T> sucesso(int indice, int status, Long id, T dados) {
+        return new ResultadoLoteDTO<>(indice, status, id, dados, null);
+    }
+
+    public static <T> ResultadoLoteDTO<T> falha(int indice, int status, Long id, String erro) {
+        return new ResultadoLoteDTO<>(indice, status, id, null, erro);
+    }
+
+    // Getters e Setters
+    public int getIndice() { return indice; }
+    public void setIndice(int indice) { this.indice = indice; }
+
+    public int getStatus() { return status; }
+    public void setStatus(int status) { this.status = status; }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public T getDados() { return dados; }
+    public void setDados(T dados) { this.dados = dados; }
+
+    public String getErro() { return erro; }
+    public void setErro(String erro) { this.erro = erro; }
+}
@@ -0,0 +1,73 @@
+package com.mentorize.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public class ResumoDashboardDTO {
+
+    // Tarefas
+    private long tarefasPendentes;
+    private long tarefasConcluidas;
+
+    // Estudos
+    private long estudosTotal;
+    private long estudosConcluidos;
+    private long tempoTotalEstudo; // em minutos
+    private double duracaoMediaEstudos;
+    private Map<String, Long> estudosPorMateria;
+
+    // Metas
+    private long metasTotal;
+    private long metasConcluidas;
+    private double progressoMedioMetasAtivas;
+    private List<MetaDTO> metasDestaque;
+
+    // Anotações
+    private long anotacoesTotal;
+
+    // Percentual de estudos e metas concluídos (0 a 100)
+    private int produtividade;
+
+    // Construtor padrão
+    public ResumoDashboardDTO() {}
+
+    // Getters e Setters
+    public long getTarefasPendentes() { return tarefasPendentes; }
+    public void setTarefasPendentes(long tarefasPendentes) { this.tarefasPendentes = tarefasPendentes; }
+
+    public long getTarefasConcluidas() { return tarefasConcluidas; }
+    public void setTarefasConcluidas(long tarefasConcluidas) { this.tarefasConcluidas = tarefasConcluidas; }
+
+    public long getEstudosTotal() { return estudosTotal; }
+    public void setEstudosTotal(long estudosTotal) { this.estudosTotal = estudosTotal; }
+
+    public long getEstudosConcluidos() { return estudosConcluidos; }
+    public void setEstudosConcluidos(long estudosConcluidos) { this.estudosConcluidos = estudosConcluidos; }
+
+    public long getTempoTotalEstudo() { return tempoTotalEstudo; }
+    public void setTempoTotalEstudo(long tempoTotalEstudo) { this.tempoTotalEstudo = tempoTotalEstudo; }
+
+    public double getDuracaoMediaEstudos() { return duracaoMediaEstudos; }
+    public void setDuracaoMediaEstudos(double duracaoMediaEstudos) { this.duracaoMediaEstudos = duracaoMediaEstudos; }
+
+    public Map<String, Long> getEstudosPorMateria() { return estudosPorMateria; }
+    public void setEstudosPorMateria(Map<String, Long> estudosPorMateria) { this.estudosPorMateria = estudosPorMateria; }
+
+    public long getMetasTotal() { return metasTotal; }
+    public void setMetasTotal(long metasTotal) { this.metasTotal = metasTotal; }
+
+    public long getMetasConcluidas() { return metasConcluidas; }
+    public void setMetasConcluidas(long metasConcluidas) { this.metasConcluidas = metasConcluidas; }
+
+    public double getProgressoMedioMetasAtivas() { return progressoMedioMetasAtivas; }
+    public void setProgressoMedioMetasAtivas(double progressoMedioMetasAtivas) { this.progressoMedioMetasAtivas = progressoMedioMetasAtivas; }
+
+    public List<MetaDTO> getMetasDestaque() { return metasDestaque; }
+    public void setMetasDestaque(List<MetaDTO> metasDestaque) { this.metasDestaque = metasDestaque; }
+
+    public long getAnotacoesTotal() { return anotacoesTotal; }
+    public void setAnotacoesTotal(long anotacoesTotal) { this.anotacoesTotal = anotacoesTotal; }
+
+    public int getProdutividade() { return produtividade; }
+    public void setProdutividade(int produtividade) { this.produtividade = produtividade; }
+}
@@ -0,0 +1,42 @@
+package com.mentorize.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class SincronizacaoDTO {
+
+    // Valor de "desde" para a próxima chamada
+    private LocalDateTime marca;
+
+    // true: resposta traz todos os registros e o cliente deve substituir o estado local
+    private boolean completa;
+
+    private List<TarefaDTO> tarefas = new ArrayList<>();
+    private List<EstudoDTO> estudos = new ArrayList<>();
+    private List<MetaDTO> metas = new ArrayList<>();
+    private List<AnotacaoDTO> anotacoes = new ArrayList<>();
+    private List<ExclusaoDTO> exclusoes = new ArrayList<>();
+
+    // Getters e Setters
+    public LocalDateTime getMarca() { return marca; }
+    public void setMarca(LocalDateTime marca) { this.marca = marca; }
+
+    public boolean isCompleta() { return completa; }
+    public void setCompleta(boolean completa) { this.completa = completa; }
+
+    public List<TarefaDTO> getTarefas() { return tarefas; }
+    public void setTarefas(List<TarefaDTO> tarefas) { this.tarefas = tarefas; }
+
+    public List<EstudoDTO> getEstudos() { return estudos; }
+    public void setEstudos(List<EstudoDTO> estudos) { this.estudos = estudos; }
+
+    public List<MetaDTO> getMetas() { return metas; }
+    public void setMetas(List<MetaDTO> metas) { this.metas = metas; }
+
+    public List<AnotacaoDTO> getAnotacoes() { return anotacoes; }
+    public void setAnotacoes(List<AnotacaoDTO> anotacoes) { this.anotacoes = anotacoes; }
+
+    public List<ExclusaoDTO> getExclusoes() { return exclusoes; }
+    public void setExclusoes(List<ExclusaoDTO> exclusoes) { this.exclusoes = exclusoes; }
+}
@@ -1,6 +1,7 @@
 package com.mentorize.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.mentorize.model.Tarefa;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
@@ -11,6 +12,9 @@ public class TarefaDTO {
 
     private Long id;
 
+    // Somente leitura: ignorada em criações e atualizações
+    private Long versao;
+
     @NotBlank(message = "Título é obrigatório")
     @Size(min = 1, max = 255, message = "Título deve ter entre 1 e 255 caracteres")
     private String titulo;
@@ -30,6 +34,9 @@ public class TarefaDTO {
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime dataCriacao;
 
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime dataAtualizacao;
+
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime dataConclusao;
 
@@ -50,6 +57,24 @@ public class TarefaDTO {
         this.concluida = false;
     }
 
+    // Projeção JPQL (SELECT new ...): preenchido direto da consulta, sem entidade gerenciada
+    public TarefaDTO(Long id, Long versao, String titulo, String descricao, Boolean concluida, LocalDate prazo,
+                     Tarefa.Prioridade prioridade, Tarefa.Categoria categoria, LocalDateTime dataCriacao,
+                     LocalDateTime dataAtualizacao, LocalDateTime dataConclusao) {
+
+        this.id = id;
+        this.versao = versao;
+        this.titulo = titulo;
+        this.descricao = descricao;
+        this.concluida = Boolean.TRUE.equals(concluida);
+        this.prazo = prazo;
+        this.prioridade = prioridade != null ? prioridade.name() : null;
+        this.categoria = categoria != null ? categoria.name() : null;
+        this.dataCriacao = dataCriacao;
+        this.dataAtualizacao = dataAtualizacao;
+        this.dataConclusao = dataConclusao;
+    }
+
     // -------------------------
     // Getters e Setters
     // -------------------------
@@ -57,6 +82,9 @@ public class TarefaDTO {
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
 
+    public Long getVersao() { return versao; }
+    public void setVersao(Long versao) { this.versao = versao; }
+
     public String getTitulo() { return titulo; }
     public void setTitulo(String titulo) { this.titulo = titulo; }
 
@@ -78,6 +106,9 @@ public class TarefaDTO {
     public LocalDateTime getDataCriacao() { return dataCriacao; }
     public void setDataCriacao(LocalDateTime dataCriacao) { this.dataCriacao = dataCriacao; }
 
+    public LocalDateTime getDataAtualizacao() { return dataAtualizacao; }
+    public void setDataAtualizacao(LocalDateTime dataAtualizacao) { this.dataAtualizacao = dataAtualizacao; }
+
     public LocalDateTime getDataConclusao() { return dataConclusao; }
     public void setDataConclusao(LocalDateTime dataConclusao) { this.dataConclusao = dataConclusao; }
 }
@@ -0,0 +1,48 @@
+package com.mentorize.event;
+
+/**
+ * Publicado pelos services após cada escrita. {@code antes} é nulo na criação e
+ * {@code depois} é nulo na exclusão; ambos são os DTOs da entidade.
+ */
+public class AlteracaoEntidadeEvent {
+
+    public enum Operacao {
+        CRIACAO, ATUALIZACAO, EXCLUSAO
+    }
+
+    private final TipoEntidade tipo;
+    private final Operacao operacao;
+    private final Long id;
+    private final Object antes;
+    private final Object depois;
+
+    public AlteracaoEntidadeEvent(TipoEntidade tipo, Operacao operacao, Long id, Object antes, Object depois) {
+        this.tipo = tipo;
+        this.operacao = operacao;
+        this.id = id;
+        this.antes = antes;
+        this.depois = depois;
+    }
+
+    public static AlteracaoEntidadeEvent criacao(TipoEntidade tipo, Long id, Object depois) {
+        return new AlteracaoEntidadeEvent(tipo, Operacao.CRIACAO, id, null, depois);
+    }
+
+    public static AlteracaoEntidadeEvent atualizacao(TipoEntidade tipo, Long id, Object antes, Object depois) {
+        return new AlteracaoEntidadeEvent(tipo, Operacao.ATUALIZACAO, id, antes, depois);
+    }
+
+    public static AlteracaoEntidadeEvent exclusao(TipoEntidade tipo, Long id, Object antes) {
+        return new AlteracaoEntidadeEvent(tipo, Operacao.EXCLUSAO, id, antes, null);
+    }
+
+    public TipoEntidade getTipo() { return tipo; }
+
+    public Operacao getOperacao() { return operacao; }
+
+    public Long getId() { return id; }
+
+    public Object getAntes() { return antes; }
+
+    public Object getDepois() { return depois; }
+}
@@ -0,0 +1,31 @@
+package com.mentorize.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Publicado pelo índice de prazos quando um item pendente passa do prazo. Nada foi gravado:
+ * muda só o estado calculado com a hora atual (atrasada), então contadores, ETags e caches que
+ * dependem dele precisam ser ajustados.
+ */
+public class PrazoVencidoEvent {
+
+    private final TipoEntidade tipo;
+    private final Long id;
+    private final long versao;
+    private final LocalDateTime vencimento;
+
+    public PrazoVencidoEvent(TipoEntidade tipo, Long id, long versao, LocalDateTime vencimento) {
+        this.tipo = tipo;
+        this.id = id;
+        this.versao = versao;
+        this.vencimento = vencimento;
+    }
+
+    public TipoEntidade getTipo() { return tipo; }
+
+    public Long getId() { return id; }
+
+    public long getVersao() { return versao; }
+
+    public LocalDateTime getVencimento() { return vencimento; }
+}
@@ -0,0 +1,28 @@
+package com.mentorize.event;
+
+public enum TipoEntidade {
+    TAREFA("tarefas"),
+    ESTUDO("estudos"),
+    META("metas"),
+    ANOTACAO("anotacoes");
+
+    private final String recurso;
+
+    TipoEntidade(String recurso) {
+        this.recurso = recurso;
+    }
+
+    // Nome do recurso REST (ex.: "tarefas")
+    public String getRecurso() {
+        return recurso;
+    }
+
+    public static TipoEntidade fromRecurso(String recurso) {
+        for (TipoEntidade tipo : values()) {
+            if (tipo.recurso.equalsIgnoreCase(recurso) || tipo.name().equalsIgnoreCase(recurso)) {
+                return tipo;
+            }
+        }
+        throw new IllegalArgumentException("Entidade desconhecida: " + recurso);
+    }
+}
@@ -0,0 +1,13 @@
+package com.mentorize.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// Escrita que desistiu depois de perder repetidas vezes para escritas concorrentes; o cliente pode reenviar
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ConflitoConcorrenciaException extends RuntimeException {
+
+    public ConflitoConcorrenciaException(String message) {
+        super(message);
+    }
+}
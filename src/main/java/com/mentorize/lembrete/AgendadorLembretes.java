@@ -0,0 +1,156 @@
+package com.mentorize.lembrete;
+
+import com.mentorize.event.TipoEntidade;
+import com.mentorize.model.CursorAgendamento;
+import com.mentorize.model.Estudo;
+import com.mentorize.model.Meta;
+import com.mentorize.model.Tarefa;
+import com.mentorize.repository.CursorAgendamentoRepository;
+import com.mentorize.repository.EstudoRepository;
+import com.mentorize.repository.MetaRepository;
+import com.mentorize.repository.TarefaRepository;
+import com.mentorize.service.IndicePrazos;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Dispara os lembretes de prazo (24 h antes, 1 h antes e no prazo) para os {@link DestinoLembretes}.
+ * <p>
+ * Não há fila de lembretes: o lembrete com antecedência d de um item que vence em v é devido em
+ * v - d, então os devidos na janela (cursor, agora] são os itens do {@link IndicePrazos} que vencem
+ * em (cursor + d, agora + d], uma faixa do mapa ordenado por vencimento. Editar ou concluir um
+ * item reposiciona ou remove sua entrada no índice, o que replaneja os lembretes sem estado extra.
+ * <p>
+ * O cursor fica em cursores_agendamento: depois de um reinício a janela perdida é recuperada (até
+ * {@code mentorize.lembretes.recuperacao-maxima-horas}). A entrega é "pelo menos uma vez": uma
+ * queda entre o envio e a gravação do cursor repete a última janela.
+ */
+@Component
+public class AgendadorLembretes {
+
+    private static final Logger log = LoggerFactory.getLogger(AgendadorLembretes.class);
+
+    static final String CURSOR = "lembretes-prazo";
+
+    private static final int TAMANHO_LOTE = 1000;
+
+    private static final Comparator<Lembrete> ORDEM = Comparator.comparing(Lembrete::getHorario)
+            .thenComparing(Lembrete::getTipo)
+            .thenComparing(Lembrete::getId);
+
+    @Autowired
+    private IndicePrazos indicePrazos;
+
+    @Autowired
+    private TarefaRepository tarefaRepository;
+
+    @Autowired
+    private EstudoRepository estudoRepository;
+
+    @Autowired
+    private MetaRepository metaRepository;
+
+    @Autowired
+    private CursorAgendamentoRepository cursorRepository;
+
+    @Autowired(required = false)
+    private List<DestinoLembretes> destinos = List.of();
+
+    @Value("${mentorize.lembretes.recuperacao-maxima-horas:48}")
+    private long recuperacaoMaximaHoras;
+
+    private LocalDateTime processadoAte;
+
+    @Scheduled(fixedDelayString = "${mentorize.lembretes.verificacao-ms:30000}")
+    public void disparar() {
+        if (!indicePrazos.isCarregado()) return;
+        LocalDateTime agora = LocalDateTime.now();
+        LocalDateTime de = inicioJanela(agora);
+        if (!agora.isAfter(de)) return;
+
+        List<Lembrete> lembretes = new ArrayList<>();
+        for (Lembrete.Antecedencia antecedencia : Lembrete.Antecedencia.values()) {
+            LocalDateTime vencimentoDe = de.plus(antecedencia.getDuracao());
+            LocalDateTime vencimentoAte = agora.plus(antecedencia.getDuracao());
+            for (TipoEntidade tipo : List.of(TipoEntidade.TAREFA, TipoEntidade.ESTUDO, TipoEntidade.META)) {
+                List<Long> ids = indicePrazos.vencendoEntre(tipo, vencimentoDe, vencimentoAte);
+                for (int inicio = 0; inicio < ids.size(); inicio += TAMANHO_LOTE) {
+                    List<Long> lote = ids.subList(inicio, Math.min(inicio + TAMANHO_LOTE, ids.size()));
+                    for (Lembrete lembrete : carregar(tipo, lote, antecedencia)) {
+                        // O índice é atualizado depois do commit; a releitura descarta o que mudou nesse meio tempo
+                        if (lembrete.getVencimento().isAfter(vencimentoDe) && !lembrete.getVencimento().isAfter(vencimentoAte)) {
+                            lembretes.add(lembrete);
+                        }
+                    }
+                }
+            }
+        }
+
+        lembretes.sort(ORDEM);
+        for (Lembrete lembrete : lembretes) {
+            for (DestinoLembretes destino : destinos) {
+                try {
+                    destino.enviar(lembrete);
+                } catch (RuntimeException e) {
+                    log.warn("Falha ao enviar lembrete {} para {}: {}", lembrete, destino.getClass().getSimpleName(), e.getMessage());
+                }
+            }
+        }
+
+        cursorRepository.save(new CursorAgendamento(CURSOR, agora));
+        processadoAte = agora;
+        if (!lembretes.isEmpty()) log.debug("{} lembretes enviados para a janela ({}, {}]", lembretes.size(), de, agora);
+    }
+
+    // Na primeira execução sem cursor gravado começa de agora, sem reenviar o passado
+    private LocalDateTime inicioJanela(LocalDateTime agora) {
+        if (processadoAte == null) {
+            processadoAte = cursorRepository.findById(CURSOR)
+                    .map(CursorAgendamento::getProcessadoAte)
+                    .orElse(agora);
+        }
+        LocalDateTime limite = agora.minusHours(recuperacaoMaximaHoras);
+        if (processadoAte.isBefore(limite)) {
+            log.warn("Lembretes entre {} e {} descartados: parada maior que {} h", processadoAte, limite, recuperacaoMaximaHoras);
+            return limite;
+        }
+        return processadoAte;
+    }
+
+    private List<Lembrete> carregar(TipoEntidade tipo, List<Long> ids, Lembrete.Antecedencia antecedencia) {
+        List<Lembrete> lembretes = new ArrayList<>();
+        switch (tipo) {
+            case TAREFA -> {
+                for (Tarefa tarefa : tarefaRepository.findAllById(ids)) {
+                    if (tarefa.isConcluida() || tarefa.getPrazo() == null) continue;
+                    lembretes.add(new Lembrete(tipo, tarefa.getId(), tarefa.getTitulo(), antecedencia,
+                            IndicePrazos.vencimentoPrazo(tarefa.getPrazo())));
+                }
+            }
+            case ESTUDO -> {
+                for (Estudo estudo : estudoRepository.findAllById(ids)) {
+                    if (estudo.isConcluido() || estudo.getPrazo() == null) continue;
+                    lembretes.add(new Lembrete(tipo, estudo.getId(), estudo.getTitulo(), antecedencia,
+                            IndicePrazos.vencimentoPrazo(estudo.getPrazo())));
+                }
+            }
+            case META -> {
+                for (Meta meta : metaRepository.findAllById(ids)) {
+                    if (meta.isConcluida() || meta.getDataLimite() == null) continue;
+                    lembretes.add(new Lembrete(tipo, meta.getId(), meta.getNome(), antecedencia, meta.getDataLimite()));
+                }
+            }
+            default -> throw new IllegalArgumentException("Entidade sem prazo: " + tipo.getRecurso());
+        }
+        return lembretes;
+    }
+}
@@ -0,0 +1,11 @@
+package com.mentorize.lembrete;
+
+/**
+ * Para onde os lembretes vão (e-mail, push, fila...). Cada bean que implementa esta interface
+ * recebe todos os lembretes, em ordem de horário, na thread do agendador: implementações lentas
+ * devem repassar o envio para outra thread. Uma exceção é registrada e não interrompe os demais.
+ */
+public interface DestinoLembretes {
+
+    void enviar(Lembrete lembrete);
+}
@@ -0,0 +1,40 @@
+package com.mentorize.lembrete;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Destino para desenvolvimento e testes: registra cada lembrete no log e, com
+ * {@code mentorize.lembretes.arquivo}, acrescenta uma linha por lembrete nesse arquivo.
+ */
+@Component
+@ConditionalOnProperty(name = "mentorize.lembretes.destino-local", havingValue = "true", matchIfMissing = true)
+public class DestinoLembretesLocal implements DestinoLembretes {
+
+    private static final Logger log = LoggerFactory.getLogger(DestinoLembretesLocal.class);
+
+    @Value("${mentorize.lembretes.arquivo:}")
+    private String arquivo;
+
+    @Override
+    public synchronized void enviar(Lembrete lembrete) {
+        log.info("Lembrete: {}", lembrete);
+        if (arquivo.isBlank()) return;
+        try {
+            Files.writeString(Path.of(arquivo), lembrete + System.lineSeparator(), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar lembrete em " + arquivo, e);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.mentorize.lembrete;
+
+import com.mentorize.event.TipoEntidade;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Aviso de prazo de uma tarefa, estudo ou meta pendente. {@code horario} é o instante previsto
+ * (vencimento menos a antecedência); após uma parada o aviso pode ser entregue depois dele.
+ */
+public class Lembrete {
+
+    public enum Antecedencia {
+        UM_DIA(Duration.ofHours(24)),
+        UMA_HORA(Duration.ofHours(1)),
+        NO_PRAZO(Duration.ZERO);
+
+        private final Duration duracao;
+
+        Antecedencia(Duration duracao) {
+            this.duracao = duracao;
+        }
+
+        public Duration getDuracao() {
+            return duracao;
+        }
+    }
+
+    private final TipoEntidade tipo;
+    private final Long id;
+    private final String titulo;
+    private final Antecedencia antecedencia;
+    private final LocalDateTime vencimento;
+
+    public Lembrete(TipoEntidade tipo, Long id, String titulo, Antecedencia antecedencia, LocalDateTime vencimento) {
+        this.tipo = tipo;
+        this.id = id;
+        this.titulo = titulo;
+        this.antecedencia = antecedencia;
+        this.vencimento = vencimento;
+    }
+
+    public TipoEntidade getTipo() { return tipo; }
+
+    public Long getId() { return id; }
+
+    public String getTitulo() { return titulo; }
+
+    public Antecedencia getAntecedencia() { return antecedencia; }
+
+    public LocalDateTime getVencimento() { return vencimento; }
+
+    public LocalDateTime getHorario() {
+        return vencimento.minus(antecedencia.getDuracao());
+    }
+
+    @Override
+    public String toString() {
+        return getHorario() + " " + antecedencia + " " + tipo.getRecurso() + "/" + id
+                + " vence " + vencimento + " \"" + titulo + "\"";
+    }
+}
@@ -0,0 +1,81 @@
+package com.mentorize.metricas;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Registra quantas linhas cada método de repositório devolve (mentorize.repository.rows), com as
+ * mesmas tags repository/method de spring.data.repository.invocations. Consultas que retornam
+ * contagens, somas ou void não são medidas; streams também não, pois contá-los os consumiria.
+ */
+@Aspect
+@Component
+public class LinhasRetornadasAspect {
+
+    public static final String METRICA = "mentorize.repository.rows";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<Class<?>, String> nomesRepositorios = new ConcurrentHashMap<>();
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object medir(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object resultado = joinPoint.proceed();
+        if (!devolveLinhas(((MethodSignature) joinPoint.getSignature()).getReturnType())) return resultado;
+        DistributionSummary.builder(METRICA)
+                .description("Linhas devolvidas por método de repositório")
+                .baseUnit("rows")
+                .tag("repository", nomeRepositorio(joinPoint.getThis()))
+                .tag("method", joinPoint.getSignature().getName())
+                .register(meterRegistry)
+                .record(contar(resultado));
+        return resultado;
+    }
+
+    private boolean devolveLinhas(Class<?> tipo) {
+        return !tipo.isPrimitive() && !Number.class.isAssignableFrom(tipo) && tipo != Boolean.class
+                && !Stream.class.isAssignableFrom(tipo);
+    }
+
+    private long contar(Object resultado) {
+        if (resultado == null) return 0;
+        if (resultado instanceof Collection<?> colecao) return colecao.size();
+        if (resultado instanceof Slice<?> pagina) return pagina.getNumberOfElements();
+        if (resultado instanceof Optional<?> opcional) return opcional.isPresent() ? 1 : 0;
+        if (resultado instanceof Iterable<?> iteravel) {
+            long total = 0;
+            for (Object ignorado : iteravel) total++;
+            return total;
+        }
+        return 1;
+    }
+
+    // Métodos herdados (findAll, findById...) são declarados em JpaRepository; a tag usa a interface da aplicação
+    private String nomeRepositorio(Object proxy) {
+        return nomesRepositorios.computeIfAbsent(proxy.getClass(), classe -> {
+            for (Class<?> interfaceRepositorio : ClassUtils.getAllInterfacesForClassAsSet(classe)) {
+                if (Repository.class.isAssignableFrom(interfaceRepositorio)
+                        && interfaceRepositorio.getName().startsWith("com.mentorize.")) {
+                    return interfaceRepositorio.getSimpleName();
+                }
+            }
+            return classe.getSimpleName();
+        });
+    }
+}
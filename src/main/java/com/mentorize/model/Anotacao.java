@@ -8,9 +8,15 @@ import java.time.LocalDateTime;
 public class Anotacao {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "anotacoes_seq")
+    @SequenceGenerator(name = "anotacoes_seq", sequenceName = "anotacoes_seq", allocationSize = 50)
     private Long id;
 
+    // Incrementada pelo Hibernate a cada UPDATE; compõe o ETag do GET por id
+    @Version
+    @Column(nullable = false)
+    private long versao;
+
     @Column(nullable = false, length = 255)
     private String titulo;
 
@@ -56,6 +62,9 @@ public class Anotacao {
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
 
+    public long getVersao() { return versao; }
+    public void setVersao(long versao) { this.versao = versao; }
+
     public String getTitulo() { return titulo; }
     public void setTitulo(String titulo) { this.titulo = titulo; }
 
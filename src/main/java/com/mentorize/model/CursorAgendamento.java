@@ -0,0 +1,31 @@
+package com.mentorize.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Até onde um agendador já processou (ver AgendadorLembretes)
+@Entity
+@Table(name = "cursores_agendamento")
+public class CursorAgendamento {
+
+    @Id
+    @Column(nullable = false, length = 50)
+    private String nome;
+
+    @Column(name = "processado_ate", nullable = false)
+    private LocalDateTime processadoAte;
+
+    public CursorAgendamento() {}
+
+    public CursorAgendamento(String nome, LocalDateTime processadoAte) {
+        this.nome = nome;
+        this.processadoAte = processadoAte;
+    }
+
+    // Getters e Setters
+    public String getNome() { return nome; }
+    public void setNome(String nome) { this.nome = nome; }
+
+    public LocalDateTime getProcessadoAte() { return processadoAte; }
+    public void setProcessadoAte(LocalDateTime processadoAte) { this.processadoAte = processadoAte; }
+}
@@ -9,9 +9,15 @@ import java.time.LocalDateTime;
 public class Estudo {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "estudos_seq")
+    @SequenceGenerator(name = "estudos_seq", sequenceName = "estudos_seq", allocationSize = 50)
     private Long id;
 
+    // Incrementada pelo Hibernate a cada UPDATE; compõe o ETag do GET por id
+    @Version
+    @Column(nullable = false)
+    private long versao;
+
     @Column(nullable = false, length = 255)
     private String titulo;
 
@@ -36,6 +42,16 @@ public class Estudo {
     @Column(name = "data_criacao", nullable = false)
     private LocalDateTime dataCriacao;
 
+    @Column(name = "data_atualizacao")
+    private LocalDateTime dataAtualizacao;
+
+    // Marca d'água do /sync: inserções e alterações avançam a data
+    @PrePersist
+    @PreUpdate
+    public void aoSalvar() {
+        this.dataAtualizacao = LocalDateTime.now();
+    }
+
     // Construtor
     public Estudo() {
         this.dataCriacao = LocalDateTime.now();
@@ -55,6 +71,9 @@ public class Estudo {
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
 
+    public long getVersao() { return versao; }
+    public void setVersao(long versao) { this.versao = versao; }
+
     public String getTitulo() { return titulo; }
     public void setTitulo(String titulo) { this.titulo = titulo; }
 
@@ -78,4 +97,7 @@ public class Estudo {
 
     public LocalDateTime getDataCriacao() { return dataCriacao; }
     public void setDataCriacao(LocalDateTime dataCriacao) { this.dataCriacao = dataCriacao; }
+
+    public LocalDateTime getDataAtualizacao() { return dataAtualizacao; }
+    public void setDataAtualizacao(LocalDateTime dataAtualizacao) { this.dataAtualizacao = dataAtualizacao; }
 }
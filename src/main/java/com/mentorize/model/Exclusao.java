@@ -0,0 +1,49 @@
+package com.mentorize.model;
+
+import com.mentorize.event.TipoEntidade;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Registro de exclusão (tombstone) para que o /sync informe o que deixou de existir
+@Entity
+@Table(name = "exclusoes")
+public class Exclusao {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "exclusoes_seq")
+    @SequenceGenerator(name = "exclusoes_seq", sequenceName = "exclusoes_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TipoEntidade tipo;
+
+    @Column(name = "entidade_id", nullable = false)
+    private Long entidadeId;
+
+    @Column(name = "data_exclusao", nullable = false)
+    private LocalDateTime dataExclusao;
+
+    public Exclusao() {
+        this.dataExclusao = LocalDateTime.now();
+    }
+
+    public Exclusao(TipoEntidade tipo, Long entidadeId) {
+        this();
+        this.tipo = tipo;
+        this.entidadeId = entidadeId;
+    }
+
+    // Getters e Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public TipoEntidade getTipo() { return tipo; }
+    public void setTipo(TipoEntidade tipo) { this.tipo = tipo; }
+
+    public Long getEntidadeId() { return entidadeId; }
+    public void setEntidadeId(Long entidadeId) { this.entidadeId = entidadeId; }
+
+    public LocalDateTime getDataExclusao() { return dataExclusao; }
+    public void setDataExclusao(LocalDateTime dataExclusao) { this.dataExclusao = dataExclusao; }
+}
@@ -8,9 +8,15 @@ import java.time.LocalDateTime;
 public class Meta {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "metas_seq")
+    @SequenceGenerator(name = "metas_seq", sequenceName = "metas_seq", allocationSize = 50)
     private Long id;
 
+    // Incrementada pelo Hibernate a cada UPDATE; compõe o ETag do GET por id
+    @Version
+    @Column(nullable = false)
+    private long versao;
+
     @Column(nullable = false, length = 255)
     private String nome;
 
@@ -32,6 +38,16 @@ public class Meta {
     @Column(nullable = false)
     private boolean concluida = false;
 
+    @Column(name = "data_atualizacao")
+    private LocalDateTime dataAtualizacao;
+
+    // Marca d'água do /sync: inserções e alterações avançam a data
+    @PrePersist
+    @PreUpdate
+    public void aoSalvar() {
+        this.dataAtualizacao = LocalDateTime.now();
+    }
+
     // Construtor padrão
     public Meta() {
         this.dataInicio = LocalDateTime.now();
@@ -57,6 +73,14 @@ public class Meta {
         this.id = id; 
     }
 
+    public long getVersao() { 
+        return versao; 
+    }
+    
+    public void setVersao(long versao) { 
+        this.versao = versao; 
+    }
+
     public String getNome() { 
         return nome; 
     }
@@ -108,12 +132,22 @@ public class Meta {
         this.dataLimite = dataLimite; 
     }
 
+    public LocalDateTime getDataAtualizacao() { 
+        return dataAtualizacao; 
+    }
+    
+    public void setDataAtualizacao(LocalDateTime dataAtualizacao) { 
+        this.dataAtualizacao = dataAtualizacao; 
+    }
+
     public boolean isConcluida() { 
         return this.progresso >= 100 || this.concluida; 
     }
     
+    // Progresso 100 sempre conta como concluída; as consultas filtram pela coluna e os UPDATEs
+    // pontuais de MetaRepository dependem disso
     public void setConcluida(boolean concluida) { 
-        this.concluida = concluida;
+        this.concluida = concluida || this.progresso >= 100;
         if (concluida && this.progresso < 100) {
             this.progresso = 100;
         }
@@ -121,23 +155,27 @@ public class Meta {
 
     // Método utilitário para verificar se a meta está atrasada
     public boolean isAtrasada() {
-        return !this.concluida && 
-               this.dataLimite != null && 
-               this.dataLimite.isBefore(LocalDateTime.now());
+        return isAtrasada(this.concluida, this.dataLimite, LocalDateTime.now());
     }
 
     // Método para calcular dias restantes
     public Long getDiasRestantes() {
-        if (this.dataLimite == null || this.concluida) {
+        return diasRestantes(this.concluida, this.dataLimite, LocalDateTime.now());
+    }
+
+    // Versões sem entidade, usadas também pela projeção em MetaDTO
+    public static boolean isAtrasada(boolean concluida, LocalDateTime dataLimite, LocalDateTime agora) {
+        return !concluida && dataLimite != null && dataLimite.isBefore(agora);
+    }
+
+    public static Long diasRestantes(boolean concluida, LocalDateTime dataLimite, LocalDateTime agora) {
+        if (dataLimite == null || concluida) {
             return null;
         }
-        
-        LocalDateTime agora = LocalDateTime.now();
-        if (agora.isAfter(this.dataLimite)) {
+        if (agora.isAfter(dataLimite)) {
             return 0L;
         }
-        
-        return java.time.Duration.between(agora, this.dataLimite).toDays();
+        return java.time.Duration.between(agora, dataLimite).toDays();
     }
 
     // Método para incrementar progresso
@@ -0,0 +1,74 @@
+package com.mentorize.model;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+// Totais de estudos por dia de criação e matéria (ver ResumoEstudosService)
+@Entity
+@Table(name = "estudos_resumo_diario")
+@IdClass(ResumoEstudoDiario.Chave.class)
+public class ResumoEstudoDiario {
+
+    @Id
+    @Column(nullable = false)
+    private LocalDate dia;
+
+    @Id
+    @Column(nullable = false, length = 100)
+    private String materia;
+
+    @Column(nullable = false)
+    private long estudos;
+
+    @Column(nullable = false)
+    private long concluidos;
+
+    @Column(name = "minutos_concluidos", nullable = false)
+    private long minutosConcluidos;
+
+    // Getters e Setters
+    public LocalDate getDia() { return dia; }
+    public void setDia(LocalDate dia) { this.dia = dia; }
+
+    public String getMateria() { return materia; }
+    public void setMateria(String materia) { this.materia = materia; }
+
+    public long getEstudos() { return estudos; }
+    public void setEstudos(long estudos) { this.estudos = estudos; }
+
+    public long getConcluidos() { return concluidos; }
+    public void setConcluidos(long concluidos) { this.concluidos = concluidos; }
+
+    public long getMinutosConcluidos() { return minutosConcluidos; }
+    public void setMinutosConcluidos(long minutosConcluidos) { this.minutosConcluidos = minutosConcluidos; }
+
+    public static class Chave implements Serializable {
+        private LocalDate dia;
+        private String materia;
+
+        public Chave() {}
+
+        public Chave(LocalDate dia, String materia) {
+            this.dia = dia;
+            this.materia = materia;
+        }
+
+        public LocalDate getDia() { return dia; }
+
+        public String getMateria() { return materia; }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Chave chave)) return false;
+            return Objects.equals(dia, chave.dia) && Objects.equals(materia, chave.materia);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(dia, materia);
+        }
+    }
+}
@@ -39,9 +39,15 @@ public class Tarefa {
     // --------------------------
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tarefas_seq")
+    @SequenceGenerator(name = "tarefas_seq", sequenceName = "tarefas_seq", allocationSize = 50)
     private Long id;
 
+    // Incrementada pelo Hibernate a cada UPDATE; compõe o ETag do GET por id
+    @Version
+    @Column(nullable = false)
+    private long versao;
+
     @Column(nullable = false, length = 255)
     private String titulo;
 
@@ -86,6 +92,12 @@ public class Tarefa {
             if (this.categoria == null) this.categoria = Categoria.STUDY;
         }
 
+        // Marca d'água do /sync: toda alteração precisa avançar a data
+        @PreUpdate
+        public void aoAtualizar() {
+            this.dataAtualizacao = LocalDateTime.now();
+        }
+
     // --------------------------
     // CONSTRUTORES
     // --------------------------
@@ -109,6 +121,9 @@ public class Tarefa {
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
 
+    public long getVersao() { return versao; }
+    public void setVersao(long versao) { this.versao = versao; }
+
     public String getTitulo() { return titulo; }
     public void setTitulo(String titulo) { this.titulo = titulo; }
 
@@ -1,19 +1,43 @@
 package com.mentorize.repository;
 
+import com.mentorize.dto.AnotacaoDTO;
 import com.mentorize.model.Anotacao;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface AnotacaoRepository extends JpaRepository<Anotacao, Long> {
-    
-    List<Anotacao> findAllByOrderByDataCriacaoDesc();
-    List<Anotacao> findByTituloContainingIgnoreCase(String titulo);
-    List<Anotacao> findTop5ByOrderByDataCriacaoDesc();
+
+    // Leituras projetadas direto no DTO (métodos *DTO); ver TarefaRepository
+    String SELECT_DTO = "SELECT new com.mentorize.dto.AnotacaoDTO(a.id, a.versao, a.titulo, a.conteudo, "
+            + "a.dataCriacao, a.dataAtualizacao) FROM Anotacao a";
+
+    @Query(SELECT_DTO + " ORDER BY a.dataCriacao DESC")
+    List<AnotacaoDTO> findTodasDTO();
+
+    @Query(SELECT_DTO + " WHERE a.id = :id")
+    Optional<AnotacaoDTO> findByIdDTO(@Param("id") Long id);
+
+    @Query(SELECT_DTO + " WHERE a.id IN :ids")
+    List<AnotacaoDTO> findByIdsDTO(@Param("ids") Collection<Long> ids);
+
+    @Query(SELECT_DTO + " WHERE LOWER(a.titulo) LIKE LOWER(CONCAT('%', :titulo, '%'))")
+    List<AnotacaoDTO> findByTituloDTO(@Param("titulo") String titulo);
+
+    @Query(SELECT_DTO + " ORDER BY a.dataCriacao DESC")
+    List<AnotacaoDTO> findRecentesDTO(Pageable pageable);
     
     @Query("SELECT a FROM Anotacao a WHERE LOWER(a.conteudo) LIKE LOWER(CONCAT('%', :termo, '%'))")
     List<Anotacao> findByConteudoContaining(@Param("termo") String termo);
@@ -23,4 +47,28 @@ public interface AnotacaoRepository extends JpaRepository<Anotacao, Long> {
     
     @Query("SELECT a FROM Anotacao a WHERE a.dataCriacao >= :data")
     List<Anotacao> findFromDate(@Param("data") java.time.LocalDateTime data);
-}
\ No newline at end of file
+    
+    // Paginação por cursor (keyset): primeira página
+    List<Anotacao> findAllByOrderByDataCriacaoDescIdDesc(Pageable pageable);
+    
+    // Paginação por cursor (keyset): itens após (data, id) na ordem dataCriacao DESC, id DESC
+    @Query("SELECT a FROM Anotacao a WHERE a.dataCriacao <= :data AND (a.dataCriacao < :data OR a.id < :id) ORDER BY a.dataCriacao DESC, a.id DESC")
+    List<Anotacao> findPaginaApos(@Param("data") LocalDateTime data, @Param("id") Long id, Pageable pageable);
+
+    @Query(SELECT_DTO + " ORDER BY a.dataCriacao DESC, a.id DESC")
+    List<AnotacaoDTO> findPrimeiraPaginaDTO(Pageable pageable);
+
+    @Query(SELECT_DTO + " WHERE a.dataCriacao <= :data AND (a.dataCriacao < :data OR a.id < :id) ORDER BY a.dataCriacao DESC, a.id DESC")
+    List<AnotacaoDTO> findPaginaAposDTO(@Param("data") LocalDateTime data, @Param("id") Long id, Pageable pageable);
+    
+    // Leitura em fluxo para exportação: cursor com fetch size fixo e entidades somente leitura.
+    // Precisa ser consumido dentro de uma transação.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Anotacao> streamAllByOrderByIdAsc();
+
+    // Inseridos ou alterados desde a marca d'água (/sync)
+    List<Anotacao> findByDataAtualizacaoGreaterThanEqual(LocalDateTime desde);
+}
@@ -0,0 +1,9 @@
+package com.mentorize.repository;
+
+import com.mentorize.model.CursorAgendamento;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CursorAgendamentoRepository extends JpaRepository<CursorAgendamento, String> {
+}
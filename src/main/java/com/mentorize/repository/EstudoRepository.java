@@ -1,20 +1,47 @@
 package com.mentorize.repository;
 
+import com.mentorize.dto.EstudoDTO;
 import com.mentorize.model.Estudo;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface EstudoRepository extends JpaRepository<Estudo, Long> {
-    
-    List<Estudo> findAllByOrderByDataCriacaoDesc();
-    List<Estudo> findByConcluidoFalse();
-    List<Estudo> findByMateria(String materia);
-    List<Estudo> findTop10ByOrderByDataCriacaoDesc();
+
+    // Leituras projetadas direto no DTO (métodos *DTO); ver TarefaRepository
+    String SELECT_DTO = "SELECT new com.mentorize.dto.EstudoDTO(e.id, e.versao, e.titulo, e.descricao, e.materia, "
+            + "e.prazo, e.concluido, e.duracao, e.anotacoes, e.dataCriacao, e.dataAtualizacao) FROM Estudo e";
+
+    @Query(SELECT_DTO + " ORDER BY e.dataCriacao DESC")
+    List<EstudoDTO> findTodosDTO();
+
+    @Query(SELECT_DTO + " WHERE e.id = :id")
+    Optional<EstudoDTO> findByIdDTO(@Param("id") Long id);
+
+    @Query(SELECT_DTO + " WHERE e.id IN :ids")
+    List<EstudoDTO> findByIdsDTO(@Param("ids") Collection<Long> ids);
+
+    @Query(SELECT_DTO + " WHERE e.concluido = false")
+    List<EstudoDTO> findPendentesDTO();
+
+    @Query(SELECT_DTO + " WHERE e.materia = :materia")
+    List<EstudoDTO> findByMateriaDTO(@Param("materia") String materia);
+
+    @Query(SELECT_DTO + " ORDER BY e.dataCriacao DESC")
+    List<EstudoDTO> findRecentesDTO(Pageable pageable);
     
     @Query("SELECT e FROM Estudo e WHERE e.concluido = true AND e.dataCriacao >= :data")
     List<Estudo> findConcluidosFromDate(@Param("data") java.time.LocalDateTime data);
@@ -30,4 +57,42 @@ public interface EstudoRepository extends JpaRepository<Estudo, Long> {
     
     @Query("SELECT AVG(e.duracao) FROM Estudo e WHERE e.concluido = true")
     Double avgDuracaoConcluidos();
-}
\ No newline at end of file
+    
+    @Query("SELECT COUNT(e) FROM Estudo e WHERE e.concluido = false AND e.prazo IS NOT NULL AND e.prazo < CURRENT_DATE")
+    Long countEstudosAtrasados();
+    
+    // Prazos pendentes (id, prazo, versão) para carregar o índice de prazos
+    @Query("SELECT e.id, e.prazo, e.versao FROM Estudo e WHERE e.concluido = false AND e.prazo IS NOT NULL")
+    List<Object[]> findPrazosPendentes();
+    
+    // Paginação por cursor (keyset): primeira página
+    List<Estudo> findAllByOrderByDataCriacaoDescIdDesc(Pageable pageable);
+    
+    // Paginação por cursor (keyset): itens após (data, id) na ordem dataCriacao DESC, id DESC
+    @Query("SELECT e FROM Estudo e WHERE e.dataCriacao <= :data AND (e.dataCriacao < :data OR e.id < :id) ORDER BY e.dataCriacao DESC, e.id DESC")
+    List<Estudo> findPaginaApos(@Param("data") LocalDateTime data, @Param("id") Long id, Pageable pageable);
+
+    @Query(SELECT_DTO + " ORDER BY e.dataCriacao DESC, e.id DESC")
+    List<EstudoDTO> findPrimeiraPaginaDTO(Pageable pageable);
+
+    @Query(SELECT_DTO + " WHERE e.dataCriacao <= :data AND (e.dataCriacao < :data OR e.id < :id) ORDER BY e.dataCriacao DESC, e.id DESC")
+    List<EstudoDTO> findPaginaAposDTO(@Param("data") LocalDateTime data, @Param("id") Long id, Pageable pageable);
+    
+    // Leitura em fluxo para exportação: cursor com fetch size fixo e entidades somente leitura.
+    // Precisa ser consumido dentro de uma transação.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Estudo> streamAllByOrderByIdAsc();
+
+    // Inseridos ou alterados desde a marca d'água (/sync)
+    List<Estudo> findByDataAtualizacaoGreaterThanEqual(LocalDateTime desde);
+
+    // Transição atômica: só conclui se ainda estiver pendente (0 linhas = já concluído ou inexistente).
+    // Versão e data de atualização são mantidas à mão porque o UPDATE em massa ignora @Version e @PreUpdate.
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Estudo e SET e.concluido = true, e.dataAtualizacao = :agora, e.versao = e.versao + 1 " +
+           "WHERE e.id = :id AND e.concluido = false")
+    int concluir(@Param("id") Long id, @Param("agora") LocalDateTime agora);
+}
@@ -0,0 +1,24 @@
+package com.mentorize.repository;
+
+import com.mentorize.model.Exclusao;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ExclusaoRepository extends JpaRepository<Exclusao, Long> {
+
+    List<Exclusao> findByDataExclusaoGreaterThanEqual(LocalDateTime desde);
+
+    // Um único DELETE, sem carregar os registros
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Exclusao e WHERE e.dataExclusao < :limite")
+    int deleteAnteriores(@Param("limite") LocalDateTime limite);
+}
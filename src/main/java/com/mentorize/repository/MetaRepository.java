@@ -1,42 +1,131 @@
 package com.mentorize.repository;
 
+import com.mentorize.dto.MetaDTO;
 import com.mentorize.model.Meta;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface MetaRepository extends JpaRepository<Meta, Long> {
-    
+
+    // Leituras projetadas direto no DTO (métodos *DTO); ver TarefaRepository
+    String SELECT_DTO = "SELECT new com.mentorize.dto.MetaDTO(m.id, m.versao, m.nome, m.descricao, m.progresso, "
+            + "m.tipo, m.dataInicio, m.dataLimite, m.dataAtualizacao, m.concluida) FROM Meta m";
+
+    @Query(SELECT_DTO)
+    List<MetaDTO> findTodasDTO();
+
+    @Query(SELECT_DTO + " WHERE m.id = :id")
+    Optional<MetaDTO> findByIdDTO(@Param("id") Long id);
+
+    @Query(SELECT_DTO + " WHERE m.id IN :ids")
+    List<MetaDTO> findByIdsDTO(@Param("ids") Collection<Long> ids);
+
     // Buscar metas não concluídas
-    List<Meta> findByConcluidaFalse();
+    @Query(SELECT_DTO + " WHERE m.concluida = false")
+    List<MetaDTO> findPendentesDTO();
     
     // Buscar metas por tipo
-    List<Meta> findByTipo(String tipo);
+    @Query(SELECT_DTO + " WHERE m.tipo = :tipo")
+    List<MetaDTO> findByTipoDTO(@Param("tipo") String tipo);
     
     // Buscar metas com progresso maior ou igual ao especificado
     List<Meta> findByProgressoGreaterThanEqual(int progresso);
     
-    // Buscar metas atrasadas
-    @Query("SELECT m FROM Meta m WHERE m.dataLimite < CURRENT_TIMESTAMP AND m.concluida = false")
-    List<Meta> findMetasAtrasadas();
+    // Metas ativas com maior progresso (destaques do dashboard)
+    @Query(SELECT_DTO + " WHERE m.concluida = false ORDER BY m.progresso DESC")
+    List<MetaDTO> findDestaquesDTO(Pageable pageable);
+    
+    // Prazos pendentes (id, data limite, versão) para carregar o índice de prazos
+    @Query("SELECT m.id, m.dataLimite, m.versao FROM Meta m WHERE m.concluida = false AND m.dataLimite IS NOT NULL")
+    List<Object[]> findPrazosPendentes();
     
     // Contar metas concluídas
     @Query("SELECT COUNT(m) FROM Meta m WHERE m.concluida = true")
     Long countConcluidas();
     
+    // Contar metas atrasadas
+    @Query("SELECT COUNT(m) FROM Meta m WHERE m.dataLimite < CURRENT_TIMESTAMP AND m.concluida = false")
+    Long countMetasAtrasadas();
+    
+    // Contar metas agrupadas por tipo
+    @Query("SELECT m.tipo, COUNT(m) FROM Meta m GROUP BY m.tipo")
+    List<Object[]> countPorTipo();
+    
     // Média de progresso das metas ativas
     @Query("SELECT AVG(m.progresso) FROM Meta m WHERE m.concluida = false")
     Double avgProgressoMetasAtivas();
     
-    // Buscar metas que expiram em até X dias
-    @Query("SELECT m FROM Meta m WHERE m.dataLimite BETWEEN CURRENT_TIMESTAMP AND :dataLimite AND m.concluida = false")
-    List<Meta> findMetasExpirandoEm(@Param("dataLimite") java.time.LocalDateTime dataLimite);
-    
     // Buscar metas por palavra-chave no nome ou descrição
     @Query("SELECT m FROM Meta m WHERE LOWER(m.nome) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(m.descricao) LIKE LOWER(CONCAT('%', :keyword, '%'))")
     List<Meta> findByKeyword(@Param("keyword") String keyword);
-}
\ No newline at end of file
+    
+    // Paginação por cursor (keyset): primeira página
+    List<Meta> findAllByOrderByDataInicioDescIdDesc(Pageable pageable);
+    
+    // Paginação por cursor (keyset): itens após (data, id) na ordem dataInicio DESC, id DESC
+    @Query("SELECT m FROM Meta m WHERE m.dataInicio <= :data AND (m.dataInicio < :data OR m.id < :id) ORDER BY m.dataInicio DESC, m.id DESC")
+    List<Meta> findPaginaApos(@Param("data") LocalDateTime data, @Param("id") Long id, Pageable pageable);
+
+    @Query(SELECT_DTO + " ORDER BY m.dataInicio DESC, m.id DESC")
+    List<MetaDTO> findPrimeiraPaginaDTO(Pageable pageable);
+
+    @Query(SELECT_DTO + " WHERE m.dataInicio <= :data AND (m.dataInicio < :data OR m.id < :id) ORDER BY m.dataInicio DESC, m.id DESC")
+    List<MetaDTO> findPaginaAposDTO(@Param("data") LocalDateTime data, @Param("id") Long id, Pageable pageable);
+    
+    // Leitura em fluxo para exportação: cursor com fetch size fixo e entidades somente leitura.
+    // Precisa ser consumido dentro de uma transação.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Meta> streamAllByOrderByIdAsc();
+
+    // Inseridos ou alterados desde a marca d'água (/sync)
+    List<Meta> findByDataAtualizacaoGreaterThanEqual(LocalDateTime desde);
+
+    // Transição atômica para concluída: só afeta metas ainda pendentes (0 linhas = já concluída ou inexistente).
+    // Versão e data de atualização são mantidas à mão porque o UPDATE em massa ignora @Version e @PreUpdate.
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Meta m SET m.progresso = 100, m.concluida = true, m.dataAtualizacao = :agora, " +
+           "m.versao = m.versao + 1 WHERE m.id = :id AND m.concluida = false AND m.progresso < 100")
+    int concluir(@Param("id") Long id, @Param("agora") LocalDateTime agora);
+
+    // Grava o progresso já normalizado (0..100); chegar a 100 também marca como concluída, como em Meta.setProgresso
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Meta m SET m.progresso = :progresso, " +
+           "m.concluida = CASE WHEN :progresso >= 100 THEN true ELSE m.concluida END, " +
+           "m.dataAtualizacao = :agora, m.versao = m.versao + 1 WHERE m.id = :id")
+    int atualizarProgresso(@Param("id") Long id, @Param("progresso") int progresso, @Param("agora") LocalDateTime agora);
+
+    // Incremento que leva a meta a 100: mesma transição condicional de concluir, mas a partir do valor atual.
+    // Uma meta pendente já com progresso 100 (estado inconsistente) também é concluída aqui.
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Meta m SET m.progresso = 100, m.concluida = true, m.dataAtualizacao = :agora, " +
+           "m.versao = m.versao + 1 WHERE m.id = :id AND m.concluida = false AND m.progresso + :delta >= 100")
+    int concluirPorIncremento(@Param("id") Long id, @Param("delta") int delta, @Param("agora") LocalDateTime agora);
+
+    // Incremento limitado a 0..100 calculado no banco, sem leitura prévia. Não afeta metas pendentes que
+    // chegariam a 100 vindas de baixo (essas passam por concluirPorIncremento), então a situação de conclusão
+    // não muda aqui. Com concluirPorIncremento cobre todos os estados: para uma meta existente um dos dois
+    // sempre afeta a linha.
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Meta m SET m.progresso = CASE WHEN m.progresso + :delta < 0 THEN 0 " +
+           "WHEN m.progresso + :delta > 100 THEN 100 ELSE m.progresso + :delta END, " +
+           "m.dataAtualizacao = :agora, m.versao = m.versao + 1 " +
+           "WHERE m.id = :id AND (m.concluida = true OR m.progresso + :delta < 100 OR m.progresso >= 100)")
+    int incrementarProgresso(@Param("id") Long id, @Param("delta") int delta, @Param("agora") LocalDateTime agora);
+}
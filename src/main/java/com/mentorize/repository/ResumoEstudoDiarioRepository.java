@@ -0,0 +1,64 @@
+package com.mentorize.repository;
+
+import com.mentorize.model.ResumoEstudoDiario;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ResumoEstudoDiarioRepository extends JpaRepository<ResumoEstudoDiario, ResumoEstudoDiario.Chave> {
+
+    // Soma as diferenças ao balde, criando-o se ainda não existir (MySQL e H2 no modo MySQL)
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO estudos_resumo_diario (dia, materia, estudos, concluidos, minutos_concluidos) " +
+                   "VALUES (:dia, :materia, :estudos, :concluidos, :minutos) ON DUPLICATE KEY UPDATE " +
+                   "estudos = estudos + :estudos, concluidos = concluidos + :concluidos, " +
+                   "minutos_concluidos = minutos_concluidos + :minutos", nativeQuery = true)
+    int somar(@Param("dia") LocalDate dia, @Param("materia") String materia, @Param("estudos") long estudos,
+              @Param("concluidos") long concluidos, @Param("minutos") long minutos);
+
+    // Baldes que ficaram sem estudos depois de exclusões ou mudanças de matéria
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ResumoEstudoDiario r WHERE r.dia = :dia AND r.materia = :materia AND r.estudos <= 0")
+    int deleteSeVazio(@Param("dia") LocalDate dia, @Param("materia") String materia);
+
+    @Query("SELECT SUM(r.estudos) FROM ResumoEstudoDiario r")
+    Long sumEstudos();
+
+    @Query("SELECT SUM(r.concluidos) FROM ResumoEstudoDiario r")
+    Long sumConcluidos();
+
+    @Query("SELECT SUM(r.minutosConcluidos) FROM ResumoEstudoDiario r")
+    Long sumMinutosConcluidos();
+
+    @Query("SELECT r.materia, SUM(r.estudos) FROM ResumoEstudoDiario r GROUP BY r.materia")
+    List<Object[]> countByMateria();
+
+    @Query("SELECT r FROM ResumoEstudoDiario r WHERE r.dia BETWEEN :inicio AND :fim ORDER BY r.dia, r.materia")
+    List<ResumoEstudoDiario> findPeriodo(@Param("inicio") LocalDate inicio, @Param("fim") LocalDate fim);
+
+    @Query("SELECT r FROM ResumoEstudoDiario r WHERE r.dia BETWEEN :inicio AND :fim AND r.materia = :materia ORDER BY r.dia")
+    List<ResumoEstudoDiario> findPeriodoPorMateria(@Param("inicio") LocalDate inicio, @Param("fim") LocalDate fim,
+                                                   @Param("materia") String materia);
+
+    // Reconstrução completa a partir da tabela estudos (mesma consulta da migração V4)
+    @Modifying
+    @Query(value = "DELETE FROM estudos_resumo_diario", nativeQuery = true)
+    int deleteTodos();
+
+    @Modifying
+    @Query(value = "INSERT INTO estudos_resumo_diario (dia, materia, estudos, concluidos, minutos_concluidos) " +
+                   "SELECT CAST(data_criacao AS DATE), materia, COUNT(*), " +
+                   "SUM(CASE WHEN concluido = TRUE THEN 1 ELSE 0 END), " +
+                   "SUM(CASE WHEN concluido = TRUE THEN duracao ELSE 0 END) " +
+                   "FROM estudos GROUP BY CAST(data_criacao AS DATE), materia", nativeQuery = true)
+    int reconstruir();
+}
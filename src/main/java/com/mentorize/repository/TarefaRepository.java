@@ -1,28 +1,54 @@
 package com.mentorize.repository;
 
+import com.mentorize.dto.TarefaDTO;
 import com.mentorize.model.Tarefa;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TarefaRepository extends JpaRepository<Tarefa, Long> {
-    
+
+    // Leituras projetadas direto no DTO (métodos *DTO): sem entidade no contexto de persistência,
+    // sem snapshot para dirty checking e sem cópia campo a campo
+    String SELECT_DTO = "SELECT new com.mentorize.dto.TarefaDTO(t.id, t.versao, t.titulo, t.descricao, t.concluida, "
+            + "t.prazo, t.prioridade, t.categoria, t.dataCriacao, t.dataAtualizacao, t.dataConclusao) FROM Tarefa t";
+
+    @Query(SELECT_DTO)
+    List<TarefaDTO> findTodasDTO();
+
+    @Query(SELECT_DTO + " WHERE t.id = :id")
+    Optional<TarefaDTO> findByIdDTO(@Param("id") Long id);
+
+    @Query(SELECT_DTO + " WHERE t.id IN :ids")
+    List<TarefaDTO> findByIdsDTO(@Param("ids") Collection<Long> ids);
+
     // Buscar tarefas não concluídas
-    List<Tarefa> findByConcluidaFalse();
+    @Query(SELECT_DTO + " WHERE t.concluida = false")
+    List<TarefaDTO> findPendentesDTO();
     
     // Buscar tarefas por prioridade
-    List<Tarefa> findByPrioridade(Tarefa.Prioridade prioridade);
+    @Query(SELECT_DTO + " WHERE t.prioridade = :prioridade")
+    List<TarefaDTO> findByPrioridadeDTO(@Param("prioridade") Tarefa.Prioridade prioridade);
     
     // Buscar tarefas por categoria
     List<Tarefa> findByCategoria(String categoria);
     
     // Buscar tarefas com prazo definido e não concluídas, ordenadas por prazo
-    @Query("SELECT t FROM Tarefa t WHERE t.prazo IS NOT NULL AND t.concluida = false ORDER BY t.prazo ASC")
-    List<Tarefa> findTarefasComPrazo();
+    @Query(SELECT_DTO + " WHERE t.prazo IS NOT NULL AND t.concluida = false ORDER BY t.prazo ASC")
+    List<TarefaDTO> findComPrazoDTO();
     
     // Buscar tarefas pendentes por categoria
     @Query("SELECT t FROM Tarefa t WHERE t.categoria = :categoria AND t.concluida = false")
@@ -36,19 +62,58 @@ public interface TarefaRepository extends JpaRepository<Tarefa, Long> {
     @Query("SELECT COUNT(t) FROM Tarefa t WHERE t.concluida = false")
     Long countPendentes();
     
-    // Buscar tarefas atrasadas
-    @Query("SELECT t FROM Tarefa t WHERE t.concluida = false AND t.prazo IS NOT NULL AND t.prazo < CURRENT_DATE")
-    List<Tarefa> findTarefasAtrasadas();
+    // Prazos pendentes (id, prazo, versão) para carregar o índice de prazos
+    @Query("SELECT t.id, t.prazo, t.versao FROM Tarefa t WHERE t.concluida = false AND t.prazo IS NOT NULL")
+    List<Object[]> findPrazosPendentes();
+    
+    // Contar tarefas atrasadas
+    @Query("SELECT COUNT(t) FROM Tarefa t WHERE t.concluida = false AND t.prazo IS NOT NULL AND t.prazo < CURRENT_DATE")
+    Long countTarefasAtrasadas();
+    
+    // Contar tarefas agrupadas por categoria
+    @Query("SELECT t.categoria, COUNT(t) FROM Tarefa t GROUP BY t.categoria")
+    List<Object[]> countPorCategoria();
     
     // Buscar tarefas por palavra-chave no título ou descrição
     @Query("SELECT t FROM Tarefa t WHERE LOWER(t.titulo) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(t.descricao) LIKE LOWER(CONCAT('%', :keyword, '%'))")
     List<Tarefa> findByKeyword(@Param("keyword") String keyword);
     
-    // Buscar tarefas criadas hoje
-    @Query("SELECT t FROM Tarefa t WHERE DATE(t.dataCriacao) = CURDATE()")
-    List<Tarefa> findTarefasDeHoje();
+    // Tarefas criadas em [inicio, fim): intervalo direto na coluna, sem função, para usar o índice
+    @Query(SELECT_DTO + " WHERE t.dataCriacao >= :inicio AND t.dataCriacao < :fim ORDER BY t.dataCriacao DESC, t.id DESC")
+    List<TarefaDTO> findCriadasEntreDTO(@Param("inicio") LocalDateTime inicio, @Param("fim") LocalDateTime fim);
     
-    // Buscar tarefas concluídas hoje
-    @Query("SELECT t FROM Tarefa t WHERE t.concluida = true AND DATE(t.dataConclusao) = CURDATE()")
-    List<Tarefa> findTarefasConcluidasHoje();
-}
\ No newline at end of file
+    // Tarefas concluídas em [inicio, fim)
+    @Query(SELECT_DTO + " WHERE t.dataConclusao >= :inicio AND t.dataConclusao < :fim AND t.concluida = true ORDER BY t.dataConclusao DESC, t.id DESC")
+    List<TarefaDTO> findConcluidasEntreDTO(@Param("inicio") LocalDateTime inicio, @Param("fim") LocalDateTime fim);
+    
+    // Paginação por cursor (keyset): primeira página
+    List<Tarefa> findAllByOrderByDataCriacaoDescIdDesc(Pageable pageable);
+    
+    // Paginação por cursor (keyset): itens após (data, id) na ordem dataCriacao DESC, id DESC
+    @Query("SELECT t FROM Tarefa t WHERE t.dataCriacao <= :data AND (t.dataCriacao < :data OR t.id < :id) ORDER BY t.dataCriacao DESC, t.id DESC")
+    List<Tarefa> findPaginaApos(@Param("data") LocalDateTime data, @Param("id") Long id, Pageable pageable);
+
+    @Query(SELECT_DTO + " ORDER BY t.dataCriacao DESC, t.id DESC")
+    List<TarefaDTO> findPrimeiraPaginaDTO(Pageable pageable);
+
+    @Query(SELECT_DTO + " WHERE t.dataCriacao <= :data AND (t.dataCriacao < :data OR t.id < :id) ORDER BY t.dataCriacao DESC, t.id DESC")
+    List<TarefaDTO> findPaginaAposDTO(@Param("data") LocalDateTime data, @Param("id") Long id, Pageable pageable);
+    
+    // Leitura em fluxo para exportação: cursor com fetch size fixo e entidades somente leitura.
+    // Precisa ser consumido dentro de uma transação.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Tarefa> streamAllByOrderByIdAsc();
+
+    // Inseridos ou alterados desde a marca d'água (/sync)
+    List<Tarefa> findByDataAtualizacaoGreaterThanEqual(LocalDateTime desde);
+
+    // Transição atômica: só conclui se ainda estiver pendente (0 linhas = já concluída ou inexistente).
+    // Versão e data de atualização são mantidas à mão porque o UPDATE em massa ignora @Version e @PreUpdate.
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Tarefa t SET t.concluida = true, t.dataConclusao = :agora, t.dataAtualizacao = :agora, " +
+           "t.versao = t.versao + 1 WHERE t.id = :id AND t.concluida = false")
+    int concluir(@Param("id") Long id, @Param("agora") LocalDateTime agora);
+}
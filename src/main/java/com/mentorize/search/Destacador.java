@@ -0,0 +1,73 @@
+package com.mentorize.search;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Gera HTML escapado com os termos da consulta envoltos em {@code <mark>}.
+ * A comparação usa os termos normalizados do {@link Tokenizador}, então "acao" destaca "Ação".
+ */
+public final class Destacador {
+
+    private Destacador() {}
+
+    public static String destacar(String texto, Set<String> termos, String prefixo) {
+        if (texto == null) return null;
+        return destacarIntervalo(texto, Tokenizador.tokens(texto), termos, prefixo, 0, texto.length());
+    }
+
+    // Janela de até "tamanho" caracteres começando um pouco antes da primeira ocorrência
+    public static String trecho(String texto, Set<String> termos, String prefixo, int tamanho) {
+        if (texto == null || texto.isEmpty()) return null;
+
+        List<Tokenizador.Token> tokens = Tokenizador.tokens(texto);
+        int primeira = 0;
+        for (Tokenizador.Token token : tokens) {
+            if (corresponde(token, termos, prefixo)) {
+                primeira = token.getInicio();
+                break;
+            }
+        }
+
+        int inicio = Math.max(0, primeira - tamanho / 3);
+        int fim = Math.min(texto.length(), inicio + tamanho);
+        String html = destacarIntervalo(texto, tokens, termos, prefixo, inicio, fim);
+        return (inicio > 0 ? "…" : "") + html + (fim < texto.length() ? "…" : "");
+    }
+
+    private static String destacarIntervalo(String texto, List<Tokenizador.Token> tokens, Set<String> termos,
+                                            String prefixo, int inicio, int fim) {
+        StringBuilder html = new StringBuilder();
+        int cursor = inicio;
+        for (Tokenizador.Token token : tokens) {
+            if (token.getInicio() < inicio || token.getFim() > fim) continue;
+            if (!corresponde(token, termos, prefixo)) continue;
+
+            escapar(texto, cursor, token.getInicio(), html);
+            html.append("<mark>");
+            escapar(texto, token.getInicio(), token.getFim(), html);
+            html.append("</mark>");
+            cursor = token.getFim();
+        }
+        escapar(texto, cursor, fim, html);
+        return html.toString();
+    }
+
+    private static boolean corresponde(Tokenizador.Token token, Set<String> termos, String prefixo) {
+        return termos.contains(token.getTermo()) || (prefixo != null && token.getTermo().startsWith(prefixo));
+    }
+
+    private static void escapar(String texto, int inicio, int fim, StringBuilder destino) {
+        for (int i = inicio; i < fim; i++) {
+            char c = texto.charAt(i);
+            switch (c) {
+                case '&' -> destino.append("&amp;");
+                case '<' -> destino.append("&lt;");
+                case '>' -> destino.append("&gt;");
+                case '"' -> destino.append("&quot;");
+                case '\'' -> destino.append("&#039;");
+                default -> destino.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.mentorize.search;
+
+import com.mentorize.dto.AnotacaoDTO;
+import com.mentorize.event.AlteracaoEntidadeEvent;
+import com.mentorize.event.TipoEntidade;
+import com.mentorize.model.Anotacao;
+import com.mentorize.repository.AnotacaoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido em memória sobre título e conteúdo das anotações, com ranking BM25.
+ * O título conta em dobro na frequência do termo. O último termo da consulta é tratado como
+ * prefixo enquanto o usuário ainda está digitando ("estrut" encontra "estrutura").
+ */
+@Component
+public class IndiceAnotacoes {
+
+    private static final Logger log = LoggerFactory.getLogger(IndiceAnotacoes.class);
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int PESO_TITULO = 2;
+    private static final int MAX_EXPANSOES_PREFIXO = 50;
+    private static final int TAMANHO_LOTE_RECONSTRUCAO = 1000;
+
+    @Autowired
+    private AnotacaoRepository anotacaoRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // termo → (id da anotação → frequência ponderada)
+    private final TreeMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    private final Map<Long, Documento> documentos = new HashMap<>();
+    private long somaComprimentos;
+    // Ids que os eventos alteraram durante a reconstrução; nulo fora dela
+    private Set<Long> alteradasNaReconstrucao;
+
+    // ================================
+    // ESCRITA
+    // ================================
+    public void indexar(Long id, String titulo, String conteudo) {
+        indexar(id, titulo, conteudo, false);
+    }
+
+    // Na reconstrução, a linha lida do banco não sobrepõe o que um evento já gravou depois da leitura
+    private void indexar(Long id, String titulo, String conteudo, boolean carga) {
+        Map<String, Integer> frequencias = new HashMap<>();
+        for (String termo : Tokenizador.tokenizar(titulo)) frequencias.merge(termo, PESO_TITULO, Integer::sum);
+        for (String termo : Tokenizador.tokenizar(conteudo)) frequencias.merge(termo, 1, Integer::sum);
+
+        int comprimento = 0;
+        for (int frequencia : frequencias.values()) comprimento += frequencia;
+
+        lock.writeLock().lock();
+        try {
+            if (carga) {
+                if (alteradasNaReconstrucao.contains(id)) return;
+            } else if (alteradasNaReconstrucao != null) {
+                alteradasNaReconstrucao.add(id);
+            }
+            removerSemLock(id);
+            for (Map.Entry<String, Integer> entrada : frequencias.entrySet()) {
+                postings.computeIfAbsent(entrada.getKey(), termo -> new HashMap<>()).put(id, entrada.getValue());
+            }
+            documentos.put(id, new Documento(frequencias.keySet().toArray(new String[0]), comprimento));
+            somaComprimentos += comprimento;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remover(Long id) {
+        lock.writeLock().lock();
+        try {
+            if (alteradasNaReconstrucao != null) alteradasNaReconstrucao.add(id);
+            removerSemLock(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removerSemLock(Long id) {
+        Documento documento = documentos.remove(id);
+        if (documento == null) return;
+        for (String termo : documento.termos) {
+            Map<Long, Integer> lista = postings.get(termo);
+            if (lista != null) {
+                lista.remove(id);
+                if (lista.isEmpty()) postings.remove(termo);
+            }
+        }
+        somaComprimentos -= documento.comprimento;
+    }
+
+    // ================================
+    // CONSULTA
+    // ================================
+    public List<Ocorrencia> buscar(String consulta, int limite) {
+        List<String> termos = Tokenizador.tokenizar(consulta);
+        if (termos.isEmpty() || limite <= 0) return List.of();
+        boolean ultimoComoPrefixo = Tokenizador.prefixoDigitado(consulta) != null;
+
+        lock.readLock().lock();
+        try {
+            int totalDocumentos = documentos.size();
+            if (totalDocumentos == 0) return List.of();
+            double comprimentoMedio = (double) somaComprimentos / totalDocumentos;
+
+            Map<Long, Double> pontuacoes = new HashMap<>();
+            for (int i = 0; i < termos.size(); i++) {
+                boolean prefixo = ultimoComoPrefixo && i == termos.size() - 1;
+                for (String termo : expandir(termos.get(i), prefixo)) {
+                    pontuar(postings.get(termo), totalDocumentos, comprimentoMedio, pontuacoes);
+                }
+            }
+            return melhores(pontuacoes, limite);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<String> expandir(String termo, boolean prefixo) {
+        if (!prefixo) return List.of(termo);
+        List<String> expansoes = new ArrayList<>();
+        for (String candidato : postings.subMap(termo, true, termo + Character.MAX_VALUE, false).keySet()) {
+            expansoes.add(candidato);
+            if (expansoes.size() == MAX_EXPANSOES_PREFIXO) break;
+        }
+        return expansoes;
+    }
+
+    private void pontuar(Map<Long, Integer> lista, int totalDocumentos, double comprimentoMedio,
+                         Map<Long, Double> pontuacoes) {
+        if (lista == null) return;
+        int df = lista.size();
+        double idf = Math.log(1 + (totalDocumentos - df + 0.5) / (df + 0.5));
+        for (Map.Entry<Long, Integer> entrada : lista.entrySet()) {
+            int tf = entrada.getValue();
+            int comprimento = documentos.get(entrada.getKey()).comprimento;
+            double normalizacao = K1 * (1 - B + B * comprimento / comprimentoMedio);
+            pontuacoes.merge(entrada.getKey(), idf * tf * (K1 + 1) / (tf + normalizacao), Double::sum);
+        }
+    }
+
+    private List<Ocorrencia> melhores(Map<Long, Double> pontuacoes, int limite) {
+        PriorityQueue<Ocorrencia> heap = new PriorityQueue<>(Comparator.comparingDouble(Ocorrencia::getRelevancia));
+        for (Map.Entry<Long, Double> entrada : pontuacoes.entrySet()) {
+            heap.offer(new Ocorrencia(entrada.getKey(), entrada.getValue()));
+            if (heap.size() > limite) heap.poll();
+        }
+        List<Ocorrencia> resultado = new ArrayList<>(heap);
+        resultado.sort(Comparator.comparingDouble(Ocorrencia::getRelevancia).reversed());
+        return resultado;
+    }
+
+    public int tamanho() {
+        lock.readLock().lock();
+        try {
+            return documentos.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ================================
+    // SINCRONIZAÇÃO
+    // ================================
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAlteracao(AlteracaoEntidadeEvent event) {
+        if (event.getTipo() != TipoEntidade.ANOTACAO) return;
+        if (event.getDepois() instanceof AnotacaoDTO anotacao) {
+            indexar(anotacao.getId(), anotacao.getTitulo(), anotacao.getConteudo());
+        } else {
+            remover(event.getId());
+        }
+    }
+
+    // Percorre a tabela em lotes pela paginação por cursor, sem carregar tudo de uma vez
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reconstruir() {
+        long inicio = System.currentTimeMillis();
+        registrarAlteracoes(new HashSet<>());
+        try {
+            Pageable lote = PageRequest.ofSize(TAMANHO_LOTE_RECONSTRUCAO);
+            List<Anotacao> anotacoes = anotacaoRepository.findAllByOrderByDataCriacaoDescIdDesc(lote);
+            while (!anotacoes.isEmpty()) {
+                for (Anotacao anotacao : anotacoes) {
+                    indexar(anotacao.getId(), anotacao.getTitulo(), anotacao.getConteudo(), true);
+                }
+                Anotacao ultima = anotacoes.get(anotacoes.size() - 1);
+                anotacoes = anotacaoRepository.findPaginaApos(ultima.getDataCriacao(), ultima.getId(), lote);
+            }
+        } finally {
+            registrarAlteracoes(null);
+        }
+        log.info("Índice de anotações reconstruído: {} documentos em {} ms", tamanho(), System.currentTimeMillis() - inicio);
+    }
+
+    private void registrarAlteracoes(Set<Long> alteradas) {
+        lock.writeLock().lock();
+        try {
+            alteradasNaReconstrucao = alteradas;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static class Documento {
+        final String[] termos;
+        final int comprimento;
+
+        Documento(String[] termos, int comprimento) {
+            this.termos = termos;
+            this.comprimento = comprimento;
+        }
+    }
+
+    public static class Ocorrencia {
+        private final Long id;
+        private final double relevancia;
+
+        public Ocorrencia(Long id, double relevancia) {
+            this.id = id;
+            this.relevancia = relevancia;
+        }
+
+        public Long getId() { return id; }
+
+        public double getRelevancia() { return relevancia; }
+    }
+}
@@ -0,0 +1,433 @@
+package com.mentorize.search;
+
+import com.mentorize.dto.AnotacaoDTO;
+import com.mentorize.dto.EstudoDTO;
+import com.mentorize.dto.MetaDTO;
+import com.mentorize.dto.TarefaDTO;
+import com.mentorize.event.AlteracaoEntidadeEvent;
+import com.mentorize.event.TipoEntidade;
+import com.mentorize.repository.AnotacaoRepository;
+import com.mentorize.repository.EstudoRepository;
+import com.mentorize.repository.MetaRepository;
+import com.mentorize.repository.TarefaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Índice de trigramas compartilhado por tarefas, estudos, metas e anotações, usado na busca global.
+ *
+ * Cada documento ocupa um slot; as listas de slots por trigrama ficam ordenadas porque slots só crescem.
+ * Um documento é candidato quando contém ao menos {@code minimo} dos trigramas da consulta, o que aceita
+ * erros de digitação. Pelo princípio da casa dos pombos, todo candidato aparece em alguma das
+ * {@code m - minimo + 1} listas mais curtas: elas geram os candidatos e as demais só são consultadas
+ * por galope a partir da última posição.
+ *
+ * Os candidatos saem do slot mais novo para o mais antigo e a busca para depois de {@code MAX_CANDIDATOS}:
+ * em consultas muito comuns o ranking fica restrito aos documentos mais recentes que as contêm.
+ */
+@Component
+public class IndiceTrigramas {
+
+    private static final Logger log = LoggerFactory.getLogger(IndiceTrigramas.class);
+
+    private static final double SIMILARIDADE_MINIMA = 0.5;
+    private static final int MAX_CARACTERES_INDEXADOS = 1000;
+    private static final int TAMANHO_LOTE_RECONSTRUCAO = 1000;
+    private static final long LIVRE = -1L;
+    // Teto de candidatos avaliados por consulta: termos muito comuns ("de") aparecem em boa parte
+    // dos documentos, e sem ele a busca percorreria listas inteiras
+    private static final int MAX_CANDIDATOS = 20_000;
+
+    @Autowired
+    private TarefaRepository tarefaRepository;
+
+    @Autowired
+    private EstudoRepository estudoRepository;
+
+    @Autowired
+    private MetaRepository metaRepository;
+
+    @Autowired
+    private AnotacaoRepository anotacaoRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, ListaSlots> postings = new HashMap<>();
+    private final Map<Long, Integer> slotPorChave = new HashMap<>();
+    private long[] chaves = new long[1024];
+    private int[] quantidadeTrigramas = new int[1024];
+    private int proximoSlot;
+    private int mortos;
+    // Chaves que os eventos alteraram durante a reconstrução; nulo fora dela
+    private Set<Long> alteradasNaReconstrucao;
+
+    // ================================
+    // ESCRITA
+    // ================================
+    public void indexar(TipoEntidade tipo, Long id, String texto) {
+        long[] trigramas = trigramas(texto);
+        long chave = chave(tipo, id);
+
+        lock.writeLock().lock();
+        try {
+            if (alteradasNaReconstrucao != null) alteradasNaReconstrucao.add(chave);
+            indexarSemLock(chave, trigramas);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remover(TipoEntidade tipo, Long id) {
+        long chave = chave(tipo, id);
+        lock.writeLock().lock();
+        try {
+            if (alteradasNaReconstrucao != null) alteradasNaReconstrucao.add(chave);
+            removerSemLock(chave);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Caminho da reconstrução: a linha lida do banco não sobrepõe o que um evento já gravou depois
+    // da leitura (uma edição ou uma exclusão), senão o texto antigo ou o documento excluído voltariam
+    private void indexarCarga(TipoEntidade tipo, Long id, String texto) {
+        long[] trigramas = trigramas(texto);
+        long chave = chave(tipo, id);
+
+        lock.writeLock().lock();
+        try {
+            if (!alteradasNaReconstrucao.contains(chave)) indexarSemLock(chave, trigramas);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void indexarSemLock(long chave, long[] trigramas) {
+        removerSemLock(chave);
+        garantirCapacidade();
+        int slot = proximoSlot++;
+        chaves[slot] = chave;
+        quantidadeTrigramas[slot] = trigramas.length;
+        slotPorChave.put(chave, slot);
+        for (long trigrama : trigramas) {
+            postings.computeIfAbsent(trigrama, t -> new ListaSlots()).adicionar(slot);
+        }
+    }
+
+    private void removerSemLock(long chave) {
+        Integer slot = slotPorChave.remove(chave);
+        if (slot == null) return;
+        chaves[slot] = LIVRE;
+        mortos++;
+        if (mortos > 1000 && mortos > slotPorChave.size() / 4) {
+            compactar();
+        }
+    }
+
+    // Descarta slots removidos e renumera os vivos mantendo a ordem das listas
+    private void compactar() {
+        int[] novoSlot = new int[proximoSlot];
+        int vivos = 0;
+        for (int slot = 0; slot < proximoSlot; slot++) {
+            if (chaves[slot] == LIVRE) {
+                novoSlot[slot] = -1;
+                continue;
+            }
+            novoSlot[slot] = vivos;
+            chaves[vivos] = chaves[slot];
+            quantidadeTrigramas[vivos] = quantidadeTrigramas[slot];
+            slotPorChave.put(chaves[vivos], vivos);
+            vivos++;
+        }
+        postings.values().removeIf(lista -> lista.renumerar(novoSlot) == 0);
+        proximoSlot = vivos;
+        mortos = 0;
+    }
+
+    private void garantirCapacidade() {
+        if (proximoSlot < chaves.length) return;
+        chaves = Arrays.copyOf(chaves, chaves.length * 2);
+        quantidadeTrigramas = Arrays.copyOf(quantidadeTrigramas, quantidadeTrigramas.length * 2);
+    }
+
+    // ================================
+    // CONSULTA
+    // ================================
+    public List<Ocorrencia> buscar(String consulta, int limite) {
+        long[] trigramasConsulta = trigramas(consulta);
+        int m = trigramasConsulta.length;
+        if (m == 0 || limite <= 0) return List.of();
+        int minimo = m < 4 ? m : (int) Math.ceil(m * SIMILARIDADE_MINIMA);
+
+        lock.readLock().lock();
+        try {
+            List<ListaSlots> listas = new ArrayList<>(m);
+            int ausentes = 0;
+            for (long trigrama : trigramasConsulta) {
+                ListaSlots lista = postings.get(trigrama);
+                if (lista == null) ausentes++;
+                else listas.add(lista);
+            }
+            if (m - ausentes < minimo) return List.of();
+            listas.sort(Comparator.comparingInt(ListaSlots::tamanho));
+
+            // Intercala as listas "geradoras" do slot mais novo para o mais antigo contando em quantas
+            // cada candidato aparece; as demais listas avançam junto por galope, sem voltar atrás
+            int geradoras = listas.size() - minimo + 1;
+            int[] cursores = new int[listas.size()];
+            for (int i = 0; i < cursores.length; i++) cursores[i] = listas.get(i).tamanho - 1;
+
+            PriorityQueue<Ocorrencia> heap = new PriorityQueue<>(Comparator.comparingDouble(Ocorrencia::getRelevancia));
+            int examinados = 0;
+            while (examinados < MAX_CANDIDATOS) {
+                int slot = -1;
+                for (int i = 0; i < geradoras; i++) {
+                    if (cursores[i] >= 0) slot = Math.max(slot, listas.get(i).valores[cursores[i]]);
+                }
+                if (slot < 0) break;
+                int total = 0;
+                for (int i = 0; i < geradoras; i++) {
+                    if (cursores[i] >= 0 && listas.get(i).valores[cursores[i]] == slot) {
+                        total++;
+                        cursores[i]--;
+                    }
+                }
+                if (chaves[slot] == LIVRE) continue;
+                examinados++;
+
+                for (int i = geradoras; i < listas.size() && total + listas.size() - i >= minimo; i++) {
+                    ListaSlots lista = listas.get(i);
+                    cursores[i] = lista.recuar(slot, cursores[i]);
+                    if (cursores[i] >= 0 && lista.valores[cursores[i]] == slot) total++;
+                }
+                if (total < minimo) continue;
+
+                double relevancia = relevancia(total, m, quantidadeTrigramas[slot]);
+                if (heap.size() == limite && relevancia <= heap.peek().getRelevancia()) continue;
+                heap.offer(new Ocorrencia(tipo(chaves[slot]), id(chaves[slot]), relevancia));
+                if (heap.size() > limite) heap.poll();
+            }
+
+            List<Ocorrencia> resultado = new ArrayList<>(heap);
+            resultado.sort(Comparator.comparingDouble(Ocorrencia::getRelevancia).reversed());
+            return resultado;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Cobertura da consulta pesa mais; o coeficiente de Dice desempata a favor de textos curtos
+    private double relevancia(int acertos, int trigramasConsulta, int trigramasDocumento) {
+        double cobertura = (double) acertos / trigramasConsulta;
+        double dice = 2.0 * acertos / (trigramasConsulta + trigramasDocumento);
+        return 0.8 * cobertura + 0.2 * dice;
+    }
+
+    public int tamanho() {
+        lock.readLock().lock();
+        try {
+            return slotPorChave.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ================================
+    // TRIGRAMAS
+    // ================================
+    static long[] trigramas(String texto) {
+        String normalizado = Tokenizador.normalizar(texto);
+        Set<Long> unicos = new LinkedHashSet<>();
+        StringBuilder palavra = new StringBuilder(" ");
+        for (int i = 0; i <= normalizado.length(); i++) {
+            char c = i < normalizado.length() ? normalizado.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                palavra.append(c);
+                continue;
+            }
+            if (palavra.length() > 1) {
+                palavra.append(' ');
+                for (int j = 0; j + 3 <= palavra.length(); j++) {
+                    unicos.add(codificar(palavra.charAt(j), palavra.charAt(j + 1), palavra.charAt(j + 2)));
+                }
+            }
+            palavra.setLength(1);
+        }
+        long[] resultado = new long[unicos.size()];
+        int i = 0;
+        for (long trigrama : unicos) resultado[i++] = trigrama;
+        return resultado;
+    }
+
+    private static long codificar(char a, char b, char c) {
+        return ((long) a << 32) | ((long) b << 16) | c;
+    }
+
+    private static long chave(TipoEntidade tipo, Long id) {
+        return ((long) tipo.ordinal() << 56) | id;
+    }
+
+    private static TipoEntidade tipo(long chave) {
+        return TipoEntidade.values()[(int) (chave >>> 56)];
+    }
+
+    private static Long id(long chave) {
+        return chave & ((1L << 56) - 1);
+    }
+
+    // ================================
+    // SINCRONIZAÇÃO
+    // ================================
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAlteracao(AlteracaoEntidadeEvent event) {
+        Object depois = event.getDepois();
+        if (depois == null) {
+            remover(event.getTipo(), event.getId());
+        } else {
+            indexar(event.getTipo(), event.getId(), texto(depois));
+        }
+    }
+
+    private String texto(Object dto) {
+        if (dto instanceof TarefaDTO tarefa) return juntar(tarefa.getTitulo(), tarefa.getDescricao());
+        if (dto instanceof EstudoDTO estudo) return juntar(estudo.getTitulo(), estudo.getMateria(), estudo.getDescricao());
+        if (dto instanceof MetaDTO meta) return juntar(meta.getNome(), meta.getTipo(), meta.getDescricao());
+        if (dto instanceof AnotacaoDTO anotacao) return juntar(anotacao.getTitulo(), anotacao.getConteudo());
+        throw new IllegalArgumentException("DTO não suportado: " + dto.getClass().getSimpleName());
+    }
+
+    private static String juntar(String... partes) {
+        StringBuilder texto = new StringBuilder();
+        for (String parte : partes) {
+            if (parte != null) texto.append(parte).append(' ');
+        }
+        return texto.length() > MAX_CARACTERES_INDEXADOS ? texto.substring(0, MAX_CARACTERES_INDEXADOS) : texto.toString();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reconstruir() {
+        long inicio = System.currentTimeMillis();
+        registrarAlteracoes(new HashSet<>());
+        try {
+            carregar();
+        } finally {
+            registrarAlteracoes(null);
+        }
+        log.info("Índice de trigramas reconstruído: {} documentos em {} ms", tamanho(), System.currentTimeMillis() - inicio);
+    }
+
+    private void registrarAlteracoes(Set<Long> alteradas) {
+        lock.writeLock().lock();
+        try {
+            alteradasNaReconstrucao = alteradas;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void carregar() {
+        percorrer(tarefaRepository::findAllByOrderByDataCriacaoDescIdDesc,
+                (ultima, lote) -> tarefaRepository.findPaginaApos(ultima.getDataCriacao(), ultima.getId(), lote),
+                tarefa -> indexarCarga(TipoEntidade.TAREFA, tarefa.getId(), juntar(tarefa.getTitulo(), tarefa.getDescricao())));
+        percorrer(estudoRepository::findAllByOrderByDataCriacaoDescIdDesc,
+                (ultimo, lote) -> estudoRepository.findPaginaApos(ultimo.getDataCriacao(), ultimo.getId(), lote),
+                estudo -> indexarCarga(TipoEntidade.ESTUDO, estudo.getId(), juntar(estudo.getTitulo(), estudo.getMateria(), estudo.getDescricao())));
+        percorrer(metaRepository::findAllByOrderByDataInicioDescIdDesc,
+                (ultima, lote) -> metaRepository.findPaginaApos(ultima.getDataInicio(), ultima.getId(), lote),
+                meta -> indexarCarga(TipoEntidade.META, meta.getId(), juntar(meta.getNome(), meta.getTipo(), meta.getDescricao())));
+        percorrer(anotacaoRepository::findAllByOrderByDataCriacaoDescIdDesc,
+                (ultima, lote) -> anotacaoRepository.findPaginaApos(ultima.getDataCriacao(), ultima.getId(), lote),
+                anotacao -> indexarCarga(TipoEntidade.ANOTACAO, anotacao.getId(), juntar(anotacao.getTitulo(), anotacao.getConteudo())));
+    }
+
+    // Percorre uma tabela em lotes pela paginação por cursor
+    private <T> void percorrer(Function<Pageable, List<T>> primeira, BiFunction<T, Pageable, List<T>> proxima,
+                               Consumer<T> acao) {
+        Pageable lote = PageRequest.ofSize(TAMANHO_LOTE_RECONSTRUCAO);
+        List<T> itens = primeira.apply(lote);
+        while (!itens.isEmpty()) {
+            itens.forEach(acao);
+            itens = proxima.apply(itens.get(itens.size() - 1), lote);
+        }
+    }
+
+    // Lista de slots em ordem crescente
+    private static class ListaSlots {
+        int[] valores = new int[4];
+        int tamanho;
+
+        void adicionar(int slot) {
+            if (tamanho == valores.length) valores = Arrays.copyOf(valores, tamanho * 2);
+            valores[tamanho++] = slot;
+        }
+
+        // Maior posição até "fim" com valor <= slot, ou -1: galope para trás e busca binária no intervalo
+        int recuar(int slot, int fim) {
+            if (fim < 0 || valores[fim] <= slot) return fim;
+            int alto = fim;
+            int passo = 1;
+            int baixo = fim - 1;
+            while (baixo >= 0 && valores[baixo] > slot) {
+                alto = baixo;
+                passo <<= 1;
+                baixo = fim - passo;
+            }
+            int indice = Arrays.binarySearch(valores, Math.max(baixo, 0), alto, slot);
+            return indice >= 0 ? indice : -indice - 2;
+        }
+
+        int tamanho() {
+            return tamanho;
+        }
+
+        int renumerar(int[] novoSlot) {
+            int n = 0;
+            for (int i = 0; i < tamanho; i++) {
+                int novo = novoSlot[valores[i]];
+                if (novo >= 0) valores[n++] = novo;
+            }
+            tamanho = n;
+            return n;
+        }
+    }
+
+    public static class Ocorrencia {
+        private final TipoEntidade tipo;
+        private final Long id;
+        private final double relevancia;
+
+        public Ocorrencia(TipoEntidade tipo, Long id, double relevancia) {
+            this.tipo = tipo;
+            this.id = id;
+            this.relevancia = relevancia;
+        }
+
+        public TipoEntidade getTipo() { return tipo; }
+
+        public Long getId() { return id; }
+
+        public double getRelevancia() { return relevancia; }
+    }
+}
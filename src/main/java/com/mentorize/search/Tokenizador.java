@@ -0,0 +1,101 @@
+package com.mentorize.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Normalização e quebra de texto em termos para os índices de busca.
+ * Remove acentos ("Ação" → "acao"), converte para minúsculas e descarta stopwords do português.
+ */
+public final class Tokenizador {
+
+    private static final Pattern MARCAS_DIACRITICAS = Pattern.compile("\\p{M}+");
+
+    private static final Set<String> STOPWORDS = Set.of(
+            "a", "o", "as", "os", "e", "de", "da", "do", "das", "dos", "em", "na", "no", "nas", "nos",
+            "um", "uma", "uns", "umas", "para", "por", "com", "que", "se", "ao", "aos", "ou");
+
+    private Tokenizador() {}
+
+    // Remove acentos e converte para minúsculas, preservando o tamanho do texto
+    public static String normalizar(String texto) {
+        if (texto == null) return "";
+        String semAcentos = MARCAS_DIACRITICAS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("");
+        return semAcentos.toLowerCase(Locale.ROOT);
+    }
+
+    public static List<String> tokenizar(String texto) {
+        List<String> termos = new ArrayList<>();
+        for (Token token : tokens(texto)) {
+            termos.add(token.getTermo());
+        }
+        return termos;
+    }
+
+    // Último termo da consulta quando ela não termina em espaço (usuário ainda digitando)
+    public static String prefixoDigitado(String consulta) {
+        if (consulta == null || consulta.isEmpty() || Character.isWhitespace(consulta.charAt(consulta.length() - 1))) {
+            return null;
+        }
+        List<String> termos = tokenizar(consulta);
+        return termos.isEmpty() ? null : termos.get(termos.size() - 1);
+    }
+
+    /**
+     * Termos com a posição [inicio, fim) no texto original, usados no destaque.
+     * A posição é calculada caractere a caractere porque a remoção de acentos muda o tamanho da string.
+     */
+    public static List<Token> tokens(String texto) {
+        List<Token> tokens = new ArrayList<>();
+        if (texto == null) return tokens;
+
+        StringBuilder atual = new StringBuilder();
+        int inicio = -1;
+        for (int i = 0; i <= texto.length(); i++) {
+            char c = i < texto.length() ? texto.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                if (inicio < 0) inicio = i;
+                dobrar(c, atual);
+            } else if (inicio >= 0) {
+                String termo = atual.toString();
+                if (!STOPWORDS.contains(termo)) {
+                    tokens.add(new Token(termo, inicio, i));
+                }
+                atual.setLength(0);
+                inicio = -1;
+            }
+        }
+        return tokens;
+    }
+
+    // Caminho rápido para ASCII; demais caracteres passam pela decomposição Unicode
+    private static void dobrar(char c, StringBuilder destino) {
+        if (c < 128) {
+            destino.append(Character.toLowerCase(c));
+        } else {
+            destino.append(normalizar(String.valueOf(c)));
+        }
+    }
+
+    public static class Token {
+        private final String termo;
+        private final int inicio;
+        private final int fim;
+
+        public Token(String termo, int inicio, int fim) {
+            this.termo = termo;
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+        public String getTermo() { return termo; }
+
+        public int getInicio() { return inicio; }
+
+        public int getFim() { return fim; }
+    }
+}
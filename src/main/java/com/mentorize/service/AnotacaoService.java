@@ -1,76 +1,164 @@
 package com.mentorize.service;
 
+import com.mentorize.dto.CursorPaginacao;
 import com.mentorize.dto.AnotacaoDTO;
+import com.mentorize.dto.OperacaoLoteDTO;
+import com.mentorize.dto.PaginaDTO;
+import com.mentorize.dto.ResultadoLoteDTO;
+import com.mentorize.dto.ResultadoBuscaDTO;
+import com.mentorize.event.AlteracaoEntidadeEvent;
+import com.mentorize.event.TipoEntidade;
 import com.mentorize.exception.ResourceNotFoundException;
 import com.mentorize.model.Anotacao;
 import com.mentorize.repository.AnotacaoRepository;
+import com.mentorize.search.Destacador;
+import com.mentorize.search.IndiceAnotacoes;
+import com.mentorize.search.Tokenizador;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class AnotacaoService {
 
+    private static final int TAMANHO_TRECHO = 160;
+
     @Autowired
     private AnotacaoRepository anotacaoRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ProcessadorLote processadorLote;
+
+    @Autowired
+    private IndiceAnotacoes indiceAnotacoes;
+
+    // Leituras projetadas direto no DTO, em transação somente leitura
+    @Transactional(readOnly = true)
     public List<AnotacaoDTO> findAll() {
-        return anotacaoRepository.findAllByOrderByDataCriacaoDesc()
-                .stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+        return anotacaoRepository.findTodasDTO();
     }
 
+    @Transactional(readOnly = true)
+    public PaginaDTO<AnotacaoDTO> findPagina(String after, Integer limit) {
+        int limite = PaginaDTO.normalizarLimite(limit);
+        Pageable pageable = PageRequest.ofSize(limite + 1);
+
+        List<AnotacaoDTO> itens;
+        if (after == null || after.isBlank()) {
+            itens = anotacaoRepository.findPrimeiraPaginaDTO(pageable);
+        } else {
+            CursorPaginacao cursor = CursorPaginacao.parse(after);
+            itens = anotacaoRepository.findPaginaAposDTO(cursor.getData(), cursor.getId(), pageable);
+        }
+
+        return PaginaDTO.de(itens, limite, dto -> new CursorPaginacao(dto.getDataCriacao(), dto.getId()));
+    }
+
+    @Cacheable(cacheNames = "anotacoes", key = "#id")
+    @Transactional(readOnly = true)
     public AnotacaoDTO findById(Long id) {
-        Anotacao anotacao = anotacaoRepository.findById(id)
+        return anotacaoRepository.findByIdDTO(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Anotação não encontrada com id: " + id));
-        return toDTO(anotacao);
     }
 
     public AnotacaoDTO create(AnotacaoDTO anotacaoDTO) {
         Anotacao anotacao = toEntity(anotacaoDTO);
         Anotacao saved = anotacaoRepository.save(anotacao);
-        return toDTO(saved);
+        AnotacaoDTO criada = toDTO(saved);
+        eventPublisher.publishEvent(AlteracaoEntidadeEvent.criacao(TipoEntidade.ANOTACAO, criada.getId(), criada));
+        return criada;
     }
 
+    // Leitura e escrita na mesma transação; o flush incrementa a versão antes de montar o DTO
+    @Transactional
     public AnotacaoDTO update(Long id, AnotacaoDTO anotacaoDTO) {
         return anotacaoRepository.findById(id)
                 .map(existingAnotacao -> {
+                    AnotacaoDTO antes = toDTO(existingAnotacao);
                     updateEntityFromDTO(existingAnotacao, anotacaoDTO);
-                    Anotacao updated = anotacaoRepository.save(existingAnotacao);
-                    return toDTO(updated);
+                    Anotacao updated = anotacaoRepository.saveAndFlush(existingAnotacao);
+                    AnotacaoDTO depois = toDTO(updated);
+                    eventPublisher.publishEvent(AlteracaoEntidadeEvent.atualizacao(TipoEntidade.ANOTACAO, id, antes, depois));
+                    return depois;
                 })
                 .orElseThrow(() -> new ResourceNotFoundException("Anotação não encontrada com id: " + id));
     }
 
+    // Transacional para o registro de exclusão do /sync ser gravado junto
+    @Transactional
     public void delete(Long id) {
-        if (!anotacaoRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Anotação não encontrada com id: " + id);
-        }
-        anotacaoRepository.deleteById(id);
+        Anotacao anotacao = anotacaoRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Anotação não encontrada com id: " + id));
+        AnotacaoDTO antes = toDTO(anotacao);
+        anotacaoRepository.delete(anotacao);
+        eventPublisher.publishEvent(AlteracaoEntidadeEvent.exclusao(TipoEntidade.ANOTACAO, id, antes));
     }
 
+    @Transactional
+    public List<ResultadoLoteDTO<AnotacaoDTO>> processarLote(List<? extends OperacaoLoteDTO<AnotacaoDTO>> operacoes) {
+        return processadorLote.processar(operacoes, TipoEntidade.ANOTACAO, anotacaoRepository,
+                this::toEntity, this::updateEntityFromDTO, this::toDTO, Anotacao::getId,
+                id -> "Anotação não encontrada com id: " + id);
+    }
+
+    @Transactional(readOnly = true)
     public List<AnotacaoDTO> findByTituloContaining(String titulo) {
-        return anotacaoRepository.findByTituloContainingIgnoreCase(titulo)
-                .stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+        return anotacaoRepository.findByTituloDTO(titulo);
     }
 
+    @Transactional(readOnly = true)
     public List<AnotacaoDTO> findRecent() {
-        return anotacaoRepository.findTop5ByOrderByDataCriacaoDesc()
+        return anotacaoRepository.findRecentesDTO(PageRequest.ofSize(5));
+    }
+
+    // Busca ranqueada no índice invertido; só as anotações retornadas são lidas do banco para o destaque
+    @Transactional(readOnly = true)
+    public List<ResultadoBuscaDTO> pesquisar(String consulta, Integer limite) {
+        List<IndiceAnotacoes.Ocorrencia> ocorrencias = indiceAnotacoes.buscar(consulta, PaginaDTO.normalizarLimite(limite));
+        if (ocorrencias.isEmpty()) return List.of();
+
+        Map<Long, AnotacaoDTO> anotacoes = anotacaoRepository.findByIdsDTO(
+                        ocorrencias.stream().map(IndiceAnotacoes.Ocorrencia::getId).collect(Collectors.toList()))
                 .stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+                .collect(Collectors.toMap(AnotacaoDTO::getId, Function.identity()));
+
+        Set<String> termos = new HashSet<>(Tokenizador.tokenizar(consulta));
+        String prefixo = Tokenizador.prefixoDigitado(consulta);
+
+        List<ResultadoBuscaDTO> resultados = new ArrayList<>();
+        for (IndiceAnotacoes.Ocorrencia ocorrencia : ocorrencias) {
+            AnotacaoDTO anotacao = anotacoes.get(ocorrencia.getId());
+            if (anotacao == null) continue; // excluída depois da consulta ao índice
+
+            ResultadoBuscaDTO resultado = new ResultadoBuscaDTO("anotacao", anotacao.getId(), anotacao.getTitulo(), ocorrencia.getRelevancia());
+            resultado.setTituloDestacado(Destacador.destacar(anotacao.getTitulo(), termos, prefixo));
+            resultado.setTrecho(Destacador.trecho(anotacao.getConteudo(), termos, prefixo, TAMANHO_TRECHO));
+            resultados.add(resultado);
+        }
+        return resultados;
     }
 
     // Métodos de conversão
-    private AnotacaoDTO toDTO(Anotacao anotacao) {
+    AnotacaoDTO toDTO(Anotacao anotacao) {
         AnotacaoDTO dto = new AnotacaoDTO();
         dto.setId(anotacao.getId());
+        dto.setVersao(anotacao.getVersao());
         dto.setTitulo(anotacao.getTitulo());
         dto.setConteudo(anotacao.getConteudo());
         dto.setDataCriacao(anotacao.getDataCriacao());
@@ -78,14 +166,14 @@ public class AnotacaoService {
         return dto;
     }
 
-    private Anotacao toEntity(AnotacaoDTO dto) {
+    Anotacao toEntity(AnotacaoDTO dto) {
         Anotacao anotacao = new Anotacao();
         anotacao.setTitulo(dto.getTitulo());
         anotacao.setConteudo(dto.getConteudo());
         return anotacao;
     }
 
-    private void updateEntityFromDTO(Anotacao anotacao, AnotacaoDTO dto) {
+    void updateEntityFromDTO(Anotacao anotacao, AnotacaoDTO dto) {
         if (dto.getTitulo() != null) anotacao.setTitulo(dto.getTitulo());
         if (dto.getConteudo() != null) anotacao.setConteudo(dto.getConteudo());
     }
@@ -0,0 +1,102 @@
+package com.mentorize.service;
+
+import com.mentorize.dto.PaginaDTO;
+import com.mentorize.dto.ResultadoBuscaDTO;
+import com.mentorize.event.TipoEntidade;
+import com.mentorize.repository.AnotacaoRepository;
+import com.mentorize.repository.EstudoRepository;
+import com.mentorize.repository.MetaRepository;
+import com.mentorize.repository.TarefaRepository;
+import com.mentorize.search.Destacador;
+import com.mentorize.search.IndiceTrigramas;
+import com.mentorize.search.Tokenizador;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+public class BuscaService {
+
+    private static final int TAMANHO_TRECHO = 160;
+
+    @Autowired
+    private IndiceTrigramas indiceTrigramas;
+
+    @Autowired
+    private TarefaRepository tarefaRepository;
+
+    @Autowired
+    private EstudoRepository estudoRepository;
+
+    @Autowired
+    private MetaRepository metaRepository;
+
+    @Autowired
+    private AnotacaoRepository anotacaoRepository;
+
+    // Resultados de todas as entidades, já ordenados por relevância pelo índice. Os itens encontrados
+    // são lidos pelas projeções em DTO numa única transação somente leitura (um só snapshot)
+    @Transactional(readOnly = true)
+    public List<ResultadoBuscaDTO> buscar(String consulta, Integer limite) {
+        List<IndiceTrigramas.Ocorrencia> ocorrencias = indiceTrigramas.buscar(consulta, PaginaDTO.normalizarLimite(limite));
+        if (ocorrencias.isEmpty()) return List.of();
+
+        Map<TipoEntidade, List<Long>> idsPorTipo = new EnumMap<>(TipoEntidade.class);
+        for (IndiceTrigramas.Ocorrencia ocorrencia : ocorrencias) {
+            idsPorTipo.computeIfAbsent(ocorrencia.getTipo(), tipo -> new ArrayList<>()).add(ocorrencia.getId());
+        }
+
+        Set<String> termos = new HashSet<>(Tokenizador.tokenizar(consulta));
+        String prefixo = Tokenizador.prefixoDigitado(consulta);
+        Map<String, ResultadoBuscaDTO> encontrados = new HashMap<>();
+        idsPorTipo.forEach((tipo, ids) -> carregar(tipo, ids, termos, prefixo, encontrados));
+
+        // Mantém a ordem de relevância; itens excluídos depois da consulta ao índice ficam de fora
+        List<ResultadoBuscaDTO> resultados = new ArrayList<>();
+        for (IndiceTrigramas.Ocorrencia ocorrencia : ocorrencias) {
+            ResultadoBuscaDTO resultado = encontrados.get(chave(ocorrencia.getTipo(), ocorrencia.getId()));
+            if (resultado == null) continue;
+            resultado.setRelevancia(ocorrencia.getRelevancia());
+            resultados.add(resultado);
+        }
+        return resultados;
+    }
+
+    private void carregar(TipoEntidade tipo, List<Long> ids, Set<String> termos, String prefixo,
+                          Map<String, ResultadoBuscaDTO> destino) {
+        switch (tipo) {
+            case TAREFA -> tarefaRepository.findByIdsDTO(ids).forEach(tarefa ->
+                    destino.put(chave(tipo, tarefa.getId()),
+                            resultado(tipo, tarefa.getId(), tarefa.getTitulo(), tarefa.getDescricao(), termos, prefixo)));
+            case ESTUDO -> estudoRepository.findByIdsDTO(ids).forEach(estudo ->
+                    destino.put(chave(tipo, estudo.getId()),
+                            resultado(tipo, estudo.getId(), estudo.getTitulo(), estudo.getDescricao(), termos, prefixo)));
+            case META -> metaRepository.findByIdsDTO(ids).forEach(meta ->
+                    destino.put(chave(tipo, meta.getId()),
+                            resultado(tipo, meta.getId(), meta.getNome(), meta.getDescricao(), termos, prefixo)));
+            case ANOTACAO -> anotacaoRepository.findByIdsDTO(ids).forEach(anotacao ->
+                    destino.put(chave(tipo, anotacao.getId()),
+                            resultado(tipo, anotacao.getId(), anotacao.getTitulo(), anotacao.getConteudo(), termos, prefixo)));
+        }
+    }
+
+    private ResultadoBuscaDTO resultado(TipoEntidade tipo, Long id, String titulo, String texto,
+                                        Set<String> termos, String prefixo) {
+        ResultadoBuscaDTO resultado = new ResultadoBuscaDTO(tipo.name().toLowerCase(), id, titulo, 0);
+        resultado.setTituloDestacado(Destacador.destacar(titulo, termos, prefixo));
+        resultado.setTrecho(Destacador.trecho(texto, termos, prefixo, TAMANHO_TRECHO));
+        return resultado;
+    }
+
+    private String chave(TipoEntidade tipo, Long id) {
+        return tipo.name() + ":" + id;
+    }
+}
@@ -0,0 +1,83 @@
+package com.mentorize.service;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.mentorize.dto.EstatisticasCacheDTO;
+import com.mentorize.event.AlteracaoEntidadeEvent;
+import com.mentorize.event.PrazoVencidoEvent;
+import com.mentorize.event.TipoEntidade;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Invalida o cache de DTOs por id (preenchido pelos {@code findById} dos serviços) quando
+ * uma entidade é alterada. Cada tipo usa um cache com o nome do seu recurso ("tarefas", "metas"...),
+ * criado como CacheVersionado (ver CacheConfig).
+ * Com {@code spring.cache.type=none} os caches não guardam nada e as estatísticas ficam vazias.
+ */
+@Service
+public class CacheEntidadesService {
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private CacheRespostas cacheRespostas;
+
+    // Remover só depois do commit não basta: um findById que leu antes dele ainda faz o put do DTO
+    // antigo. Por isso a invalidação registra a versão confirmada e o cache recusa as anteriores.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAlteracao(AlteracaoEntidadeEvent event) {
+        if (event.getId() == null) return;
+        Cache cache = cacheManager.getCache(event.getTipo().getRecurso());
+        if (cache instanceof CacheVersionado versionado) {
+            Long versao = event.getOperacao() == AlteracaoEntidadeEvent.Operacao.EXCLUSAO
+                    ? Long.valueOf(Long.MAX_VALUE) : CacheVersionado.versao(event.getDepois());
+            if (versao != null) {
+                versionado.invalidar(event.getId(), versao);
+                return;
+            }
+        }
+        invalidar(event.getTipo(), event.getId());
+    }
+
+    // O DTO guardado traz "atrasada" calculado na hora da leitura
+    @EventListener
+    public void onPrazoVencido(PrazoVencidoEvent event) {
+        invalidar(event.getTipo(), event.getId());
+    }
+
+    public void invalidar(TipoEntidade tipo, Long id) {
+        Cache cache = cacheManager.getCache(tipo.getRecurso());
+        if (cache != null && id != null) cache.evict(id);
+    }
+
+    public void limpar() {
+        for (String nome : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(nome);
+            if (cache != null) cache.clear();
+        }
+        cacheRespostas.limpar();
+    }
+
+    public List<EstatisticasCacheDTO> getEstatisticas() {
+        List<EstatisticasCacheDTO> estatisticas = new ArrayList<>();
+        for (TipoEntidade tipo : TipoEntidade.values()) {
+            if (cacheManager.getCache(tipo.getRecurso()) instanceof CaffeineCache cache) {
+                com.github.benmanes.caffeine.cache.Cache<Object, Object> nativo = cache.getNativeCache();
+                CacheStats stats = nativo.stats();
+                estatisticas.add(new EstatisticasCacheDTO(tipo.getRecurso(), nativo.estimatedSize(),
+                        stats.hitCount(), stats.missCount(), stats.hitRate(), stats.evictionCount()));
+            }
+        }
+        estatisticas.add(cacheRespostas.getEstatisticas());
+        return estatisticas;
+    }
+}
@@ -0,0 +1,176 @@
+package com.mentorize.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.mentorize.dto.EstatisticasCacheDTO;
+import com.mentorize.event.AlteracaoEntidadeEvent;
+import com.mentorize.event.PrazoVencidoEvent;
+import com.mentorize.event.TipoEntidade;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Respostas das listagens já serializadas em JSON, por tipo e consulta ("pendentes", "materia:Física"...).
+ * Uma resposta vale enquanto o contador de alterações do tipo e o dia forem os do momento em que
+ * foi gerada, as mesmas condições do ETag da lista: entre duas escritas, cada leitura devolve os
+ * bytes guardados sem consulta ao banco e sem Jackson. A versão gzip é gerada na primeira
+ * requisição que a aceita e guardada junto.
+ * <p>
+ * As escritas invalidam pelo contador (incrementado depois do commit); as respostas do tipo
+ * alterado também são descartadas nesse momento para liberar memória.
+ */
+@Service
+public class CacheRespostas {
+
+    // Abaixo disso o gzip economiza pouco ou nada
+    private static final int MIN_BYTES_GZIP = 1024;
+
+    @Autowired
+    private ContadorAlteracoes contadorAlteracoes;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Limite pelo tamanho do JSON guardado (a versão gzip, bem menor, não entra na conta)
+    @Value("${mentorize.respostas.max-bytes:67108864}")
+    private long maxBytes;
+
+    private record Chave(TipoEntidade tipo, String consulta) { }
+
+    private static final class Resposta {
+        private final long versao;
+        private final LocalDate dia;
+        private final byte[] json;
+        private volatile byte[] gzip;
+
+        private Resposta(long versao, LocalDate dia, byte[] json) {
+            this.versao = versao;
+            this.dia = dia;
+            this.json = json;
+        }
+
+        // Duas threads podem comprimir ao mesmo tempo; o resultado é o mesmo
+        private byte[] gzip() {
+            byte[] comprimido = gzip;
+            if (comprimido == null) gzip = comprimido = comprimir(json);
+            return comprimido;
+        }
+    }
+
+    private Cache<Chave, Resposta> respostas;
+
+    @PostConstruct
+    public void iniciar() {
+        respostas = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Chave chave, Resposta resposta) -> resposta.json.length)
+                .recordStats()
+                .build();
+    }
+
+    public ResponseEntity<byte[]> responder(TipoEntidade tipo, String consulta, WebRequest request, Supplier<?> gerar) {
+        return responder(tipo, LocalDate.now(), consulta, request, gerar);
+    }
+
+    // Para listas que dependem do dia em outro fuso (ex.: /tarefas/hoje?zona=...)
+    public ResponseEntity<byte[]> responder(TipoEntidade tipo, LocalDate dia, String consulta, WebRequest request, Supplier<?> gerar) {
+        if (request.checkNotModified(contadorAlteracoes.etagLista(tipo, dia))) return null;
+        // Lido depois do ETag e antes da consulta: a resposta guardada nunca é mais antiga que a versão
+        long versao = contadorAlteracoes.getValor(tipo);
+        Chave chave = new Chave(tipo, consulta);
+        Resposta resposta = respostas.getIfPresent(chave);
+        if (resposta == null || resposta.versao != versao || !resposta.dia.equals(dia)) {
+            resposta = new Resposta(versao, dia, serializar(gerar.get()));
+            respostas.put(chave, resposta);
+        }
+
+        ResponseEntity.BodyBuilder corpo = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (resposta.json.length >= MIN_BYTES_GZIP && aceitaGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            return corpo.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(resposta.gzip());
+        }
+        return corpo.body(resposta.json);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAlteracao(AlteracaoEntidadeEvent event) {
+        invalidar(event.getTipo());
+    }
+
+    // Um item que vence muda o campo "atrasada" das listas do tipo
+    @EventListener
+    public void onPrazoVencido(PrazoVencidoEvent event) {
+        invalidar(event.getTipo());
+    }
+
+    public void invalidar(TipoEntidade tipo) {
+        respostas.asMap().keySet().removeIf(chave -> chave.tipo() == tipo);
+    }
+
+    public void limpar() {
+        respostas.invalidateAll();
+    }
+
+    public EstatisticasCacheDTO getEstatisticas() {
+        CacheStats stats = respostas.stats();
+        return new EstatisticasCacheDTO("respostas", respostas.estimatedSize(),
+                stats.hitCount(), stats.missCount(), stats.hitRate(), stats.evictionCount());
+    }
+
+    private byte[] serializar(Object valor) {
+        try {
+            return objectMapper.writeValueAsBytes(valor);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Falha ao serializar resposta", e);
+        }
+    }
+
+    private static byte[] comprimir(byte[] json) {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(saida)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao comprimir resposta", e);
+        }
+        return saida.toByteArray();
+    }
+
+    // "gzip" ou "*" na lista do Accept-Encoding, sem q=0
+    static boolean aceitaGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+        for (String item : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+            String[] partes = item.split(";");
+            String codificacao = partes[0].trim();
+            if (!codificacao.equals("gzip") && !codificacao.equals("*")) continue;
+            boolean recusada = false;
+            for (int i = 1; i < partes.length; i++) {
+                String parametro = partes[i].trim();
+                if (parametro.startsWith("q=") && parametro.substring(2).trim().matches("0(\\.0*)?")) recusada = true;
+            }
+            if (!recusada) return true;
+        }
+        return false;
+    }
+}
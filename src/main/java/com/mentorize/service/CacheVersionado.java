@@ -0,0 +1,74 @@
+package com.mentorize.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mentorize.dto.AnotacaoDTO;
+import com.mentorize.dto.EstudoDTO;
+import com.mentorize.dto.MetaDTO;
+import com.mentorize.dto.TarefaDTO;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache de DTOs por id que recusa versões mais antigas que a última confirmada. Um findById que
+ * leu a linha antes do commit de uma escrita termina depois da invalidação e faria o put do DTO
+ * antigo, que ficaria no cache até a próxima escrita. Invalidação e put passam pelo compute do
+ * mapa na mesma chave, então um não intercala com o outro.
+ */
+public class CacheVersionado extends CaffeineCache {
+
+    // Basta durar mais que uma leitura do banco em andamento
+    private static final long RETENCAO_VERSOES_MINUTOS = 1;
+
+    private final Cache<Object, Long> confirmadas = Caffeine.newBuilder()
+            .expireAfterWrite(RETENCAO_VERSOES_MINUTOS, TimeUnit.MINUTES)
+            .build();
+
+    public CacheVersionado(String name, Cache<Object, Object> cache, boolean allowNullValues) {
+        super(name, cache, allowNullValues);
+    }
+
+    // Remove o valor guardado e registra a versão confirmada (Long.MAX_VALUE para exclusões)
+    public void invalidar(Object key, long versao) {
+        getNativeCache().asMap().compute(key, (chave, atual) -> {
+            confirmadas.asMap().merge(chave, versao, Math::max);
+            return null;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        Long versao = versao(value);
+        if (versao == null) {
+            super.put(key, value);
+            return;
+        }
+        getNativeCache().asMap().compute(key, (chave, atual) -> obsoleta(chave, versao) ? atual : toStoreValue(value));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        Long versao = versao(value);
+        if (versao == null) return super.putIfAbsent(key, value);
+        Object[] anterior = new Object[1];
+        getNativeCache().asMap().compute(key, (chave, atual) -> {
+            anterior[0] = atual;
+            return atual != null || obsoleta(chave, versao) ? atual : toStoreValue(value);
+        });
+        return toValueWrapper(anterior[0]);
+    }
+
+    private boolean obsoleta(Object chave, long versao) {
+        Long confirmada = confirmadas.getIfPresent(chave);
+        return confirmada != null && versao < confirmada;
+    }
+
+    static Long versao(Object dto) {
+        if (dto instanceof TarefaDTO tarefa) return tarefa.getVersao();
+        if (dto instanceof EstudoDTO estudo) return estudo.getVersao();
+        if (dto instanceof MetaDTO meta) return meta.getVersao();
+        if (dto instanceof AnotacaoDTO anotacao) return anotacao.getVersao();
+        return null;
+    }
+}
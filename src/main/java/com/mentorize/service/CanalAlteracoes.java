@@ -0,0 +1,314 @@
+package com.mentorize.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mentorize.dto.AnotacaoDTO;
+import com.mentorize.dto.EstudoDTO;
+import com.mentorize.dto.MetaDTO;
+import com.mentorize.dto.NotificacaoAlteracaoDTO;
+import com.mentorize.dto.TarefaDTO;
+import com.mentorize.event.AlteracaoEntidadeEvent;
+import com.mentorize.event.PrazoVencidoEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Canal SSE com as alterações confirmadas das entidades. Conexões ociosas não ocupam thread
+ * (requisição assíncrona do servlet); cada assinante tem uma fila limitada, drenada por um pool
+ * pequeno de envio, de modo que o listener de eventos nunca bloqueia num cliente lento.
+ * <p>
+ * A escrita é não bloqueante (WriteListener do servlet): quando o socket de um cliente não aceita
+ * mais bytes a drenagem para e é retomada pelo container em onWritePossible, então um cliente que
+ * parou de ler não prende as threads de envio. Quem fica mais de {@code mentorize.sse.prazo-envio-ms}
+ * sem conseguir receber é desconectado; o EventSource reconecta e, pela lacuna na sequência,
+ * ressincroniza por /sync.
+ * <p>
+ * Quando a fila de um assinante enche, as notificações pendentes são descartadas e ele recebe
+ * um único evento "ressincronizar": o cliente deve então consultar /sync.
+ */
+@Component
+public class CanalAlteracoes {
+
+    private static final Logger log = LoggerFactory.getLogger(CanalAlteracoes.class);
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${mentorize.sse.max-assinantes:10000}")
+    private int maxAssinantes;
+
+    @Value("${mentorize.sse.tamanho-fila:256}")
+    private int tamanhoFila;
+
+    // O EventSource do navegador reconecta sozinho ao fim do prazo
+    @Value("${mentorize.sse.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${mentorize.sse.threads-envio:4}")
+    private int threadsEnvio;
+
+    // Tempo máximo com o socket sem aceitar bytes antes de desconectar o assinante
+    @Value("${mentorize.sse.prazo-envio-ms:10000}")
+    private long prazoEnvioMs;
+
+    private final Map<Long, Assinante> assinantes = new ConcurrentHashMap<>();
+    private final AtomicLong proximoAssinante = new AtomicLong();
+    private final AtomicLong sequencia = new AtomicLong();
+    private final ThreadPoolTaskExecutor envio = new ThreadPoolTaskExecutor();
+    private Counter descartes;
+    private Counter lentos;
+
+    // Eventos prontos, compartilhados por todos os assinantes
+    private static final byte[] RESSINCRONIZAR = evento("ressincronizar", null, "{\"motivo\":\"fila cheia\"}");
+    private static final byte[] BATIMENTO = ":\n\n".getBytes(StandardCharsets.UTF_8);
+
+    @PostConstruct
+    public void iniciar() {
+        envio.setCorePoolSize(threadsEnvio);
+        envio.setMaxPoolSize(threadsEnvio);
+        envio.setThreadNamePrefix("sse-");
+        envio.setDaemon(true);
+        envio.initialize();
+        Gauge.builder("mentorize.sse.assinantes", assinantes, Map::size).register(meterRegistry);
+        descartes = Counter.builder("mentorize.sse.ressincronizacoes")
+                .description("Assinantes que perderam notificações por fila cheia")
+                .register(meterRegistry);
+        lentos = Counter.builder("mentorize.sse.desconexoes-lentos")
+                .description("Assinantes desconectados por não receberem dentro do prazo de envio")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        assinantes.values().forEach(Assinante::encerrar);
+        envio.shutdown();
+    }
+
+    // Falso quando o limite de conexões do nó foi atingido (nada é escrito na resposta)
+    public boolean assinar(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (assinantes.size() >= maxAssinantes) return false;
+
+        response.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader("Cache-Control", "no-cache");
+        AsyncContext contexto = request.startAsync(request, response);
+        contexto.setTimeout(timeoutMs);
+
+        long id = proximoAssinante.incrementAndGet();
+        Assinante assinante = new Assinante(id, contexto, response.getOutputStream(), new ArrayBlockingQueue<>(tamanhoFila));
+        assinantes.put(id, assinante);
+        contexto.addListener(assinante);
+
+        // Primeiro evento: número de sequência atual, para o cliente detectar lacunas
+        assinante.fila.offer(evento("conectado", sequencia.get(), "{}"));
+        // O container chama onWritePossible assim que a saída estiver pronta, e a drenagem começa
+        assinante.saida.setWriteListener(assinante);
+        return true;
+    }
+
+    public int getTotalAssinantes() {
+        return assinantes.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAlteracao(AlteracaoEntidadeEvent event) {
+        if (assinantes.isEmpty()) return;
+        publicar(new NotificacaoAlteracaoDTO(event.getTipo().name().toLowerCase(),
+                event.getOperacao().name(), event.getId(), versao(event.getDepois())));
+    }
+
+    // A versão não muda: o cliente que exibe "atrasada" deve reler o item mesmo assim
+    @EventListener
+    public void onPrazoVencido(PrazoVencidoEvent event) {
+        if (assinantes.isEmpty()) return;
+        publicar(new NotificacaoAlteracaoDTO(event.getTipo().name().toLowerCase(),
+                NotificacaoAlteracaoDTO.PRAZO_VENCIDO, event.getId(), event.getVersao()));
+    }
+
+    private void publicar(NotificacaoAlteracaoDTO notificacao) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(notificacao);
+        } catch (JsonProcessingException e) {
+            log.warn("Falha ao serializar notificação de {} {}: {}", notificacao.getTipo(), notificacao.getId(), e.getMessage());
+            return;
+        }
+        byte[] evento = evento("alteracao", sequencia.incrementAndGet(), json);
+        assinantes.values().forEach(assinante -> assinante.publicar(evento));
+    }
+
+    // Mantém proxies e balanceadores sem fechar a conexão e detecta clientes que sumiram
+    @Scheduled(fixedDelayString = "${mentorize.sse.batimento-ms:25000}")
+    public void batimento() {
+        assinantes.values().forEach(assinante -> assinante.publicarSeHouverEspaco(BATIMENTO));
+    }
+
+    @Scheduled(fixedDelayString = "${mentorize.sse.verificacao-envio-ms:1000}")
+    public void desconectarLentos() {
+        long limite = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(prazoEnvioMs);
+        for (Assinante assinante : assinantes.values()) {
+            long desde = assinante.bloqueadoDesde;
+            if (desde != 0 && desde - limite < 0) {
+                lentos.increment();
+                log.debug("Assinante SSE {} sem receber há mais de {} ms; desconectado", assinante.id, prazoEnvioMs);
+                assinante.encerrar();
+            }
+        }
+    }
+
+    private Long versao(Object dto) {
+        if (dto instanceof TarefaDTO tarefa) return tarefa.getVersao();
+        if (dto instanceof EstudoDTO estudo) return estudo.getVersao();
+        if (dto instanceof MetaDTO meta) return meta.getVersao();
+        if (dto instanceof AnotacaoDTO anotacao) return anotacao.getVersao();
+        return null;
+    }
+
+    // Formato text/event-stream; o json não tem quebras de linha (serialização compacta)
+    private static byte[] evento(String nome, Long id, String dados) {
+        StringBuilder evento = new StringBuilder(dados.length() + 48);
+        if (id != null) evento.append("id:").append(id).append('\n');
+        evento.append("event:").append(nome).append('\n');
+        evento.append("data:").append(dados).append("\n\n");
+        return evento.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private class Assinante implements WriteListener, AsyncListener {
+        final long id;
+        final AsyncContext contexto;
+        final ServletOutputStream saida;
+        final BlockingQueue<byte[]> fila;
+        final AtomicBoolean agendado = new AtomicBoolean();
+        final AtomicBoolean transbordou = new AtomicBoolean();
+        // Sinal do container de que a saída voltou a aceitar bytes, para não perder a retomada
+        // que chega enquanto a drenagem anterior ainda termina
+        final AtomicBoolean escritaPossivel = new AtomicBoolean();
+        // System.nanoTime() em que a saída deixou de aceitar bytes; 0 enquanto aceita
+        volatile long bloqueadoDesde;
+
+        Assinante(long id, AsyncContext contexto, ServletOutputStream saida, BlockingQueue<byte[]> fila) {
+            this.id = id;
+            this.contexto = contexto;
+            this.saida = saida;
+            this.fila = fila;
+        }
+
+        void publicar(byte[] evento) {
+            if (!fila.offer(evento)) transbordou.set(true);
+            agendar();
+        }
+
+        void publicarSeHouverEspaco(byte[] evento) {
+            if (fila.offer(evento)) agendar();
+        }
+
+        // No máximo uma drenagem por assinante em andamento: a ordem dos eventos é preservada
+        void agendar() {
+            if (agendado.compareAndSet(false, true)) envio.execute(this::drenar);
+        }
+
+        // Escreve enquanto a saída aceitar sem bloquear; se ela encher, o container chama onWritePossible
+        void drenar() {
+            try {
+                escritaPossivel.set(false);
+                if (transbordou.getAndSet(false)) {
+                    fila.clear();
+                    descartes.increment();
+                    fila.offer(RESSINCRONIZAR);
+                }
+                while (saida.isReady()) {
+                    bloqueadoDesde = 0;
+                    byte[] evento = fila.poll();
+                    if (evento == null) {
+                        saida.flush();
+                        break;
+                    }
+                    saida.write(evento);
+                }
+                if (!saida.isReady() && bloqueadoDesde == 0) bloqueadoDesde = System.nanoTime();
+            } catch (IOException | IllegalStateException e) {
+                // Cliente desconectado ou requisição já encerrada
+                encerrar();
+                return;
+            } finally {
+                agendado.set(false);
+            }
+            boolean pendente = !fila.isEmpty() || transbordou.get();
+            if (escritaPossivel.get() || (pendente && bloqueadoDesde == 0)) agendar();
+        }
+
+        // Também chamado nos erros do container: sem o complete() ele faria um dispatch de erro
+        void encerrar() {
+            assinantes.remove(id);
+            fila.clear();
+            try {
+                contexto.complete();
+            } catch (IllegalStateException e) {
+                // Já encerrado
+            }
+        }
+
+        @Override
+        public void onWritePossible() {
+            escritaPossivel.set(true);
+            agendar();
+        }
+
+        @Override
+        public void onError(Throwable erro) {
+            encerrar();
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            assinantes.remove(id);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            encerrar();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            encerrar();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.mentorize.service;
+
+import com.mentorize.event.AlteracaoEntidadeEvent;
+import com.mentorize.event.PrazoVencidoEvent;
+import com.mentorize.event.TipoEntidade;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contador de alterações por tabela, base dos ETags das listagens. Revalidar uma lista que não
+ * mudou custa uma leitura deste contador, sem consulta nem serialização.
+ * <p>
+ * O incremento acontece depois do commit e o controller lê o contador antes de consultar: no
+ * pior caso o cliente recebe dados novos com o ETag antigo e baixa a lista de novo na próxima
+ * alteração, nunca dados antigos com um ETag novo.
+ */
+@Component
+public class ContadorAlteracoes {
+
+    // Os contadores recomeçam do zero a cada reinício; a época evita reaproveitar ETags antigos
+    private final String epoca = Long.toString(System.currentTimeMillis(), 36);
+
+    private final Map<TipoEntidade, AtomicLong> contadores = new EnumMap<>(TipoEntidade.class);
+
+    public ContadorAlteracoes() {
+        for (TipoEntidade tipo : TipoEntidade.values()) {
+            contadores.put(tipo, new AtomicLong());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAlteracao(AlteracaoEntidadeEvent event) {
+        contadores.get(event.getTipo()).incrementAndGet();
+    }
+
+    // Um item que vence muda o campo "atrasada" das listas sem alterar a tabela
+    @EventListener
+    public void onPrazoVencido(PrazoVencidoEvent event) {
+        contadores.get(event.getTipo()).incrementAndGet();
+    }
+
+    public long getValor(TipoEntidade tipo) {
+        return contadores.get(tipo).get();
+    }
+
+    // Fraco: identifica o conteúdo da lista, não os bytes. O dia entra porque filtros e campos
+    // calculados com a data atual (recentes, diasRestantes, atrasada) mudam sem alterar a tabela
+    public String etagLista(TipoEntidade tipo) {
+        return etagLista(tipo, LocalDate.now());
+    }
+
+    // Para listas que dependem do dia em outro fuso (ex.: /tarefas/hoje?zona=...)
+    public String etagLista(TipoEntidade tipo, LocalDate dia) {
+        return "W/\"" + tipo.getRecurso() + "-" + epoca + "-" + getValor(tipo) + "-" + dia.toEpochDay() + "\"";
+    }
+
+    // Forte: id e versão da linha; metas também dependem do dia (diasRestantes, atrasada)
+    public static String etagItem(TipoEntidade tipo, Long id, Long versao) {
+        String etag = id + "-" + versao;
+        if (tipo == TipoEntidade.META) etag += "-" + LocalDate.now().toEpochDay();
+        return "\"" + etag + "\"";
+    }
+}
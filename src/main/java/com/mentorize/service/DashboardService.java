@@ -0,0 +1,133 @@
+package com.mentorize.service;
+
+import com.mentorize.dto.MetaDTO;
+import com.mentorize.dto.ResumoDashboardDTO;
+import com.mentorize.repository.AnotacaoRepository;
+import com.mentorize.repository.MetaRepository;
+import com.mentorize.repository.TarefaRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+@Service
+public class DashboardService {
+
+    @Autowired
+    private TarefaRepository tarefaRepository;
+
+    @Autowired
+    private ResumoEstudosService resumoEstudosService;
+
+    @Autowired
+    private MetaRepository metaRepository;
+
+    @Autowired
+    private AnotacaoRepository anotacaoRepository;
+
+    @Autowired
+    private MetaService metaService;
+
+    // Cada resumo dispara 11 consultas, cada uma com uma conexão. No máximo consultasParalelas delas
+    // ficam em andamento no nó, somando todas as requisições: com 3, sobram 7 das 10 conexões padrão
+    // do Hikari para as demais rotas, e um resumo isolado leva cerca de 4 rodadas de consultas
+    @Value("${mentorize.dashboard.consultas-paralelas:3}")
+    private int consultasParalelas;
+
+    private final ThreadPoolTaskExecutor consultas = new ThreadPoolTaskExecutor();
+
+    @PostConstruct
+    public void iniciar() {
+        consultas.setCorePoolSize(consultasParalelas);
+        consultas.setMaxPoolSize(consultasParalelas);
+        consultas.setThreadNamePrefix("dashboard-");
+        consultas.setDaemon(true);
+        consultas.initialize();
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        consultas.shutdown();
+    }
+
+    // Dispara as consultas agregadas em paralelo (até consultasParalelas por vez) e monta o resumo
+    // quando todas terminarem
+    public ResumoDashboardDTO getResumo() {
+        CompletableFuture<Long> tarefasPendentes = async(tarefaRepository::countPendentes);
+        CompletableFuture<Long> tarefasConcluidas = async(tarefaRepository::countConcluidas);
+        // Estudos: lidos do resumo diário (O(dias x matérias)) em vez de agregar a tabela inteira
+        CompletableFuture<Long> estudosTotal = async(resumoEstudosService::getTotal);
+        CompletableFuture<Long> estudosConcluidos = async(resumoEstudosService::getConcluidos);
+        CompletableFuture<Long> tempoTotal = async(resumoEstudosService::getMinutosConcluidos);
+        CompletableFuture<List<Object[]>> porMateria = async(resumoEstudosService::countByMateria);
+        CompletableFuture<Long> metasTotal = async(metaRepository::count);
+        CompletableFuture<Long> metasConcluidas = async(metaRepository::countConcluidas);
+        CompletableFuture<Double> progressoMedio = async(metaRepository::avgProgressoMetasAtivas);
+        CompletableFuture<List<MetaDTO>> destaques = async(metaService::findDestaques);
+        CompletableFuture<Long> anotacoesTotal = async(anotacaoRepository::countTotal);
+
+        try {
+            CompletableFuture.allOf(tarefasPendentes, tarefasConcluidas, estudosTotal, estudosConcluidos,
+                    tempoTotal, porMateria, metasTotal, metasConcluidas, progressoMedio,
+                    destaques, anotacoesTotal).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+
+        ResumoDashboardDTO resumo = new ResumoDashboardDTO();
+        resumo.setTarefasPendentes(valor(tarefasPendentes.join()));
+        resumo.setTarefasConcluidas(valor(tarefasConcluidas.join()));
+        resumo.setEstudosTotal(valor(estudosTotal.join()));
+        resumo.setEstudosConcluidos(valor(estudosConcluidos.join()));
+        resumo.setTempoTotalEstudo(valor(tempoTotal.join()));
+        // Média dos estudos concluídos, a partir das duas somas já lidas
+        resumo.setDuracaoMediaEstudos(resumo.getEstudosConcluidos() == 0
+                ? 0.0 : (double) resumo.getTempoTotalEstudo() / resumo.getEstudosConcluidos());
+        resumo.setEstudosPorMateria(toMapa(porMateria.join()));
+        resumo.setMetasTotal(valor(metasTotal.join()));
+        resumo.setMetasConcluidas(valor(metasConcluidas.join()));
+        resumo.setProgressoMedioMetasAtivas(valor(progressoMedio.join()));
+        resumo.setMetasDestaque(destaques.join());
+        resumo.setAnotacoesTotal(valor(anotacoesTotal.join()));
+        resumo.setProdutividade(calcularProdutividade(resumo));
+        return resumo;
+    }
+
+    private <T> CompletableFuture<T> async(Supplier<T> consulta) {
+        return CompletableFuture.supplyAsync(consulta, consultas);
+    }
+
+    // Mesma regra usada antes no dashboard.js: (estudos + metas concluídos) / (estudos + metas)
+    private int calcularProdutividade(ResumoDashboardDTO resumo) {
+        long totalItens = resumo.getEstudosTotal() + resumo.getMetasTotal();
+        if (totalItens == 0) return 0;
+        long concluidos = resumo.getEstudosConcluidos() + resumo.getMetasConcluidas();
+        return (int) Math.min(100, Math.round(concluidos * 100.0 / totalItens));
+    }
+
+    private Map<String, Long> toMapa(List<Object[]> linhas) {
+        Map<String, Long> mapa = new LinkedHashMap<>();
+        for (Object[] linha : linhas) {
+            mapa.put((String) linha[0], ((Number) linha[1]).longValue());
+        }
+        return mapa;
+    }
+
+    private long valor(Long valor) {
+        return valor != null ? valor : 0L;
+    }
+
+    private double valor(Double valor) {
+        return valor != null ? valor : 0.0;
+    }
+}
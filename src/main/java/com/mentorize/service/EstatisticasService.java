@@ -0,0 +1,330 @@
+package com.mentorize.service;
+
+import com.mentorize.dto.AnotacaoDTO;
+import com.mentorize.dto.EstatisticasDTO;
+import com.mentorize.dto.EstudoDTO;
+import com.mentorize.dto.MetaDTO;
+import com.mentorize.dto.TarefaDTO;
+import com.mentorize.event.AlteracaoEntidadeEvent;
+import com.mentorize.event.PrazoVencidoEvent;
+import com.mentorize.event.TipoEntidade;
+import com.mentorize.repository.AnotacaoRepository;
+import com.mentorize.repository.EstudoRepository;
+import com.mentorize.repository.MetaRepository;
+import com.mentorize.repository.TarefaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Contadores em memória por entidade. Cada escrita dos services ajusta os contadores
+ * (remove o estado "antes" e soma o estado "depois"), e o índice de prazos avisa quando um item
+ * pendente passa do prazo. A ressincronização periódica com o banco corrige o que o incremento
+ * possa ter perdido, sem descartar as escritas que chegam enquanto ela lê.
+ */
+@Service
+public class EstatisticasService {
+
+    private static final Logger log = LoggerFactory.getLogger(EstatisticasService.class);
+
+    private static final String SEM_GRUPO = "indefinido";
+
+    @Autowired
+    private TarefaRepository tarefaRepository;
+
+    @Autowired
+    private EstudoRepository estudoRepository;
+
+    @Autowired
+    private MetaRepository metaRepository;
+
+    @Autowired
+    private ResumoEstudosService resumoEstudosService;
+
+    @Autowired
+    private AnotacaoRepository anotacaoRepository;
+
+    private final Map<TipoEntidade, Contadores> contadores = new EnumMap<>(TipoEntidade.class);
+
+    // Leitura: uma transação entre o commit e a aplicação das suas variações. Escrita: a ressincronização
+    // abrindo o snapshot, que assim fica antes ou depois de cada commit, nunca no meio
+    private final ReentrantReadWriteLock commits = new ReentrantReadWriteLock();
+
+    public EstatisticasService() {
+        contadores.put(TipoEntidade.TAREFA, new Contadores("categoria"));
+        contadores.put(TipoEntidade.ESTUDO, new Contadores("materia"));
+        contadores.put(TipoEntidade.META, new Contadores("tipo"));
+        contadores.put(TipoEntidade.ANOTACAO, new Contadores(null));
+    }
+
+    public EstatisticasDTO getEstatisticas(TipoEntidade tipo) {
+        return contadores.get(tipo).snapshot();
+    }
+
+    public Map<String, EstatisticasDTO> getTodas() {
+        Map<String, EstatisticasDTO> todas = new LinkedHashMap<>();
+        for (TipoEntidade tipo : TipoEntidade.values()) {
+            todas.put(tipo.getRecurso(), getEstatisticas(tipo));
+        }
+        return todas;
+    }
+
+    // ================================
+    // ATUALIZAÇÃO INCREMENTAL
+    // ================================
+    // Síncrono: numa transação as variações são acumuladas e aplicadas logo depois do commit; fora
+    // dela (o repositório já confirmou) são aplicadas na hora
+    @EventListener
+    public void onAlteracao(AlteracaoEntidadeEvent event) {
+        boolean emTransacao = TransactionSynchronizationManager.isSynchronizationActive();
+        List<Variacao> variacoes = emTransacao ? pendentesDaTransacao() : new ArrayList<>();
+        if (event.getAntes() != null) variacoes.add(new Variacao(event.getTipo(), situacao(event.getAntes()), -1));
+        if (event.getDepois() != null) variacoes.add(new Variacao(event.getTipo(), situacao(event.getDepois()), 1));
+        if (!emTransacao) {
+            commits.readLock().lock();
+            try {
+                aplicar(variacoes);
+            } finally {
+                commits.readLock().unlock();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Variacao> pendentesDaTransacao() {
+        List<Variacao> pendentes = (List<Variacao>) TransactionSynchronizationManager.getResource(this);
+        if (pendentes != null) return pendentes;
+
+        List<Variacao> novas = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, novas);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean bloqueado;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                commits.readLock().lock();
+                bloqueado = true;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_COMMITTED) aplicar(novas);
+                } finally {
+                    if (bloqueado) commits.readLock().unlock();
+                    TransactionSynchronizationManager.unbindResourceIfPossible(EstatisticasService.this);
+                }
+            }
+        });
+        return novas;
+    }
+
+    private void aplicar(List<Variacao> variacoes) {
+        for (Variacao variacao : variacoes) {
+            contadores.get(variacao.tipo).aplicar(variacao.situacao, variacao.sinal);
+        }
+    }
+
+    @EventListener
+    public void onPrazoVencido(PrazoVencidoEvent event) {
+        contadores.get(event.getTipo()).somarAtrasado();
+    }
+
+    private Situacao situacao(Object dto) {
+        if (dto instanceof TarefaDTO tarefa) {
+            boolean atrasada = !tarefa.isConcluida() && tarefa.getPrazo() != null
+                    && LocalDate.now().isAfter(tarefa.getPrazo());
+            return new Situacao(tarefa.isConcluida(), atrasada, tarefa.getCategoria(), 0);
+        }
+        if (dto instanceof EstudoDTO estudo) {
+            boolean concluido = Boolean.TRUE.equals(estudo.getConcluido());
+            boolean atrasado = !concluido && estudo.getPrazo() != null
+                    && LocalDate.now().isAfter(estudo.getPrazo());
+            long minutos = concluido && estudo.getDuracao() != null ? estudo.getDuracao() : 0;
+            return new Situacao(concluido, atrasado, estudo.getMateria(), minutos);
+        }
+        if (dto instanceof MetaDTO meta) {
+            boolean atrasada = !meta.isConcluida() && meta.getDataLimite() != null
+                    && meta.getDataLimite().isBefore(LocalDateTime.now());
+            return new Situacao(meta.isConcluida(), atrasada, meta.getTipo(), 0);
+        }
+        if (dto instanceof AnotacaoDTO) {
+            return new Situacao(false, false, null, 0);
+        }
+        throw new IllegalArgumentException("DTO não suportado: " + dto.getClass().getSimpleName());
+    }
+
+    // ================================
+    // RESSINCRONIZAÇÃO COM O BANCO
+    // ================================
+    // Todas as contagens saem de um mesmo instante do banco (transação somente leitura em REPEATABLE
+    // READ: no InnoDB, o snapshot da primeira leitura). Ele é aberto sem nenhum commit em andamento:
+    // o que confirmou antes está nas contagens e já foi aplicado; o que confirma depois é capturado
+    // e somado às contagens, em vez de ser descartado pela substituição.
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${mentorize.estatisticas.ressincronizacao-ms:300000}",
+               initialDelayString = "${mentorize.estatisticas.ressincronizacao-ms:300000}")
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public synchronized void ressincronizar() {
+        try {
+            commits.writeLock().lock();
+            try {
+                // Leitura barata que abre o snapshot da transação
+                tarefaRepository.existsById(0L);
+                contadores.values().forEach(Contadores::iniciarCaptura);
+            } finally {
+                commits.writeLock().unlock();
+            }
+
+            contadores.get(TipoEntidade.TAREFA).substituir(
+                    tarefaRepository.count(),
+                    valor(tarefaRepository.countConcluidas()),
+                    valor(tarefaRepository.countTarefasAtrasadas()),
+                    0,
+                    toMapa(tarefaRepository.countPorCategoria()));
+
+            // Totais de estudos vêm do resumo diário; atrasos dependem da data de hoje e vêm da tabela
+            contadores.get(TipoEntidade.ESTUDO).substituir(
+                    resumoEstudosService.getTotal(),
+                    resumoEstudosService.getConcluidos(),
+                    valor(estudoRepository.countEstudosAtrasados()),
+                    resumoEstudosService.getMinutosConcluidos(),
+                    toMapa(resumoEstudosService.countByMateria()));
+
+            contadores.get(TipoEntidade.META).substituir(
+                    metaRepository.count(),
+                    valor(metaRepository.countConcluidas()),
+                    valor(metaRepository.countMetasAtrasadas()),
+                    0,
+                    toMapa(metaRepository.countPorTipo()));
+
+            contadores.get(TipoEntidade.ANOTACAO).substituir(
+                    valor(anotacaoRepository.countTotal()), 0, 0, 0, Map.of());
+        } catch (RuntimeException e) {
+            log.warn("Falha ao ressincronizar estatísticas; mantendo contadores atuais", e);
+        } finally {
+            contadores.values().forEach(Contadores::encerrarCaptura);
+        }
+    }
+
+    private Map<String, Long> toMapa(List<Object[]> linhas) {
+        Map<String, Long> mapa = new HashMap<>();
+        for (Object[] linha : linhas) {
+            mapa.merge(grupo(linha[0] != null ? linha[0].toString() : null), ((Number) linha[1]).longValue(), Long::sum);
+        }
+        return mapa;
+    }
+
+    private static String grupo(String valor) {
+        return valor != null ? valor : SEM_GRUPO;
+    }
+
+    private long valor(Long valor) {
+        return valor != null ? valor : 0L;
+    }
+
+    private record Variacao(TipoEntidade tipo, Situacao situacao, int sinal) { }
+
+    // Estado de um item que interessa aos contadores
+    private static class Situacao {
+        final boolean concluido;
+        final boolean atrasado;
+        final String grupo;
+        final long minutos;
+
+        Situacao(boolean concluido, boolean atrasado, String grupo, long minutos) {
+            this.concluido = concluido;
+            this.atrasado = atrasado;
+            this.grupo = grupo;
+            this.minutos = minutos;
+        }
+    }
+
+    private static class Contadores {
+        private final String agrupamento;
+        private long total;
+        private long concluidos;
+        private long atrasados;
+        private long minutosConcluidos;
+        private Map<String, Long> porGrupo = new HashMap<>();
+        // Variações aplicadas desde o início da ressincronização em andamento; nulo fora dela
+        private Contadores captura;
+
+        Contadores(String agrupamento) {
+            this.agrupamento = agrupamento;
+        }
+
+        synchronized void aplicar(Situacao situacao, int sinal) {
+            somar(situacao, sinal);
+            if (captura != null) captura.somar(situacao, sinal);
+            if (agrupamento != null && porGrupo.getOrDefault(grupo(situacao.grupo), 0L) <= 0) {
+                porGrupo.remove(grupo(situacao.grupo));
+            }
+        }
+
+        // Na captura os valores podem ficar negativos (mais saídas que entradas no período)
+        private void somar(Situacao situacao, int sinal) {
+            total += sinal;
+            if (situacao.concluido) concluidos += sinal;
+            if (situacao.atrasado) atrasados += sinal;
+            minutosConcluidos += sinal * situacao.minutos;
+            if (agrupamento != null) porGrupo.merge(grupo(situacao.grupo), (long) sinal, Long::sum);
+        }
+
+        synchronized void somarAtrasado() {
+            atrasados++;
+            if (captura != null) captura.atrasados++;
+        }
+
+        synchronized void iniciarCaptura() {
+            captura = new Contadores(agrupamento);
+        }
+
+        synchronized void encerrarCaptura() {
+            captura = null;
+        }
+
+        synchronized void substituir(long total, long concluidos, long atrasados, long minutosConcluidos,
+                                     Map<String, Long> porGrupo) {
+            Contadores variacao = captura != null ? captura : new Contadores(agrupamento);
+            this.total = total + variacao.total;
+            this.concluidos = concluidos + variacao.concluidos;
+            this.atrasados = atrasados + variacao.atrasados;
+            this.minutosConcluidos = minutosConcluidos + variacao.minutosConcluidos;
+            this.porGrupo = new HashMap<>(porGrupo);
+            variacao.porGrupo.forEach((chave, valor) -> this.porGrupo.merge(chave, valor, Long::sum));
+            this.porGrupo.values().removeIf(valor -> valor <= 0);
+            captura = null;
+        }
+
+        synchronized EstatisticasDTO snapshot() {
+            EstatisticasDTO dto = new EstatisticasDTO();
+            dto.setTotal(total);
+            dto.setConcluidos(concluidos);
+            dto.setPendentes(total - concluidos);
+            dto.setAtrasados(atrasados);
+            dto.setMinutosConcluidos(minutosConcluidos);
+            dto.setAgrupamento(agrupamento);
+            dto.setPorGrupo(agrupamento != null ? new HashMap<>(porGrupo) : null);
+            return dto;
+        }
+    }
+}
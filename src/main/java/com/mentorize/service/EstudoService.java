@@ -1,11 +1,22 @@
 package com.mentorize.service;
 
+import com.mentorize.dto.CursorPaginacao;
 import com.mentorize.dto.EstudoDTO;
+import com.mentorize.dto.OperacaoLoteDTO;
+import com.mentorize.dto.PaginaDTO;
+import com.mentorize.dto.ResultadoLoteDTO;
+import com.mentorize.event.AlteracaoEntidadeEvent;
+import com.mentorize.event.TipoEntidade;
 import com.mentorize.exception.ResourceNotFoundException;
 import com.mentorize.model.Estudo;
 import com.mentorize.repository.EstudoRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -17,82 +28,125 @@ public class EstudoService {
     @Autowired
     private EstudoRepository estudoRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ResumoEstudosService resumoEstudosService;
+
+    @Autowired
+    private ProcessadorLote processadorLote;
+
+    // Leituras projetadas direto no DTO, em transação somente leitura
+    @Transactional(readOnly = true)
     public List<EstudoDTO> findAll() {
-        return estudoRepository.findAllByOrderByDataCriacaoDesc()
-                .stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+        return estudoRepository.findTodosDTO();
     }
 
+    @Transactional(readOnly = true)
+    public PaginaDTO<EstudoDTO> findPagina(String after, Integer limit) {
+        int limite = PaginaDTO.normalizarLimite(limit);
+        Pageable pageable = PageRequest.ofSize(limite + 1);
+
+        List<EstudoDTO> itens;
+        if (after == null || after.isBlank()) {
+            itens = estudoRepository.findPrimeiraPaginaDTO(pageable);
+        } else {
+            CursorPaginacao cursor = CursorPaginacao.parse(after);
+            itens = estudoRepository.findPaginaAposDTO(cursor.getData(), cursor.getId(), pageable);
+        }
+
+        return PaginaDTO.de(itens, limite, dto -> new CursorPaginacao(dto.getDataCriacao(), dto.getId()));
+    }
+
+    @Cacheable(cacheNames = "estudos", key = "#id")
+    @Transactional(readOnly = true)
     public EstudoDTO findById(Long id) {
-        Estudo estudo = estudoRepository.findById(id)
+        return estudoRepository.findByIdDTO(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Estudo não encontrado com id: " + id));
-        return toDTO(estudo);
     }
 
     public EstudoDTO create(EstudoDTO estudoDTO) {
-        Estudo estudo = toEntity(estudoDTO);
-        estudo.setDataCriacao(LocalDateTime.now());
+        Estudo estudo = novaEntidade(estudoDTO);
         Estudo saved = estudoRepository.save(estudo);
-        return toDTO(saved);
+        EstudoDTO criado = toDTO(saved);
+        eventPublisher.publishEvent(AlteracaoEntidadeEvent.criacao(TipoEntidade.ESTUDO, criado.getId(), criado));
+        return criado;
     }
 
+    // Leitura e escrita na mesma transação; o flush incrementa a versão antes de montar o DTO
+    @Transactional
     public EstudoDTO update(Long id, EstudoDTO estudoDTO) {
         return estudoRepository.findById(id)
                 .map(existingEstudo -> {
+                    EstudoDTO antes = toDTO(existingEstudo);
                     updateEntityFromDTO(existingEstudo, estudoDTO);
-                    Estudo updated = estudoRepository.save(existingEstudo);
-                    return toDTO(updated);
+                    Estudo updated = estudoRepository.saveAndFlush(existingEstudo);
+                    EstudoDTO depois = toDTO(updated);
+                    eventPublisher.publishEvent(AlteracaoEntidadeEvent.atualizacao(TipoEntidade.ESTUDO, id, antes, depois));
+                    return depois;
                 })
                 .orElseThrow(() -> new ResourceNotFoundException("Estudo não encontrado com id: " + id));
     }
 
+    // Transacional para o registro de exclusão do /sync ser gravado junto
+    @Transactional
     public void delete(Long id) {
-        if (!estudoRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Estudo não encontrado com id: " + id);
-        }
-        estudoRepository.deleteById(id);
+        Estudo estudo = estudoRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Estudo não encontrado com id: " + id));
+        EstudoDTO antes = toDTO(estudo);
+        estudoRepository.delete(estudo);
+        eventPublisher.publishEvent(AlteracaoEntidadeEvent.exclusao(TipoEntidade.ESTUDO, id, antes));
+    }
+
+    @Transactional
+    public List<ResultadoLoteDTO<EstudoDTO>> processarLote(List<? extends OperacaoLoteDTO<EstudoDTO>> operacoes) {
+        return processadorLote.processar(operacoes, TipoEntidade.ESTUDO, estudoRepository,
+                this::novaEntidade, this::updateEntityFromDTO, this::toDTO, Estudo::getId,
+                id -> "Estudo não encontrado com id: " + id);
     }
 
+    @Transactional(readOnly = true)
     public List<EstudoDTO> findByConcluidoFalse() {
-        return estudoRepository.findByConcluidoFalse()
-                .stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+        return estudoRepository.findPendentesDTO();
     }
 
+    @Transactional(readOnly = true)
     public List<EstudoDTO> findByMateria(String materia) {
-        return estudoRepository.findByMateria(materia)
-                .stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+        return estudoRepository.findByMateriaDTO(materia);
     }
 
+    @Transactional(readOnly = true)
     public List<EstudoDTO> findRecent() {
-        return estudoRepository.findTop10ByOrderByDataCriacaoDesc()
-                .stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+        return estudoRepository.findRecentesDTO(PageRequest.ofSize(10));
     }
 
+    // Um único UPDATE condicional faz a transição; a releitura pela PK devolve o estado novo
+    @Transactional
     public EstudoDTO marcarComoConcluido(Long id) {
-        return estudoRepository.findById(id)
-                .map(estudo -> {
-                    estudo.setConcluido(true);
-                    Estudo updated = estudoRepository.save(estudo);
-                    return toDTO(updated);
-                })
+        boolean concluiuAgora = estudoRepository.concluir(id, LocalDateTime.now()) == 1;
+        Estudo estudo = estudoRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Estudo não encontrado com id: " + id));
+
+        EstudoDTO depois = toDTO(estudo);
+        if (concluiuAgora) {
+            EstudoDTO antes = toDTO(estudo);
+            antes.setConcluido(false);
+            antes.setVersao(estudo.getVersao() - 1);
+            eventPublisher.publishEvent(AlteracaoEntidadeEvent.atualizacao(TipoEntidade.ESTUDO, id, antes, depois));
+        }
+        return depois;
     }
 
     public Long getTotalTempoEstudo() {
-        return estudoRepository.sumDuracaoByConcluidoTrue();
+        return resumoEstudosService.getMinutosConcluidos();
     }
 
     // Métodos de conversão
-    private EstudoDTO toDTO(Estudo estudo) {
+    EstudoDTO toDTO(Estudo estudo) {
         EstudoDTO dto = new EstudoDTO();
         dto.setId(estudo.getId());
+        dto.setVersao(estudo.getVersao());
         dto.setTitulo(estudo.getTitulo());
         dto.setDescricao(estudo.getDescricao());
         dto.setMateria(estudo.getMateria());
@@ -101,10 +155,11 @@ public class EstudoService {
         dto.setDuracao(estudo.getDuracao());
         dto.setAnotacoes(estudo.getAnotacoes());
         dto.setDataCriacao(estudo.getDataCriacao());
+        dto.setDataAtualizacao(estudo.getDataAtualizacao());
         return dto;
     }
 
-    private Estudo toEntity(EstudoDTO dto) {
+    Estudo toEntity(EstudoDTO dto) {
         Estudo estudo = new Estudo();
         estudo.setTitulo(dto.getTitulo());
         estudo.setDescricao(dto.getDescricao());
@@ -116,7 +171,13 @@ public class EstudoService {
         return estudo;
     }
 
-    private void updateEntityFromDTO(Estudo estudo, EstudoDTO dto) {
+    private Estudo novaEntidade(EstudoDTO dto) {
+        Estudo estudo = toEntity(dto);
+        estudo.setDataCriacao(LocalDateTime.now());
+        return estudo;
+    }
+
+    void updateEntityFromDTO(Estudo estudo, EstudoDTO dto) {
         if (dto.getTitulo() != null) estudo.setTitulo(dto.getTitulo());
         if (dto.getDescricao() != null) estudo.setDescricao(dto.getDescricao());
         if (dto.getMateria() != null) estudo.setMateria(dto.getMateria());
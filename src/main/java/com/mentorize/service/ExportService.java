@@ -0,0 +1,115 @@
+package com.mentorize.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mentorize.event.TipoEntidade;
+import com.mentorize.model.Anotacao;
+import com.mentorize.model.Estudo;
+import com.mentorize.model.Meta;
+import com.mentorize.model.Tarefa;
+import com.mentorize.repository.AnotacaoRepository;
+import com.mentorize.repository.EstudoRepository;
+import com.mentorize.repository.MetaRepository;
+import com.mentorize.repository.TarefaRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Exporta todos os dados como NDJSON, uma linha {"tipo": ..., "dados": {...}} por registro,
+ * no mesmo formato de DTO dos endpoints. As linhas são lidas por cursor (fetch size fixo nos
+ * repositórios) e cada entidade é desanexada depois de escrita, então o uso de memória não
+ * depende da quantidade de registros. Uma única transação somente leitura dá uma visão
+ * consistente das quatro tabelas.
+ */
+@Service
+public class ExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportService.class);
+
+    @Autowired
+    private TarefaRepository tarefaRepository;
+
+    @Autowired
+    private EstudoRepository estudoRepository;
+
+    @Autowired
+    private MetaRepository metaRepository;
+
+    @Autowired
+    private AnotacaoRepository anotacaoRepository;
+
+    @Autowired
+    private TarefaService tarefaService;
+
+    @Autowired
+    private EstudoService estudoService;
+
+    @Autowired
+    private MetaService metaService;
+
+    @Autowired
+    private AnotacaoService anotacaoService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public long exportar(OutputStream destino) throws IOException {
+        long inicio = System.currentTimeMillis();
+        long total = 0;
+
+        JsonGenerator gerador = objectMapper.createGenerator(destino);
+        gerador.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // Sem separador entre valores raiz: cada linha termina com '\n'
+        gerador.setRootValueSeparator(null);
+
+        try (Stream<Tarefa> tarefas = tarefaRepository.streamAllByOrderByIdAsc()) {
+            total += escrever(gerador, TipoEntidade.TAREFA, tarefas, tarefaService::toDTO);
+        }
+        try (Stream<Estudo> estudos = estudoRepository.streamAllByOrderByIdAsc()) {
+            total += escrever(gerador, TipoEntidade.ESTUDO, estudos, estudoService::toDTO);
+        }
+        try (Stream<Meta> metas = metaRepository.streamAllByOrderByIdAsc()) {
+            total += escrever(gerador, TipoEntidade.META, metas, metaService::toDTO);
+        }
+        try (Stream<Anotacao> anotacoes = anotacaoRepository.streamAllByOrderByIdAsc()) {
+            total += escrever(gerador, TipoEntidade.ANOTACAO, anotacoes, anotacaoService::toDTO);
+        }
+
+        gerador.flush();
+        log.info("Exportação concluída: {} registros em {} ms", total, System.currentTimeMillis() - inicio);
+        return total;
+    }
+
+    private <E, D> long escrever(JsonGenerator gerador, TipoEntidade tipo, Stream<E> entidades,
+                                 Function<E, D> toDTO) throws IOException {
+        String nome = tipo.name().toLowerCase();
+        long escritos = 0;
+        Iterator<E> iterator = entidades.iterator();
+        while (iterator.hasNext()) {
+            E entidade = iterator.next();
+            gerador.writeStartObject();
+            gerador.writeStringField("tipo", nome);
+            gerador.writeObjectField("dados", toDTO.apply(entidade));
+            gerador.writeEndObject();
+            gerador.writeRaw('\n');
+            entityManager.detach(entidade);
+            escritos++;
+        }
+        return escritos;
+    }
+}
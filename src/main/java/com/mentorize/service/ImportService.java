@@ -0,0 +1,320 @@
+package com.mentorize.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.mentorize.dto.AnotacaoDTO;
+import com.mentorize.dto.EstudoDTO;
+import com.mentorize.dto.MetaDTO;
+import com.mentorize.dto.OperacaoLoteDTO;
+import com.mentorize.dto.RelatorioImportacaoDTO;
+import com.mentorize.dto.ResultadoLoteDTO;
+import com.mentorize.dto.TarefaDTO;
+import com.mentorize.event.TipoEntidade;
+import com.mentorize.exception.ResourceNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Importação em fluxo de NDJSON (mesmo formato do /export) ou CSV (uma entidade por arquivo,
+ * com cabeçalho usando os nomes dos campos do DTO). Os registros são lidos um a um e
+ * acumulados por tipo até {@link #TAMANHO_LOTE}; cada lote é gravado pelo processarLote do
+ * serviço, em sua própria transação. A leitura só continua depois que o lote foi gravado,
+ * então um cliente mais rápido que o banco é freado pelo próprio TCP e a memória fica
+ * limitada a um lote por tipo, qualquer que seja o tamanho do arquivo.
+ */
+@Service
+public class ImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportService.class);
+
+    public static final int TAMANHO_LOTE = 500;
+    private static final int MAX_ERROS_REPORTADOS = 1000;
+    private static final int MAX_IMPORTACOES_GUARDADAS = 20;
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+
+    @Autowired
+    private TarefaService tarefaService;
+
+    @Autowired
+    private EstudoService estudoService;
+
+    @Autowired
+    private MetaService metaService;
+
+    @Autowired
+    private AnotacaoService anotacaoService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final CsvMapper csvMapper = CsvMapper.builder()
+            .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+            .enable(CsvParser.Feature.SKIP_EMPTY_LINES)
+            .build();
+
+    // Importações recentes, para consulta de progresso; as mais antigas saem primeiro
+    private final Map<String, Importacao> importacoes = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Importacao> eldest) {
+            return size() > MAX_IMPORTACOES_GUARDADAS;
+        }
+    };
+
+    // ================================
+    // NDJSON
+    // ================================
+    public RelatorioImportacaoDTO importarNdjson(InputStream entrada, String id) {
+        Importacao importacao = iniciar(id);
+        Map<TipoEntidade, Destino<?>> destinos = destinos(importacao);
+        long numero = 0;
+        try {
+            BufferedReader leitor = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8), TAMANHO_BUFFER);
+            String linha;
+            while ((linha = leitor.readLine()) != null) {
+                numero++;
+                if (linha.isBlank()) continue;
+                importacao.linhasLidas.incrementAndGet();
+                try {
+                    JsonNode registro = objectMapper.readTree(linha);
+                    TipoEntidade tipo = TipoEntidade.fromRecurso(registro.path("tipo").asText());
+                    JsonNode dados = registro.get("dados");
+                    if (dados == null || !dados.isObject()) {
+                        throw new IllegalArgumentException("Campo \"dados\" ausente ou inválido");
+                    }
+                    destinos.get(tipo).adicionar(dados, numero);
+                } catch (JsonProcessingException e) {
+                    importacao.rejeitar(numero, "JSON inválido: " + e.getOriginalMessage());
+                } catch (IllegalArgumentException e) {
+                    importacao.rejeitar(numero, e.getMessage());
+                }
+            }
+            for (Destino<?> destino : destinos.values()) destino.gravar();
+            importacao.concluir();
+        } catch (IOException e) {
+            importacao.falhar(numero, "Leitura interrompida: " + e.getMessage());
+        } finally {
+            importacao.interromperSeEmAndamento(numero);
+        }
+        return importacao.relatorio();
+    }
+
+    // ================================
+    // CSV
+    // ================================
+    public RelatorioImportacaoDTO importarCsv(InputStream entrada, TipoEntidade tipo, String id) {
+        Importacao importacao = iniciar(id);
+        Destino<?> destino = destinos(importacao).get(tipo);
+        // Conta registros: um campo entre aspas com quebras de linha não avança a numeração
+        long numero = 1; // cabeçalho
+        try {
+            Reader leitor = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8), TAMANHO_BUFFER);
+            MappingIterator<Map<String, String>> registros = csvMapper
+                    .readerFor(Map.class)
+                    .with(CsvSchema.emptySchema().withHeader())
+                    .readValues(leitor);
+            while (registros.hasNextValue()) {
+                Map<String, String> registro = registros.nextValue();
+                numero++;
+                importacao.linhasLidas.incrementAndGet();
+                try {
+                    destino.adicionar(registro, numero);
+                } catch (IllegalArgumentException e) {
+                    importacao.rejeitar(numero, e.getMessage());
+                }
+            }
+            destino.gravar();
+            importacao.concluir();
+        } catch (IOException e) {
+            // Erros de estrutura do CSV (aspas não fechadas, colunas a mais) interrompem a leitura
+            importacao.falhar(numero + 1, "Leitura interrompida: " + e.getMessage());
+        } finally {
+            importacao.interromperSeEmAndamento(numero);
+        }
+        return importacao.relatorio();
+    }
+
+    // ================================
+    // PROGRESSO
+    // ================================
+    public RelatorioImportacaoDTO getRelatorio(String id) {
+        Importacao importacao;
+        synchronized (importacoes) {
+            importacao = importacoes.get(id);
+        }
+        if (importacao == null) throw new ResourceNotFoundException("Importação não encontrada com id: " + id);
+        return importacao.relatorio();
+    }
+
+    public List<RelatorioImportacaoDTO> listar() {
+        List<Importacao> recentes;
+        synchronized (importacoes) {
+            recentes = new ArrayList<>(importacoes.values());
+        }
+        List<RelatorioImportacaoDTO> relatorios = new ArrayList<>();
+        for (int i = recentes.size() - 1; i >= 0; i--) relatorios.add(recentes.get(i).relatorio());
+        return relatorios;
+    }
+
+    private Importacao iniciar(String id) {
+        String chave = id == null || id.isBlank() ? UUID.randomUUID().toString() : id;
+        synchronized (importacoes) {
+            Importacao existente = importacoes.get(chave);
+            if (existente != null && Importacao.EM_ANDAMENTO.equals(existente.status)) {
+                throw new IllegalArgumentException("Importação já em andamento com id: " + chave);
+            }
+            Importacao importacao = new Importacao(chave);
+            importacoes.remove(chave);
+            importacoes.put(chave, importacao);
+            return importacao;
+        }
+    }
+
+    private Map<TipoEntidade, Destino<?>> destinos(Importacao importacao) {
+        Map<TipoEntidade, Destino<?>> destinos = new EnumMap<>(TipoEntidade.class);
+        destinos.put(TipoEntidade.TAREFA, new Destino<>(TarefaDTO.class, tarefaService::processarLote, importacao));
+        destinos.put(TipoEntidade.ESTUDO, new Destino<>(EstudoDTO.class, estudoService::processarLote, importacao));
+        destinos.put(TipoEntidade.META, new Destino<>(MetaDTO.class, metaService::processarLote, importacao));
+        destinos.put(TipoEntidade.ANOTACAO, new Destino<>(AnotacaoDTO.class, anotacaoService::processarLote, importacao));
+        return destinos;
+    }
+
+    // Registros pendentes de um tipo e as linhas de origem, para o relatório de erros
+    private class Destino<D> {
+        private final Class<D> classe;
+        private final Function<List<OperacaoLoteDTO<D>>, List<ResultadoLoteDTO<D>>> processarLote;
+        private final Importacao importacao;
+        private final List<OperacaoLoteDTO<D>> pendentes = new ArrayList<>(TAMANHO_LOTE);
+        private final List<Long> linhas = new ArrayList<>(TAMANHO_LOTE);
+
+        Destino(Class<D> classe, Function<List<OperacaoLoteDTO<D>>, List<ResultadoLoteDTO<D>>> processarLote,
+                Importacao importacao) {
+            this.classe = classe;
+            this.processarLote = processarLote;
+            this.importacao = importacao;
+        }
+
+        // Conversão de tipos aqui; a validação das constraints do DTO fica no processarLote
+        void adicionar(Object dados, long linha) {
+            D dto;
+            try {
+                dto = objectMapper.convertValue(dados, classe);
+            } catch (IllegalArgumentException e) {
+                if (e.getCause() instanceof JsonMappingException causa && !causa.getPath().isEmpty()) {
+                    String campo = causa.getPath().get(causa.getPath().size() - 1).getFieldName();
+                    throw new IllegalArgumentException(campo + ": " + causa.getOriginalMessage());
+                }
+                throw e;
+            }
+            pendentes.add(new OperacaoLoteDTO<>("CRIAR", null, dto));
+            linhas.add(linha);
+            if (pendentes.size() >= TAMANHO_LOTE) gravar();
+        }
+
+        void gravar() {
+            if (pendentes.isEmpty()) return;
+            try {
+                List<ResultadoLoteDTO<D>> resultados = processarLote.apply(pendentes);
+                for (int i = 0; i < resultados.size(); i++) {
+                    ResultadoLoteDTO<D> resultado = resultados.get(i);
+                    if (resultado.getErro() == null) {
+                        importacao.importados.incrementAndGet();
+                    } else {
+                        importacao.rejeitar(linhas.get(i), resultado.getErro());
+                    }
+                }
+            } catch (RuntimeException e) {
+                log.warn("Falha ao gravar lote de {} registros da importação {}", pendentes.size(), importacao.id, e);
+                for (Long linha : linhas) importacao.rejeitar(linha, "Falha ao gravar o lote: " + e.getMessage());
+            }
+            pendentes.clear();
+            linhas.clear();
+        }
+    }
+
+    private static class Importacao {
+        static final String EM_ANDAMENTO = "EM_ANDAMENTO";
+
+        final String id;
+        final LocalDateTime dataInicio = LocalDateTime.now();
+        final AtomicLong linhasLidas = new AtomicLong();
+        final AtomicLong importados = new AtomicLong();
+        final AtomicLong rejeitados = new AtomicLong();
+        final List<RelatorioImportacaoDTO.ErroLinha> erros = new ArrayList<>();
+        volatile String status = EM_ANDAMENTO;
+        volatile LocalDateTime dataFim;
+
+        Importacao(String id) {
+            this.id = id;
+        }
+
+        void rejeitar(long linha, String erro) {
+            rejeitados.incrementAndGet();
+            synchronized (erros) {
+                if (erros.size() < MAX_ERROS_REPORTADOS) erros.add(new RelatorioImportacaoDTO.ErroLinha(linha, erro));
+            }
+        }
+
+        void concluir() {
+            dataFim = LocalDateTime.now();
+            status = "CONCLUIDA";
+            log.info("Importação {} concluída: {} importados, {} rejeitados", id, importados.get(), rejeitados.get());
+        }
+
+        void falhar(long linha, String erro) {
+            synchronized (erros) {
+                erros.add(new RelatorioImportacaoDTO.ErroLinha(linha, erro));
+            }
+            dataFim = LocalDateTime.now();
+            status = "FALHOU";
+            log.warn("Importação {} interrompida na linha {}: {}", id, linha, erro);
+        }
+
+        // Exceção não prevista a caminho do chamador: sem isso a importação ficaria em andamento
+        // para sempre e o mesmo id seria recusado pelo iniciar
+        void interromperSeEmAndamento(long linha) {
+            if (EM_ANDAMENTO.equals(status)) falhar(linha, "Importação interrompida por erro interno");
+        }
+
+        RelatorioImportacaoDTO relatorio() {
+            RelatorioImportacaoDTO dto = new RelatorioImportacaoDTO();
+            dto.setId(id);
+            dto.setStatus(status);
+            dto.setLinhasLidas(linhasLidas.get());
+            dto.setImportados(importados.get());
+            dto.setRejeitados(rejeitados.get());
+            synchronized (erros) {
+                List<RelatorioImportacaoDTO.ErroLinha> copia = new ArrayList<>(erros);
+                copia.sort(Comparator.comparingLong(RelatorioImportacaoDTO.ErroLinha::getLinha));
+                dto.setErros(copia);
+            }
+            dto.setDataInicio(dataInicio);
+            dto.setDataFim(dataFim);
+            return dto;
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.mentorize.service;
+
+import com.mentorize.dto.EstudoDTO;
+import com.mentorize.dto.MetaDTO;
+import com.mentorize.dto.TarefaDTO;
+import com.mentorize.event.AlteracaoEntidadeEvent;
+import com.mentorize.event.PrazoVencidoEvent;
+import com.mentorize.event.TipoEntidade;
+import com.mentorize.repository.EstudoRepository;
+import com.mentorize.repository.MetaRepository;
+import com.mentorize.repository.TarefaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Índice em memória dos prazos pendentes de tarefas, estudos e metas, ordenado pelo instante em que cada
+ * item passa a estar atrasado. "Atrasados agora" e "vencem até X" são faixas do mapa ordenado,
+ * com custo proporcional ao resultado e sem varrer a tabela. Carregado na subida e mantido pelos
+ * eventos de alteração; a verificação periódica publica um {@link PrazoVencidoEvent} para cada
+ * item que cruzou o prazo desde a verificação anterior.
+ * <p>
+ * Tarefas e estudos vencem no início do dia seguinte ao prazo (mesma regra de
+ * {@code Tarefa.isAtrasada}); metas vencem em {@code dataLimite}. Itens concluídos ou sem prazo não entram na ordem.
+ */
+@Component
+public class IndicePrazos {
+
+    private static final Logger log = LoggerFactory.getLogger(IndicePrazos.class);
+
+    // Maior antecedência aceita nas consultas "vencem em até N dias"
+    public static final int MAX_DIAS_ANTECEDENCIA = 366;
+
+    @Autowired
+    private TarefaRepository tarefaRepository;
+
+    @Autowired
+    private EstudoRepository estudoRepository;
+
+    @Autowired
+    private MetaRepository metaRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // Até a primeira carga o índice tem só o que os eventos trouxeram e não verifica nada
+    private final Map<TipoEntidade, Fila> filas = novasFilas();
+    // Incrementada a cada recarga; cada entrada guarda a geração em que foi escrita
+    private final AtomicLong geracao = new AtomicLong();
+    private volatile LocalDateTime ultimaVerificacao;
+
+    // ================================
+    // CONSULTA
+    // ================================
+    // Ids em ordem de vencimento (o mais antigo primeiro)
+    public List<Long> atrasados(TipoEntidade tipo, LocalDateTime agora) {
+        return ids(fila(tipo).porVencimento.headMap(new Chave(agora, Long.MIN_VALUE)));
+    }
+
+    // Pendentes que vencem em [agora, limite], em ordem de vencimento
+    public List<Long> vencendoAte(TipoEntidade tipo, LocalDateTime agora, LocalDateTime limite) {
+        if (limite.isBefore(agora)) return List.of();
+        return ids(fila(tipo).porVencimento.subMap(
+                new Chave(agora, Long.MIN_VALUE), true, new Chave(limite, Long.MAX_VALUE), true));
+    }
+
+    // Pendentes que vencem em (de, ate], em ordem de vencimento: janelas consecutivas não se repetem
+    public List<Long> vencendoEntre(TipoEntidade tipo, LocalDateTime de, LocalDateTime ate) {
+        if (!ate.isAfter(de)) return List.of();
+        return ids(fila(tipo).porVencimento.subMap(
+                new Chave(de, Long.MAX_VALUE), false, new Chave(ate, Long.MAX_VALUE), true));
+    }
+
+    public boolean isCarregado() {
+        return ultimaVerificacao != null;
+    }
+
+    public int tamanho(TipoEntidade tipo) {
+        return fila(tipo).porVencimento.size();
+    }
+
+    public static LocalDateTime vencimentoPrazo(LocalDate prazo) {
+        return prazo.plusDays(1).atStartOfDay();
+    }
+
+    private List<Long> ids(Map<Chave, Registro> faixa) {
+        List<Long> ids = new ArrayList<>();
+        for (Chave chave : faixa.keySet()) ids.add(chave.id());
+        return ids;
+    }
+
+    private Fila fila(TipoEntidade tipo) {
+        Fila fila = filas.get(tipo);
+        if (fila == null) throw new IllegalArgumentException("Entidade sem prazos indexados: " + tipo.getRecurso());
+        return fila;
+    }
+
+    // ================================
+    // SINCRONIZAÇÃO
+    // ================================
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAlteracao(AlteracaoEntidadeEvent event) {
+        if (event.getTipo() == TipoEntidade.TAREFA) {
+            if (event.getDepois() instanceof TarefaDTO tarefa) {
+                LocalDateTime vencimento = tarefa.isConcluida() || tarefa.getPrazo() == null
+                        ? null : vencimentoPrazo(tarefa.getPrazo());
+                registrar(filas.get(TipoEntidade.TAREFA), tarefa.getId(), vencimento, valor(tarefa.getVersao()),
+                        LocalDateTime.now(), geracao.get());
+            } else {
+                remover(filas.get(TipoEntidade.TAREFA), event.getId());
+            }
+        } else if (event.getTipo() == TipoEntidade.ESTUDO) {
+            if (event.getDepois() instanceof EstudoDTO estudo) {
+                LocalDateTime vencimento = Boolean.TRUE.equals(estudo.getConcluido()) || estudo.getPrazo() == null
+                        ? null : vencimentoPrazo(estudo.getPrazo());
+                registrar(filas.get(TipoEntidade.ESTUDO), estudo.getId(), vencimento, valor(estudo.getVersao()),
+                        LocalDateTime.now(), geracao.get());
+            } else {
+                remover(filas.get(TipoEntidade.ESTUDO), event.getId());
+            }
+        } else if (event.getTipo() == TipoEntidade.META) {
+            if (event.getDepois() instanceof MetaDTO meta) {
+                LocalDateTime vencimento = meta.isConcluida() ? null : meta.getDataLimite();
+                registrar(filas.get(TipoEntidade.META), meta.getId(), vencimento, valor(meta.getVersao()),
+                        LocalDateTime.now(), geracao.get());
+            } else {
+                remover(filas.get(TipoEntidade.META), event.getId());
+            }
+        }
+    }
+
+    // Os listeners pós-commit de transações concorrentes podem chegar fora de ordem; a versão
+    // impede que um estado antigo sobrescreva um mais novo. Por isso itens concluídos ficam em
+    // porId (sem vencimento) até a próxima recarga.
+    private void registrar(Fila fila, Long id, LocalDateTime vencimento, long versao, LocalDateTime agora, long geracao) {
+        fila.porId.compute(id, (chave, atual) -> {
+            if (atual != null && atual.versao() > versao) return atual;
+            Registro anterior = null;
+            if (atual != null && atual.vencimento() != null) {
+                anterior = fila.porVencimento.remove(new Chave(atual.vencimento(), id));
+            }
+            if (vencimento != null) {
+                // Prazo mantido conserva o instante de indexação, para não perder o vencimento
+                // de um item editado entre o prazo e a próxima verificação
+                LocalDateTime indexadoEm = anterior != null && vencimento.equals(atual.vencimento())
+                        ? anterior.indexadoEm() : agora;
+                fila.porVencimento.put(new Chave(vencimento, id), new Registro(versao, indexadoEm));
+            }
+            return new Entrada(vencimento, versao, geracao);
+        });
+    }
+
+    // Fica uma entrada sem vencimento e com a maior versão possível: uma recarga em andamento, que
+    // leu a linha antes da exclusão, não a traz de volta. A recarga seguinte a descarta.
+    private void remover(Fila fila, Long id) {
+        if (id == null) return;
+        fila.porId.compute(id, (chave, atual) -> {
+            if (atual != null && atual.vencimento() != null) fila.porVencimento.remove(new Chave(atual.vencimento(), id));
+            return new Entrada(null, Long.MAX_VALUE, geracao.get());
+        });
+    }
+
+    // Carrega na subida e de madrugada descarta o que os eventos possam ter deixado para trás.
+    // As linhas lidas entram no índice em uso pela mesma regra de versão dos eventos, e no fim saem
+    // só as entradas anteriores a esta carga que ela não encontrou. Um evento tratado durante a
+    // carga (inclusive de uma linha gravada depois do SELECT) fica com a geração nova e é mantido.
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${mentorize.prazos.recarga-cron:0 50 3 * * *}")
+    public synchronized void recarregar() {
+        long inicio = System.currentTimeMillis();
+        LocalDateTime agora = LocalDateTime.now();
+        long carga = geracao.incrementAndGet();
+        Fila tarefas = filas.get(TipoEntidade.TAREFA);
+        for (Object[] linha : tarefaRepository.findPrazosPendentes()) {
+            registrar(tarefas, (Long) linha[0], vencimentoPrazo((LocalDate) linha[1]), valor((Long) linha[2]), agora, carga);
+        }
+        Fila estudos = filas.get(TipoEntidade.ESTUDO);
+        for (Object[] linha : estudoRepository.findPrazosPendentes()) {
+            registrar(estudos, (Long) linha[0], vencimentoPrazo((LocalDate) linha[1]), valor((Long) linha[2]), agora, carga);
+        }
+        Fila metas = filas.get(TipoEntidade.META);
+        for (Object[] linha : metaRepository.findPrazosPendentes()) {
+            registrar(metas, (Long) linha[0], (LocalDateTime) linha[1], valor((Long) linha[2]), agora, carga);
+        }
+        for (Fila fila : filas.values()) descartarAnteriores(fila, carga);
+        if (ultimaVerificacao == null) ultimaVerificacao = agora;
+        log.info("Índice de prazos carregado: {} tarefas, {} estudos e {} metas pendentes em {} ms",
+                tarefas.porVencimento.size(), estudos.porVencimento.size(), metas.porVencimento.size(),
+                System.currentTimeMillis() - inicio);
+    }
+
+    private void descartarAnteriores(Fila fila, long carga) {
+        for (Long id : fila.porId.keySet()) {
+            fila.porId.computeIfPresent(id, (chave, atual) -> {
+                if (atual.geracao() >= carga) return atual;
+                if (atual.vencimento() != null) fila.porVencimento.remove(new Chave(atual.vencimento(), id));
+                return null;
+            });
+        }
+    }
+
+    // ================================
+    // VENCIMENTOS
+    // ================================
+    // Só publica quem estava indexado antes de vencer: um item gravado já atrasado não "cruza"
+    // o prazo, e os contadores já o viram atrasado no evento da gravação
+    @Scheduled(fixedDelayString = "${mentorize.prazos.verificacao-ms:1000}")
+    public void verificarVencimentos() {
+        LocalDateTime desde = ultimaVerificacao;
+        if (desde == null) return;
+        LocalDateTime agora = LocalDateTime.now();
+        if (!agora.isAfter(desde)) return;
+
+        int publicados = 0;
+        for (Map.Entry<TipoEntidade, Fila> fila : filas.entrySet()) {
+            Map<Chave, Registro> vencidos = fila.getValue().porVencimento.subMap(
+                    new Chave(desde, Long.MIN_VALUE), new Chave(agora, Long.MIN_VALUE));
+            for (Map.Entry<Chave, Registro> item : vencidos.entrySet()) {
+                Chave chave = item.getKey();
+                if (!chave.vencimento().isAfter(item.getValue().indexadoEm())) continue;
+                eventPublisher.publishEvent(new PrazoVencidoEvent(fila.getKey(), chave.id(),
+                        item.getValue().versao(), chave.vencimento()));
+                publicados++;
+            }
+        }
+        ultimaVerificacao = agora;
+        if (publicados > 0) log.debug("{} prazos vencidos entre {} e {}", publicados, desde, agora);
+    }
+
+    private static Map<TipoEntidade, Fila> novasFilas() {
+        Map<TipoEntidade, Fila> filas = new EnumMap<>(TipoEntidade.class);
+        filas.put(TipoEntidade.TAREFA, new Fila());
+        filas.put(TipoEntidade.ESTUDO, new Fila());
+        filas.put(TipoEntidade.META, new Fila());
+        return filas;
+    }
+
+    private static long valor(Long valor) {
+        return valor != null ? valor : 0L;
+    }
+
+    private record Chave(LocalDateTime vencimento, long id) implements Comparable<Chave> {
+        @Override
+        public int compareTo(Chave outra) {
+            int comparacao = vencimento.compareTo(outra.vencimento);
+            return comparacao != 0 ? comparacao : Long.compare(id, outra.id);
+        }
+    }
+
+    private record Registro(long versao, LocalDateTime indexadoEm) { }
+
+    private record Entrada(LocalDateTime vencimento, long versao, long geracao) { }
+
+    private static class Fila {
+        final ConcurrentSkipListMap<Chave, Registro> porVencimento = new ConcurrentSkipListMap<>();
+        final Map<Long, Entrada> porId = new ConcurrentHashMap<>();
+    }
+}
@@ -1,106 +1,237 @@
 package com.mentorize.service;
 
+import com.mentorize.dto.CursorPaginacao;
 import com.mentorize.dto.MetaDTO;
+import com.mentorize.dto.OperacaoLoteDTO;
+import com.mentorize.dto.PaginaDTO;
+import com.mentorize.dto.ResultadoLoteDTO;
+import com.mentorize.event.AlteracaoEntidadeEvent;
+import com.mentorize.event.TipoEntidade;
+import com.mentorize.exception.ConflitoConcorrenciaException;
 import com.mentorize.exception.ResourceNotFoundException;
 import com.mentorize.model.Meta;
 import com.mentorize.repository.MetaRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class MetaService {
 
+    // Os dois UPDATEs do incremento cobrem todos os estados; só uma alteração concorrente entre eles repete o ciclo
+    private static final int MAX_TENTATIVAS_INCREMENTO = 3;
+
     @Autowired
     private MetaRepository metaRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ProcessadorLote processadorLote;
+
+    @Autowired
+    private IndicePrazos indicePrazos;
+
+    // Leituras projetadas direto no DTO, em transação somente leitura
+    @Transactional(readOnly = true)
     public List<MetaDTO> findAll() {
-        return metaRepository.findAll()
-                .stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+        return metaRepository.findTodasDTO();
+    }
+
+    @Transactional(readOnly = true)
+    public PaginaDTO<MetaDTO> findPagina(String after, Integer limit) {
+        int limite = PaginaDTO.normalizarLimite(limit);
+        Pageable pageable = PageRequest.ofSize(limite + 1);
+
+        List<MetaDTO> itens;
+        if (after == null || after.isBlank()) {
+            itens = metaRepository.findPrimeiraPaginaDTO(pageable);
+        } else {
+            CursorPaginacao cursor = CursorPaginacao.parse(after);
+            itens = metaRepository.findPaginaAposDTO(cursor.getData(), cursor.getId(), pageable);
+        }
+
+        return PaginaDTO.de(itens, limite, dto -> new CursorPaginacao(dto.getDataInicio(), dto.getId()));
     }
 
+    @Cacheable(cacheNames = "metas", key = "#id")
+    @Transactional(readOnly = true)
     public MetaDTO findById(Long id) {
-        Meta meta = metaRepository.findById(id)
+        return metaRepository.findByIdDTO(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Meta não encontrada com id: " + id));
-        return toDTO(meta);
     }
 
     public MetaDTO create(MetaDTO metaDTO) {
-        Meta meta = toEntity(metaDTO);
-        meta.setDataInicio(LocalDateTime.now());
+        Meta meta = novaEntidade(metaDTO);
         Meta saved = metaRepository.save(meta);
-        return toDTO(saved);
+        MetaDTO criada = toDTO(saved);
+        eventPublisher.publishEvent(AlteracaoEntidadeEvent.criacao(TipoEntidade.META, criada.getId(), criada));
+        return criada;
     }
 
+    // Leitura e escrita na mesma transação; o flush incrementa a versão antes de montar o DTO
+    @Transactional
     public MetaDTO update(Long id, MetaDTO metaDTO) {
         return metaRepository.findById(id)
                 .map(existingMeta -> {
-                    updateEntityFromDTO(existingMeta, metaDTO);
-                    
-                    if (metaDTO.getProgresso() >= 100) {
-                        existingMeta.setConcluida(true);
-                    }
-                    
-                    Meta updated = metaRepository.save(existingMeta);
-                    return toDTO(updated);
+                    MetaDTO antes = toDTO(existingMeta);
+                    aplicarAtualizacao(existingMeta, metaDTO);
+                    Meta updated = metaRepository.saveAndFlush(existingMeta);
+                    MetaDTO depois = toDTO(updated);
+                    eventPublisher.publishEvent(AlteracaoEntidadeEvent.atualizacao(TipoEntidade.META, id, antes, depois));
+                    return depois;
                 })
                 .orElseThrow(() -> new ResourceNotFoundException("Meta não encontrada com id: " + id));
     }
 
+    // Transacional para o registro de exclusão do /sync ser gravado junto
+    @Transactional
     public void delete(Long id) {
-        if (!metaRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Meta não encontrada com id: " + id);
-        }
-        metaRepository.deleteById(id);
+        Meta meta = metaRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Meta não encontrada com id: " + id));
+        MetaDTO antes = toDTO(meta);
+        metaRepository.delete(meta);
+        eventPublisher.publishEvent(AlteracaoEntidadeEvent.exclusao(TipoEntidade.META, id, antes));
     }
 
+    @Transactional
+    public List<ResultadoLoteDTO<MetaDTO>> processarLote(List<? extends OperacaoLoteDTO<MetaDTO>> operacoes) {
+        return processadorLote.processar(operacoes, TipoEntidade.META, metaRepository,
+                this::novaEntidade, this::aplicarAtualizacao, this::toDTO, Meta::getId,
+                id -> "Meta não encontrada com id: " + id);
+    }
+
+    @Transactional(readOnly = true)
     public List<MetaDTO> findByConcluidaFalse() {
-        return metaRepository.findByConcluidaFalse()
+        return metaRepository.findPendentesDTO();
+    }
+
+    @Transactional(readOnly = true)
+    public List<MetaDTO> findByTipo(String tipo) {
+        return metaRepository.findByTipoDTO(tipo);
+    }
+
+    // O índice informa os ids em ordem de vencimento; a releitura pela PK confirma o estado,
+    // já que o índice só é atualizado depois do commit
+    @Transactional(readOnly = true)
+    public List<MetaDTO> findAtrasadas() {
+        return carregarNaOrdem(indicePrazos.atrasados(TipoEntidade.META, LocalDateTime.now()))
                 .stream()
-                .map(this::toDTO)
+                .filter(MetaDTO::isAtrasada)
                 .collect(Collectors.toList());
     }
 
-    public List<MetaDTO> findByTipo(String tipo) {
-        return metaRepository.findByTipo(tipo)
+    // Pendentes com data limite entre agora e agora + dias
+    @Transactional(readOnly = true)
+    public List<MetaDTO> findExpirando(int dias) {
+        if (dias < 0 || dias > IndicePrazos.MAX_DIAS_ANTECEDENCIA) {
+            throw new IllegalArgumentException("dias deve estar entre 0 e " + IndicePrazos.MAX_DIAS_ANTECEDENCIA);
+        }
+        LocalDateTime agora = LocalDateTime.now();
+        LocalDateTime limite = agora.plusDays(dias);
+        return carregarNaOrdem(indicePrazos.vencendoAte(TipoEntidade.META, agora, limite))
                 .stream()
-                .map(this::toDTO)
+                .filter(meta -> !meta.isConcluida() && meta.getDataLimite() != null
+                        && !meta.getDataLimite().isBefore(agora) && !meta.getDataLimite().isAfter(limite))
                 .collect(Collectors.toList());
     }
 
+    private List<MetaDTO> carregarNaOrdem(List<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+        Map<Long, MetaDTO> porId = metaRepository.findByIdsDTO(ids)
+                .stream()
+                .collect(Collectors.toMap(MetaDTO::getId, Function.identity()));
+        List<MetaDTO> metas = new ArrayList<>(porId.size());
+        for (Long id : ids) {
+            MetaDTO meta = porId.get(id);
+            if (meta != null) metas.add(meta);
+        }
+        return metas;
+    }
+
+    @Transactional(readOnly = true)
+    public List<MetaDTO> findDestaques() {
+        return metaRepository.findDestaquesDTO(PageRequest.ofSize(3));
+    }
+
+    // Atualização pontual pelo UPDATE (sem ler e regravar a linha inteira); a releitura pela PK devolve o estado novo.
+    // Ao chegar a 100 tenta primeiro a transição condicional, que informa se a meta estava pendente.
+    @Transactional
     public MetaDTO updateProgresso(Long id, int progresso) {
-        return metaRepository.findById(id)
-                .map(meta -> {
-                    meta.setProgresso(Math.max(0, Math.min(100, progresso)));
-                    if (progresso >= 100) {
-                        meta.setConcluida(true);
-                    }
-                    Meta updated = metaRepository.save(meta);
-                    return toDTO(updated);
-                })
+        int normalizado = Math.max(0, Math.min(100, progresso));
+        LocalDateTime agora = LocalDateTime.now();
+        boolean concluiuAgora = normalizado == 100 && metaRepository.concluir(id, agora) == 1;
+        if (!concluiuAgora && metaRepository.atualizarProgresso(id, normalizado, agora) == 0) {
+            throw new ResourceNotFoundException("Meta não encontrada com id: " + id);
+        }
+        return publicarAtualizacaoPontual(id, concluiuAgora);
+    }
+
+    // Soma delta ao progresso direto no banco, limitado a 0..100. Incrementos concorrentes (slider,
+    // outros dispositivos) não se sobrescrevem porque ninguém grava um valor lido antes.
+    @Transactional
+    public MetaDTO incrementarProgresso(Long id, int delta) {
+        int limitado = Math.max(-100, Math.min(100, delta));
+        LocalDateTime agora = LocalDateTime.now();
+        for (int tentativa = 1; tentativa <= MAX_TENTATIVAS_INCREMENTO; tentativa++) {
+            boolean concluiuAgora = limitado > 0 && metaRepository.concluirPorIncremento(id, limitado, agora) == 1;
+            if (concluiuAgora || metaRepository.incrementarProgresso(id, limitado, agora) == 1) {
+                return publicarAtualizacaoPontual(id, concluiuAgora);
+            }
+            if (!metaRepository.existsById(id)) {
+                throw new ResourceNotFoundException("Meta não encontrada com id: " + id);
+            }
+            // Outro incremento mudou a meta entre os dois UPDATEs; o próximo ciclo enxerga o valor novo
+        }
+        throw new ConflitoConcorrenciaException("Meta " + id + " alterada concorrentemente em "
+                + MAX_TENTATIVAS_INCREMENTO + " tentativas; reenvie o incremento");
+    }
+
+    // Relê pela PK o estado gravado pelo UPDATE e publica a alteração
+    private MetaDTO publicarAtualizacaoPontual(Long id, boolean concluiuAgora) {
+        Meta meta = metaRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Meta não encontrada com id: " + id));
+
+        // Só a situação de conclusão interessa aos ouvintes; o progresso anterior não é lido
+        MetaDTO depois = toDTO(meta);
+        MetaDTO antes = toDTO(meta);
+        antes.setVersao(meta.getVersao() - 1);
+        if (concluiuAgora) antes.setConcluida(false);
+        eventPublisher.publishEvent(AlteracaoEntidadeEvent.atualizacao(TipoEntidade.META, id, antes, depois));
+        return depois;
     }
 
     // Métodos de conversão
-    private MetaDTO toDTO(Meta meta) {
+    MetaDTO toDTO(Meta meta) {
         MetaDTO dto = new MetaDTO();
         dto.setId(meta.getId());
+        dto.setVersao(meta.getVersao());
         dto.setNome(meta.getNome());
         dto.setDescricao(meta.getDescricao());
         dto.setProgresso(meta.getProgresso());
         dto.setTipo(meta.getTipo());
         dto.setDataInicio(meta.getDataInicio());
         dto.setDataLimite(meta.getDataLimite());
+        dto.setDataAtualizacao(meta.getDataAtualizacao());
         dto.setConcluida(meta.isConcluida());
+        dto.setDiasRestantes(meta.getDiasRestantes());
+        dto.setAtrasada(meta.isAtrasada());
         return dto;
     }
 
-    private Meta toEntity(MetaDTO dto) {
+    Meta toEntity(MetaDTO dto) {
         Meta meta = new Meta();
         meta.setNome(dto.getNome());
         meta.setDescricao(dto.getDescricao());
@@ -111,7 +242,20 @@ public class MetaService {
         return meta;
     }
 
-    private void updateEntityFromDTO(Meta meta, MetaDTO dto) {
+    private Meta novaEntidade(MetaDTO dto) {
+        Meta meta = toEntity(dto);
+        meta.setDataInicio(LocalDateTime.now());
+        return meta;
+    }
+
+    private void aplicarAtualizacao(Meta meta, MetaDTO dto) {
+        updateEntityFromDTO(meta, dto);
+        if (dto.getProgresso() >= 100) {
+            meta.setConcluida(true);
+        }
+    }
+
+    void updateEntityFromDTO(Meta meta, MetaDTO dto) {
         if (dto.getNome() != null) meta.setNome(dto.getNome());
         if (dto.getDescricao() != null) meta.setDescricao(dto.getDescricao());
         meta.setProgresso(dto.getProgresso());
@@ -0,0 +1,195 @@
+package com.mentorize.service;
+
+import com.mentorize.dto.OperacaoLoteDTO;
+import com.mentorize.dto.ResultadoLoteDTO;
+import com.mentorize.event.AlteracaoEntidadeEvent;
+import com.mentorize.event.TipoEntidade;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Executa uma lista de operações de criação, atualização e exclusão sobre uma entidade
+ * dentro da transação de quem chama. As entidades existentes são carregadas numa única
+ * consulta e todas as escritas vão para o banco num só flush, agrupadas pelo batching
+ * JDBC do Hibernate. Operações inválidas ou com id inexistente são reportadas no
+ * resultado do item e não impedem as demais; erros do banco no flush desfazem o lote inteiro.
+ * Um IllegalArgumentException da conversão do DTO (ex.: prioridade desconhecida) também falha
+ * só o item, por isso {@code atualizar} deve converter tudo antes de alterar a entidade.
+ */
+@Component
+public class ProcessadorLote {
+
+    public static final int MAX_OPERACOES = 1000;
+
+    private enum Operacao { CRIAR, ATUALIZAR, EXCLUIR }
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    public <E, D> List<ResultadoLoteDTO<D>> processar(List<? extends OperacaoLoteDTO<D>> operacoes,
+                                                      TipoEntidade tipo,
+                                                      JpaRepository<E, Long> repository,
+                                                      Function<D, E> novaEntidade,
+                                                      BiConsumer<E, D> atualizar,
+                                                      Function<E, D> toDTO,
+                                                      Function<E, Long> getId,
+                                                      Function<Long, String> naoEncontrado) {
+        if (operacoes == null || operacoes.isEmpty()) return List.of();
+        if (operacoes.size() > MAX_OPERACOES) {
+            throw new IllegalArgumentException("Lote com " + operacoes.size() + " operações; o máximo é " + MAX_OPERACOES);
+        }
+
+        Map<Long, E> existentes = carregarExistentes(operacoes, repository, getId);
+
+        List<ResultadoLoteDTO<D>> resultados = new ArrayList<>(operacoes.size());
+        List<Pendente<E, D>> pendentes = new ArrayList<>();
+        List<E> novas = new ArrayList<>();
+
+        for (int indice = 0; indice < operacoes.size(); indice++) {
+            OperacaoLoteDTO<D> item = operacoes.get(indice);
+            resultados.add(null);
+
+            Operacao operacao = parseOperacao(item.getOperacao());
+            if (operacao == null) {
+                resultados.set(indice, ResultadoLoteDTO.falha(indice, HttpStatus.BAD_REQUEST.value(), item.getId(),
+                        "Operação inválida: " + item.getOperacao()));
+                continue;
+            }
+
+            if (operacao != Operacao.EXCLUIR) {
+                String erro = validar(item.getDados());
+                if (erro != null) {
+                    resultados.set(indice, ResultadoLoteDTO.falha(indice, HttpStatus.BAD_REQUEST.value(), item.getId(), erro));
+                    continue;
+                }
+            }
+
+            if (operacao == Operacao.CRIAR) {
+                E entidade;
+                try {
+                    entidade = novaEntidade.apply(item.getDados());
+                } catch (IllegalArgumentException e) {
+                    resultados.set(indice, ResultadoLoteDTO.falha(indice, HttpStatus.BAD_REQUEST.value(), item.getId(), e.getMessage()));
+                    continue;
+                }
+                novas.add(entidade);
+                pendentes.add(new Pendente<>(indice, operacao, entidade, null));
+                continue;
+            }
+
+            E entidade = item.getId() == null ? null : existentes.get(item.getId());
+            if (entidade == null) {
+                String erro = item.getId() == null ? "Id é obrigatório para " + operacao : naoEncontrado.apply(item.getId());
+                int status = item.getId() == null ? HttpStatus.BAD_REQUEST.value() : HttpStatus.NOT_FOUND.value();
+                resultados.set(indice, ResultadoLoteDTO.falha(indice, status, item.getId(), erro));
+                continue;
+            }
+
+            D antes = toDTO.apply(entidade);
+            if (operacao == Operacao.ATUALIZAR) {
+                try {
+                    atualizar.accept(entidade, item.getDados());
+                } catch (IllegalArgumentException e) {
+                    resultados.set(indice, ResultadoLoteDTO.falha(indice, HttpStatus.BAD_REQUEST.value(), item.getId(), e.getMessage()));
+                    continue;
+                }
+            } else {
+                repository.delete(entidade);
+                // Operações seguintes sobre o mesmo id recebem 404
+                existentes.remove(item.getId());
+            }
+            pendentes.add(new Pendente<>(indice, operacao, entidade, antes));
+        }
+
+        repository.saveAll(novas);
+        repository.flush();
+
+        for (Pendente<E, D> pendente : pendentes) {
+            Long id = getId.apply(pendente.entidade);
+            switch (pendente.operacao) {
+                case CRIAR -> {
+                    D criado = toDTO.apply(pendente.entidade);
+                    eventPublisher.publishEvent(AlteracaoEntidadeEvent.criacao(tipo, id, criado));
+                    resultados.set(pendente.indice, ResultadoLoteDTO.sucesso(pendente.indice, HttpStatus.CREATED.value(), id, criado));
+                }
+                case ATUALIZAR -> {
+                    D depois = toDTO.apply(pendente.entidade);
+                    eventPublisher.publishEvent(AlteracaoEntidadeEvent.atualizacao(tipo, id, pendente.antes, depois));
+                    resultados.set(pendente.indice, ResultadoLoteDTO.sucesso(pendente.indice, HttpStatus.OK.value(), id, depois));
+                }
+                case EXCLUIR -> {
+                    eventPublisher.publishEvent(AlteracaoEntidadeEvent.exclusao(tipo, id, pendente.antes));
+                    resultados.set(pendente.indice, ResultadoLoteDTO.sucesso(pendente.indice, HttpStatus.NO_CONTENT.value(), id, null));
+                }
+            }
+        }
+        return resultados;
+    }
+
+    private <E, D> Map<Long, E> carregarExistentes(List<? extends OperacaoLoteDTO<D>> operacoes,
+                                                   JpaRepository<E, Long> repository,
+                                                   Function<E, Long> getId) {
+        Set<Long> ids = new HashSet<>();
+        for (OperacaoLoteDTO<D> item : operacoes) {
+            if (item.getId() != null) ids.add(item.getId());
+        }
+        Map<Long, E> existentes = new HashMap<>();
+        if (ids.isEmpty()) return existentes;
+        for (E entidade : repository.findAllById(ids)) {
+            existentes.put(getId.apply(entidade), entidade);
+        }
+        return existentes;
+    }
+
+    private Operacao parseOperacao(String operacao) {
+        if (operacao == null) return null;
+        try {
+            return Operacao.valueOf(operacao.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // Mesmas regras do @Valid dos endpoints individuais
+    private String validar(Object dados) {
+        if (dados == null) return "Dados são obrigatórios";
+        Set<ConstraintViolation<Object>> violacoes = validator.validate(dados);
+        if (violacoes.isEmpty()) return null;
+        return violacoes.stream()
+                .map(violacao -> violacao.getPropertyPath() + ": " + violacao.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private static class Pendente<E, D> {
+        final int indice;
+        final Operacao operacao;
+        final E entidade;
+        final D antes;
+
+        Pendente(int indice, Operacao operacao, E entidade, D antes) {
+            this.indice = indice;
+            this.operacao = operacao;
+            this.entidade = entidade;
+            this.antes = antes;
+        }
+    }
+}
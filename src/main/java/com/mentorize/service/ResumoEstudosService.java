@@ -0,0 +1,200 @@
+package com.mentorize.service;
+
+import com.mentorize.dto.EstudoDTO;
+import com.mentorize.dto.PontoSerieEstudoDTO;
+import com.mentorize.event.AlteracaoEntidadeEvent;
+import com.mentorize.event.TipoEntidade;
+import com.mentorize.model.ResumoEstudoDiario;
+import com.mentorize.repository.ResumoEstudoDiarioRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Mantém a tabela estudos_resumo_diario: totais por (dia de criação, matéria). Cada escrita de
+ * estudo desconta o estado "antes" e soma o "depois" no balde correspondente. Dentro de uma
+ * transação (lote, importação, exclusão, conclusão) as diferenças se acumulam e são gravadas uma
+ * vez por balde, em ordem de chave, logo antes do commit. A reconstrução noturna corrige desvios.
+ */
+@Service
+public class ResumoEstudosService {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumoEstudosService.class);
+
+    // Maior intervalo aceito numa série, em dias (cerca de 10 anos)
+    private static final long MAX_DIAS_SERIE = 3660;
+
+    private static final Comparator<ResumoEstudoDiario.Chave> ORDEM =
+            Comparator.comparing(ResumoEstudoDiario.Chave::getDia).thenComparing(ResumoEstudoDiario.Chave::getMateria);
+
+    @Autowired
+    private ResumoEstudoDiarioRepository resumoRepository;
+
+    public enum Periodo {
+        DIA, SEMANA, MES;
+
+        public static Periodo fromNome(String nome) {
+            for (Periodo periodo : values()) {
+                if (periodo.name().equalsIgnoreCase(nome)) return periodo;
+            }
+            throw new IllegalArgumentException("Período desconhecido: " + nome + " (use dia, semana ou mes)");
+        }
+
+        // Semanas começam na segunda-feira (ISO)
+        LocalDate inicioDoPeriodo(LocalDate dia) {
+            return switch (this) {
+                case DIA -> dia;
+                case SEMANA -> dia.with(DayOfWeek.MONDAY);
+                case MES -> dia.withDayOfMonth(1);
+            };
+        }
+
+        // Sem "inicio": últimos 30 dias, 12 semanas ou 12 meses
+        LocalDate inicioPadrao(LocalDate fim) {
+            return switch (this) {
+                case DIA -> fim.minusDays(29);
+                case SEMANA -> fim.minusWeeks(11);
+                case MES -> fim.minusMonths(11);
+            };
+        }
+    }
+
+    // ================================
+    // MANUTENÇÃO INCREMENTAL
+    // ================================
+    // Síncrono: o resumo é gravado na mesma transação da alteração, quando existe uma
+    @EventListener
+    public void onAlteracao(AlteracaoEntidadeEvent event) {
+        if (event.getTipo() != TipoEntidade.ESTUDO) return;
+        boolean emTransacao = TransactionSynchronizationManager.isSynchronizationActive();
+        Map<ResumoEstudoDiario.Chave, Diferenca> diferencas = emTransacao ? pendentesDaTransacao() : new TreeMap<>(ORDEM);
+        if (event.getAntes() instanceof EstudoDTO antes) acumular(diferencas, antes, -1);
+        if (event.getDepois() instanceof EstudoDTO depois) acumular(diferencas, depois, 1);
+        if (!emTransacao) aplicar(diferencas);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<ResumoEstudoDiario.Chave, Diferenca> pendentesDaTransacao() {
+        Map<ResumoEstudoDiario.Chave, Diferenca> pendentes =
+                (Map<ResumoEstudoDiario.Chave, Diferenca>) TransactionSynchronizationManager.getResource(this);
+        if (pendentes != null) return pendentes;
+
+        Map<ResumoEstudoDiario.Chave, Diferenca> novas = new TreeMap<>(ORDEM);
+        TransactionSynchronizationManager.bindResource(this, novas);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                aplicar(novas);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ResumoEstudosService.this);
+            }
+        });
+        return novas;
+    }
+
+    private void acumular(Map<ResumoEstudoDiario.Chave, Diferenca> diferencas, EstudoDTO estudo, int sinal) {
+        if (estudo.getDataCriacao() == null || estudo.getMateria() == null) return;
+        boolean concluido = Boolean.TRUE.equals(estudo.getConcluido());
+        long minutos = concluido && estudo.getDuracao() != null ? estudo.getDuracao() : 0;
+        ResumoEstudoDiario.Chave chave = new ResumoEstudoDiario.Chave(estudo.getDataCriacao().toLocalDate(), estudo.getMateria());
+        Diferenca diferenca = diferencas.computeIfAbsent(chave, c -> new Diferenca());
+        diferenca.estudos += sinal;
+        diferenca.concluidos += concluido ? sinal : 0;
+        diferenca.minutos += sinal * minutos;
+    }
+
+    private void aplicar(Map<ResumoEstudoDiario.Chave, Diferenca> diferencas) {
+        diferencas.forEach((chave, diferenca) -> {
+            if (diferenca.isZero()) return;
+            resumoRepository.somar(chave.getDia(), chave.getMateria(), diferenca.estudos, diferenca.concluidos, diferenca.minutos);
+            if (diferenca.estudos < 0) resumoRepository.deleteSeVazio(chave.getDia(), chave.getMateria());
+        });
+    }
+
+    // Reconstrói a partir da tabela estudos; roda de madrugada e pode ser disparada pela API
+    @Transactional
+    @Scheduled(cron = "${mentorize.estudos.resumo.reconstrucao-cron:0 45 3 * * *}")
+    public int reconstruir() {
+        long inicio = System.currentTimeMillis();
+        resumoRepository.deleteTodos();
+        int baldes = resumoRepository.reconstruir();
+        log.info("Resumo diário de estudos reconstruído: {} baldes em {} ms", baldes, System.currentTimeMillis() - inicio);
+        return baldes;
+    }
+
+    // ================================
+    // CONSULTAS
+    // ================================
+    public long getTotal() {
+        return valor(resumoRepository.sumEstudos());
+    }
+
+    public long getConcluidos() {
+        return valor(resumoRepository.sumConcluidos());
+    }
+
+    public long getMinutosConcluidos() {
+        return valor(resumoRepository.sumMinutosConcluidos());
+    }
+
+    public List<Object[]> countByMateria() {
+        return resumoRepository.countByMateria();
+    }
+
+    // Só períodos com estudos aparecem; ordenado por início do período e matéria
+    public List<PontoSerieEstudoDTO> serie(Periodo periodo, LocalDate inicio, LocalDate fim, String materia) {
+        LocalDate ate = fim != null ? fim : LocalDate.now();
+        LocalDate de = periodo.inicioDoPeriodo(inicio != null ? inicio : periodo.inicioPadrao(ate));
+        if (de.isAfter(ate)) throw new IllegalArgumentException("Início posterior ao fim: " + de + " > " + ate);
+        if (ChronoUnit.DAYS.between(de, ate) > MAX_DIAS_SERIE) {
+            throw new IllegalArgumentException("Intervalo maior que " + MAX_DIAS_SERIE + " dias");
+        }
+
+        List<ResumoEstudoDiario> dias = materia != null
+                ? resumoRepository.findPeriodoPorMateria(de, ate, materia)
+                : resumoRepository.findPeriodo(de, ate);
+
+        Map<ResumoEstudoDiario.Chave, PontoSerieEstudoDTO> pontos = new TreeMap<>(ORDEM);
+        for (ResumoEstudoDiario dia : dias) {
+            LocalDate inicioPeriodo = periodo.inicioDoPeriodo(dia.getDia());
+            PontoSerieEstudoDTO ponto = pontos.computeIfAbsent(new ResumoEstudoDiario.Chave(inicioPeriodo, dia.getMateria()),
+                    chave -> new PontoSerieEstudoDTO(inicioPeriodo, dia.getMateria()));
+            ponto.setEstudos(ponto.getEstudos() + dia.getEstudos());
+            ponto.setConcluidos(ponto.getConcluidos() + dia.getConcluidos());
+            ponto.setMinutosConcluidos(ponto.getMinutosConcluidos() + dia.getMinutosConcluidos());
+        }
+        return new ArrayList<>(pontos.values());
+    }
+
+    private long valor(Long valor) {
+        return valor != null ? valor : 0L;
+    }
+
+    private static class Diferenca {
+        long estudos;
+        long concluidos;
+        long minutos;
+
+        boolean isZero() {
+            return estudos == 0 && concluidos == 0 && minutos == 0;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.mentorize.service;
+
+import com.mentorize.dto.ExclusaoDTO;
+import com.mentorize.dto.SincronizacaoDTO;
+import com.mentorize.event.AlteracaoEntidadeEvent;
+import com.mentorize.model.Exclusao;
+import com.mentorize.repository.AnotacaoRepository;
+import com.mentorize.repository.EstudoRepository;
+import com.mentorize.repository.ExclusaoRepository;
+import com.mentorize.repository.MetaRepository;
+import com.mentorize.repository.TarefaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.stream.Collectors;
+
+/**
+ * Sincronização incremental: devolve o que foi inserido, alterado ou excluído desde uma marca
+ * d'água, para o cliente pagar bytes proporcionais às edições e não ao tamanho da base.
+ * <p>
+ * A marca devolvida fica "margem" segundos antes do início da consulta: uma transação que
+ * gravou a data de atualização antes da consulta mas só fez commit depois ainda aparece na
+ * próxima chamada. O custo é reenviar as edições dessa janela, que o cliente aplica de novo.
+ * Registros antigos sem data de atualização só aparecem na sincronização completa.
+ */
+@Service
+public class SincronizacaoService {
+
+    private static final Logger log = LoggerFactory.getLogger(SincronizacaoService.class);
+
+    @Autowired
+    private TarefaRepository tarefaRepository;
+
+    @Autowired
+    private EstudoRepository estudoRepository;
+
+    @Autowired
+    private MetaRepository metaRepository;
+
+    @Autowired
+    private AnotacaoRepository anotacaoRepository;
+
+    @Autowired
+    private ExclusaoRepository exclusaoRepository;
+
+    @Autowired
+    private TarefaService tarefaService;
+
+    @Autowired
+    private EstudoService estudoService;
+
+    @Autowired
+    private MetaService metaService;
+
+    @Autowired
+    private AnotacaoService anotacaoService;
+
+    // Maior duração esperada de uma transação de escrita
+    @Value("${mentorize.sync.margem-segundos:60}")
+    private long margemSegundos;
+
+    // Exclusões mais antigas são apagadas; marcas anteriores a isso recebem a sincronização completa
+    @Value("${mentorize.sync.retencao-exclusoes-dias:30}")
+    private long retencaoDias;
+
+    // Leitura numa só transação: as cinco consultas enxergam o mesmo estado do banco
+    @Transactional(readOnly = true)
+    public SincronizacaoDTO sincronizar(LocalDateTime desde) {
+        LocalDateTime inicio = LocalDateTime.now();
+        SincronizacaoDTO resposta = new SincronizacaoDTO();
+
+        if (desde == null || desde.isBefore(inicio.minusDays(retencaoDias))) {
+            resposta.setCompleta(true);
+            resposta.setTarefas(tarefaService.findAll());
+            resposta.setEstudos(estudoService.findAll());
+            resposta.setMetas(metaService.findAll());
+            resposta.setAnotacoes(anotacaoService.findAll());
+            resposta.setMarca(inicio.minusSeconds(margemSegundos));
+            return resposta;
+        }
+
+        resposta.setTarefas(tarefaRepository.findByDataAtualizacaoGreaterThanEqual(desde).stream()
+                .map(tarefaService::toDTO).collect(Collectors.toList()));
+        resposta.setEstudos(estudoRepository.findByDataAtualizacaoGreaterThanEqual(desde).stream()
+                .map(estudoService::toDTO).collect(Collectors.toList()));
+        resposta.setMetas(metaRepository.findByDataAtualizacaoGreaterThanEqual(desde).stream()
+                .map(metaService::toDTO).collect(Collectors.toList()));
+        resposta.setAnotacoes(anotacaoRepository.findByDataAtualizacaoGreaterThanEqual(desde).stream()
+                .map(anotacaoService::toDTO).collect(Collectors.toList()));
+        resposta.setExclusoes(exclusaoRepository.findByDataExclusaoGreaterThanEqual(desde).stream()
+                .map(exclusao -> new ExclusaoDTO(exclusao.getTipo().name().toLowerCase(),
+                        exclusao.getEntidadeId(), exclusao.getDataExclusao()))
+                .collect(Collectors.toList()));
+
+        // Nunca volta atrás: chamadas frequentes repetem a mesma janela em vez de ampliá-la
+        LocalDateTime marca = inicio.minusSeconds(margemSegundos);
+        resposta.setMarca(marca.isAfter(desde) ? marca : desde);
+        return resposta;
+    }
+
+    // Síncrono: grava o registro na mesma transação da exclusão (os delete dos serviços e o lote são transacionais)
+    @EventListener
+    public void onAlteracao(AlteracaoEntidadeEvent event) {
+        if (event.getOperacao() != AlteracaoEntidadeEvent.Operacao.EXCLUSAO) return;
+        exclusaoRepository.save(new Exclusao(event.getTipo(), event.getId()));
+    }
+
+    @Scheduled(cron = "${mentorize.sync.limpeza-cron:0 30 3 * * *}")
+    public void limparExclusoesAntigas() {
+        int removidas = exclusaoRepository.deleteAnteriores(LocalDateTime.now().minusDays(retencaoDias));
+        if (removidas > 0) log.info("{} registros de exclusão com mais de {} dias removidos", removidas, retencaoDias);
+    }
+}
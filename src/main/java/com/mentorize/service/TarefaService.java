@@ -1,14 +1,29 @@
 package com.mentorize.service;
 
+import com.mentorize.dto.CursorPaginacao;
 import com.mentorize.dto.TarefaDTO;
+import com.mentorize.dto.OperacaoLoteDTO;
+import com.mentorize.dto.PaginaDTO;
+import com.mentorize.dto.ResultadoLoteDTO;
+import com.mentorize.event.AlteracaoEntidadeEvent;
+import com.mentorize.event.TipoEntidade;
 import com.mentorize.exception.ResourceNotFoundException;
 import com.mentorize.model.Tarefa;
 import com.mentorize.repository.TarefaRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -17,110 +32,213 @@ public class TarefaService {
     @Autowired
     private TarefaRepository tarefaRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ProcessadorLote processadorLote;
+
+    @Autowired
+    private IndicePrazos indicePrazos;
+
     // ================================
     // LISTAR TODAS
     // ================================
+    // Leituras projetadas direto no DTO, em transação somente leitura (sem flush nem dirty checking)
+    @Transactional(readOnly = true)
     public List<TarefaDTO> findAll() {
-        return tarefaRepository.findAll()
-                .stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+        return tarefaRepository.findTodasDTO();
+    }
+
+    // ================================
+    // LISTAR PÁGINA (CURSOR)
+    // ================================
+    @Transactional(readOnly = true)
+    public PaginaDTO<TarefaDTO> findPagina(String after, Integer limit) {
+        int limite = PaginaDTO.normalizarLimite(limit);
+        Pageable pageable = PageRequest.ofSize(limite + 1);
+
+        List<TarefaDTO> itens;
+        if (after == null || after.isBlank()) {
+            itens = tarefaRepository.findPrimeiraPaginaDTO(pageable);
+        } else {
+            CursorPaginacao cursor = CursorPaginacao.parse(after);
+            itens = tarefaRepository.findPaginaAposDTO(cursor.getData(), cursor.getId(), pageable);
+        }
+
+        return PaginaDTO.de(itens, limite, dto -> new CursorPaginacao(dto.getDataCriacao(), dto.getId()));
     }
 
     // ================================
     // BUSCAR POR ID
     // ================================
+    @Cacheable(cacheNames = "tarefas", key = "#id")
+    @Transactional(readOnly = true)
     public TarefaDTO findById(Long id) {
-        Tarefa tarefa = tarefaRepository.findById(id)
+        return tarefaRepository.findByIdDTO(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Tarefa não encontrada com id: " + id));
-        return toDTO(tarefa);
     }
 
     // ================================
     // CRIAR
     // ================================
     public TarefaDTO create(TarefaDTO tarefaDTO) {
-        Tarefa tarefa = toEntity(tarefaDTO);
-
-        tarefa.setDataCriacao(LocalDateTime.now());
+        Tarefa tarefa = novaEntidade(tarefaDTO);
 
         Tarefa saved = tarefaRepository.save(tarefa);
-        return toDTO(saved);
+        TarefaDTO criada = toDTO(saved);
+        eventPublisher.publishEvent(AlteracaoEntidadeEvent.criacao(TipoEntidade.TAREFA, criada.getId(), criada));
+        return criada;
     }
 
     // ================================
     // ATUALIZAR
     // ================================
+    // Leitura e escrita na mesma transação: a escrita confere a versão lida (@Version) e o flush
+    // a incrementa antes de montar o DTO; conflito com outra escrita vira 409 (GlobalExceptionHandler)
+    @Transactional
     public TarefaDTO update(Long id, TarefaDTO tarefaDTO) {
         return tarefaRepository.findById(id)
                 .map(existingTarefa -> {
 
-                    boolean estavaConcluida = existingTarefa.isConcluida();
-
-                    updateEntityFromDTO(existingTarefa, tarefaDTO);
+                    TarefaDTO antes = toDTO(existingTarefa);
 
-                    // Se concluiu agora
-                    if (tarefaDTO.isConcluida() && !estavaConcluida) {
-                        existingTarefa.setDataConclusao(LocalDateTime.now());
-                    }
+                    aplicarAtualizacao(existingTarefa, tarefaDTO);
 
-                    Tarefa updated = tarefaRepository.save(existingTarefa);
-                    return toDTO(updated);
+                    Tarefa updated = tarefaRepository.saveAndFlush(existingTarefa);
+                    TarefaDTO depois = toDTO(updated);
+                    eventPublisher.publishEvent(AlteracaoEntidadeEvent.atualizacao(TipoEntidade.TAREFA, id, antes, depois));
+                    return depois;
                 })
                 .orElseThrow(() -> new ResourceNotFoundException("Tarefa não encontrada com id: " + id));
     }
 
+    // ================================
+    // LOTE
+    // ================================
+    @Transactional
+    public List<ResultadoLoteDTO<TarefaDTO>> processarLote(List<? extends OperacaoLoteDTO<TarefaDTO>> operacoes) {
+        return processadorLote.processar(operacoes, TipoEntidade.TAREFA, tarefaRepository,
+                this::novaEntidade, this::aplicarAtualizacao, this::toDTO, Tarefa::getId,
+                id -> "Tarefa não encontrada com id: " + id);
+    }
+
+    // ================================
+    // MARCAR COMO CONCLUÍDA
+    // ================================
+    // Um único UPDATE condicional faz a transição; a releitura pela PK devolve o estado novo.
+    // Se nenhuma linha mudou, a tarefa já estava concluída (nada a publicar) ou não existe.
+    @Transactional
+    public TarefaDTO marcarComoConcluida(Long id) {
+        boolean concluiuAgora = tarefaRepository.concluir(id, LocalDateTime.now()) == 1;
+        Tarefa tarefa = tarefaRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Tarefa não encontrada com id: " + id));
+
+        TarefaDTO depois = toDTO(tarefa);
+        if (concluiuAgora) {
+            // O estado anterior é conhecido pela condição do UPDATE: pendente, sem data de conclusão
+            TarefaDTO antes = toDTO(tarefa);
+            antes.setConcluida(false);
+            antes.setDataConclusao(null);
+            antes.setVersao(tarefa.getVersao() - 1);
+            eventPublisher.publishEvent(AlteracaoEntidadeEvent.atualizacao(TipoEntidade.TAREFA, id, antes, depois));
+        }
+        return depois;
+    }
+
     // ================================
     // DELETAR
     // ================================
+    // Transacional para o registro de exclusão do /sync ser gravado junto
+    @Transactional
     public void delete(Long id) {
-        if (!tarefaRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Tarefa não encontrada com id: " + id);
-        }
-        tarefaRepository.deleteById(id);
+        Tarefa tarefa = tarefaRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Tarefa não encontrada com id: " + id));
+        TarefaDTO antes = toDTO(tarefa);
+        tarefaRepository.delete(tarefa);
+        eventPublisher.publishEvent(AlteracaoEntidadeEvent.exclusao(TipoEntidade.TAREFA, id, antes));
     }
 
     // ================================
     // NÃO CONCLUÍDAS
     // ================================
+    @Transactional(readOnly = true)
     public List<TarefaDTO> findByConcluidaFalse() {
-        return tarefaRepository.findByConcluidaFalse()
-                .stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+        return tarefaRepository.findPendentesDTO();
     }
 
     // ================================
     // BUSCAR POR PRIORIDADE
     // ================================
+    @Transactional(readOnly = true)
     public List<TarefaDTO> findByPrioridade(String prioridade) {
 
         Tarefa.Prioridade prioridadeEnum = Tarefa.Prioridade.valueOf(prioridade.toUpperCase());
 
-        return tarefaRepository.findByPrioridade(prioridadeEnum)
-                .stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+        return tarefaRepository.findByPrioridadeDTO(prioridadeEnum);
     }
 
 
     // ================================
     // TAREFAS COM PRAZO
     // ================================
+    @Transactional(readOnly = true)
     public List<TarefaDTO> findTarefasComPrazo() {
-        return tarefaRepository.findTarefasComPrazo()
+        return tarefaRepository.findComPrazoDTO();
+    }
+
+    // ================================
+    // ATRASADAS E A VENCER (ÍNDICE DE PRAZOS)
+    // ================================
+    // O índice informa os ids em ordem de vencimento; a releitura pela PK confirma o estado,
+    // já que o índice só é atualizado depois do commit
+    @Transactional(readOnly = true)
+    public List<TarefaDTO> findAtrasadas() {
+        LocalDate hoje = LocalDate.now();
+        return carregarNaOrdem(indicePrazos.atrasados(TipoEntidade.TAREFA, LocalDateTime.now()))
+                .stream()
+                .filter(tarefa -> !tarefa.isConcluida() && tarefa.getPrazo() != null && hoje.isAfter(tarefa.getPrazo()))
+                .collect(Collectors.toList());
+    }
+
+    // Pendentes com prazo entre hoje e hoje + dias
+    @Transactional(readOnly = true)
+    public List<TarefaDTO> findVencendo(int dias) {
+        if (dias < 0 || dias > IndicePrazos.MAX_DIAS_ANTECEDENCIA) {
+            throw new IllegalArgumentException("dias deve estar entre 0 e " + IndicePrazos.MAX_DIAS_ANTECEDENCIA);
+        }
+        LocalDate hoje = LocalDate.now();
+        LocalDate ate = hoje.plusDays(dias);
+        List<Long> ids = indicePrazos.vencendoAte(TipoEntidade.TAREFA,
+                IndicePrazos.vencimentoPrazo(hoje), IndicePrazos.vencimentoPrazo(ate));
+        return carregarNaOrdem(ids)
                 .stream()
-                .map(this::toDTO)
+                .filter(tarefa -> !tarefa.isConcluida() && tarefa.getPrazo() != null
+                        && !tarefa.getPrazo().isBefore(hoje) && !tarefa.getPrazo().isAfter(ate))
                 .collect(Collectors.toList());
     }
 
+    private List<TarefaDTO> carregarNaOrdem(List<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+        Map<Long, TarefaDTO> porId = tarefaRepository.findByIdsDTO(ids)
+                .stream()
+                .collect(Collectors.toMap(TarefaDTO::getId, Function.identity()));
+        List<TarefaDTO> tarefas = new ArrayList<>(porId.size());
+        for (Long id : ids) {
+            TarefaDTO tarefa = porId.get(id);
+            if (tarefa != null) tarefas.add(tarefa);
+        }
+        return tarefas;
+    }
+
     // ================================
     // ENTITY → DTO
     // ================================
-    private TarefaDTO toDTO(Tarefa tarefa) {
+    TarefaDTO toDTO(Tarefa tarefa) {
         TarefaDTO dto = new TarefaDTO();
 
         dto.setId(tarefa.getId());
+        dto.setVersao(tarefa.getVersao());
         dto.setTitulo(tarefa.getTitulo());
         dto.setDescricao(tarefa.getDescricao());
         dto.setConcluida(tarefa.isConcluida());
@@ -131,6 +249,7 @@ public class TarefaService {
         dto.setCategoria(tarefa.getCategoria().name());
 
         dto.setDataCriacao(tarefa.getDataCriacao());
+        dto.setDataAtualizacao(tarefa.getDataAtualizacao());
         dto.setDataConclusao(tarefa.getDataConclusao());
 
         return dto;
@@ -139,7 +258,7 @@ public class TarefaService {
     // ================================
     // DTO → ENTITY
     // ================================
-    private Tarefa toEntity(TarefaDTO dto) {
+    Tarefa toEntity(TarefaDTO dto) {
         Tarefa tarefa = new Tarefa();
 
         tarefa.setTitulo(dto.getTitulo());
@@ -157,10 +276,22 @@ public class TarefaService {
         return tarefa;
     }
 
+    private Tarefa novaEntidade(TarefaDTO dto) {
+        Tarefa tarefa = toEntity(dto);
+        tarefa.setDataCriacao(LocalDateTime.now());
+        return tarefa;
+    }
+
     // ================================
     // ATUALIZAR ENTITY EXISTENTE
     // ================================
-    private void updateEntityFromDTO(Tarefa tarefa, TarefaDTO dto) {
+    void updateEntityFromDTO(Tarefa tarefa, TarefaDTO dto) {
+
+        // String → Enum antes de alterar qualquer campo: um valor inválido não deixa a entidade pela metade
+        Tarefa.Prioridade prioridade = dto.getPrioridade() != null
+                ? Tarefa.Prioridade.valueOf(dto.getPrioridade().toUpperCase()) : tarefa.getPrioridade();
+        Tarefa.Categoria categoria = dto.getCategoria() != null
+                ? Tarefa.Categoria.valueOf(dto.getCategoria().toUpperCase()) : tarefa.getCategoria();
 
         if (dto.getTitulo() != null) tarefa.setTitulo(dto.getTitulo());
         if (dto.getDescricao() != null) tarefa.setDescricao(dto.getDescricao());
@@ -168,10 +299,18 @@ public class TarefaService {
 
         if (dto.getPrazo() != null) tarefa.setPrazo(dto.getPrazo());
 
-        if (dto.getPrioridade() != null)
-            tarefa.setPrioridade(Tarefa.Prioridade.valueOf(dto.getPrioridade().toUpperCase()));
+        tarefa.setPrioridade(prioridade);
+        tarefa.setCategoria(categoria);
+    }
 
-        if (dto.getCategoria() != null)
-            tarefa.setCategoria(Tarefa.Categoria.valueOf(dto.getCategoria().toUpperCase()));
+    private void aplicarAtualizacao(Tarefa tarefa, TarefaDTO dto) {
+        boolean estavaConcluida = tarefa.isConcluida();
+
+        updateEntityFromDTO(tarefa, dto);
+
+        // Se concluiu agora
+        if (dto.isConcluida() && !estavaConcluida) {
+            tarefa.setDataConclusao(LocalDateTime.now());
+        }
     }
 }
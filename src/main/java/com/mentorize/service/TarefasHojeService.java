@@ -0,0 +1,59 @@
+package com.mentorize.service;
+
+import com.mentorize.dto.TarefaDTO;
+import com.mentorize.repository.TarefaRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Tarefas criadas e concluídas "hoje" no fuso do usuário. O dia vira o intervalo semiaberto
+ * [meia-noite, meia-noite seguinte) no fuso pedido, convertido para o fuso do servidor em que as
+ * datas são gravadas; dias de 23 ou 25 horas (horário de verão) saem certos do {@code atStartOfDay}.
+ * <p>
+ * O controller guarda a resposta serializada no {@link CacheRespostas} por fuso, válida enquanto
+ * o dia no fuso e o contador de alterações de tarefas forem os mesmos.
+ */
+@Service
+public class TarefasHojeService {
+
+    @Autowired
+    private TarefaRepository tarefaRepository;
+
+    // Sem zona, o fuso do servidor
+    public static ZoneId zona(String nome) {
+        if (nome == null || nome.isBlank()) return ZoneId.systemDefault();
+        try {
+            return ZoneId.of(nome).normalized();
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Fuso horário inválido: " + nome);
+        }
+    }
+
+    public static LocalDate hoje(ZoneId zona) {
+        return LocalDate.now(zona);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TarefaDTO> findCriadasHoje(ZoneId zona) {
+        LocalDate dia = hoje(zona);
+        return tarefaRepository.findCriadasEntreDTO(inicioDoDia(dia, zona), inicioDoDia(dia.plusDays(1), zona));
+    }
+
+    @Transactional(readOnly = true)
+    public List<TarefaDTO> findConcluidasHoje(ZoneId zona) {
+        LocalDate dia = hoje(zona);
+        return tarefaRepository.findConcluidasEntreDTO(inicioDoDia(dia, zona), inicioDoDia(dia.plusDays(1), zona));
+    }
+
+    // Meia-noite no fuso pedido, no horário do servidor
+    private static LocalDateTime inicioDoDia(LocalDate dia, ZoneId zona) {
+        return dia.atStartOfDay(zona).withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+    }
+}
@@ -0,0 +1,120 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Leva ao formato da V1 um banco criado antes das migrações pelo antigo {@code ddl-auto=update}.
+ * Esses bancos recebem a baseline na versão 1 e nunca rodam a V1; conforme a versão do código que
+ * os criou, faltam versao, data_atualizacao, exclusoes, as tabelas *_seq e os índices (data, id)
+ * que a V2 recria. Cada passo confere o catálogo antes, então num banco criado pela V1 nada muda.
+ * <p>
+ * Roda fora de ordem (spring.flyway.out-of-order) em bancos que já estavam na V2 ou adiante.
+ */
+public class V1_1__EsquemaAnteriorAsMigracoes extends BaseJavaMigration {
+
+    // tabela → colunas que a V1 tem e versões anteriores do código não criavam
+    private static final Map<String, Map<String, String>> COLUNAS = Map.of(
+            "tarefas", Map.of(
+                    "versao", "BIGINT DEFAULT 0 NOT NULL",
+                    "data_atualizacao", "DATETIME(6)",
+                    "data_conclusao", "DATETIME(6)"),
+            "estudos", Map.of(
+                    "versao", "BIGINT DEFAULT 0 NOT NULL",
+                    "data_atualizacao", "DATETIME(6)"),
+            "metas", Map.of(
+                    "versao", "BIGINT DEFAULT 0 NOT NULL",
+                    "data_atualizacao", "DATETIME(6)"),
+            "anotacoes", Map.of(
+                    "versao", "BIGINT DEFAULT 0 NOT NULL")
+    );
+
+    // índice → tabela e colunas, como na V1 (a V2 os recria descendentes)
+    private static final Map<String, String[]> INDICES = Map.of(
+            "idx_tarefas_data_criacao_id", new String[] {"tarefas", "data_criacao, id"},
+            "idx_tarefas_data_atualizacao", new String[] {"tarefas", "data_atualizacao"},
+            "idx_estudos_data_criacao_id", new String[] {"estudos", "data_criacao, id"},
+            "idx_estudos_data_atualizacao", new String[] {"estudos", "data_atualizacao"},
+            "idx_metas_data_inicio_id", new String[] {"metas", "data_inicio, id"},
+            "idx_metas_data_atualizacao", new String[] {"metas", "data_atualizacao"},
+            "idx_anotacoes_data_criacao_id", new String[] {"anotacoes", "data_criacao, id"},
+            "idx_anotacoes_data_atualizacao", new String[] {"anotacoes", "data_atualizacao"},
+            "idx_exclusoes_data_exclusao", new String[] {"exclusoes", "data_exclusao"}
+    );
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection conexao = context.getConnection();
+        try (Statement comando = conexao.createStatement()) {
+            Set<String> colunas = colunas(conexao.getMetaData(), conexao);
+
+            for (Map.Entry<String, Map<String, String>> tabela : COLUNAS.entrySet()) {
+                for (Map.Entry<String, String> coluna : tabela.getValue().entrySet()) {
+                    if (colunas.contains(tabela.getKey() + "." + coluna.getKey())) continue;
+                    comando.execute("ALTER TABLE " + tabela.getKey() + " ADD COLUMN " + coluna.getKey() + " " + coluna.getValue());
+                }
+            }
+
+            if (!colunas.contains("exclusoes.id")) {
+                comando.execute("CREATE TABLE exclusoes ("
+                        + "id BIGINT NOT NULL, "
+                        + "tipo ENUM('TAREFA', 'ESTUDO', 'META', 'ANOTACAO') NOT NULL, "
+                        + "entidade_id BIGINT NOT NULL, "
+                        + "data_exclusao DATETIME(6) NOT NULL, "
+                        + "PRIMARY KEY (id)) ENGINE = InnoDB");
+            }
+
+            // Começam em 1; o AlinhadorSequencias avança cada uma para além do maior id ao subir
+            for (String tabela : new String[] {"tarefas", "estudos", "metas", "anotacoes", "exclusoes"}) {
+                String sequencia = tabela + "_seq";
+                if (!colunas.contains(sequencia + ".next_val")) {
+                    comando.execute("CREATE TABLE " + sequencia + " (next_val BIGINT) ENGINE = InnoDB");
+                }
+                try (ResultSet linhas = comando.executeQuery("SELECT COUNT(*) FROM " + sequencia)) {
+                    linhas.next();
+                    if (linhas.getLong(1) == 0) comando.execute("INSERT INTO " + sequencia + " VALUES (1)");
+                }
+            }
+
+            Set<String> indices = indices(conexao.getMetaData(), conexao);
+            for (Map.Entry<String, String[]> indice : INDICES.entrySet()) {
+                if (indices.contains(indice.getKey())) continue;
+                comando.execute("CREATE INDEX " + indice.getKey() + " ON " + indice.getValue()[0] + " (" + indice.getValue()[1] + ")");
+            }
+        }
+    }
+
+    // "tabela.coluna" de todas as tabelas do esquema, em minúsculas
+    private static Set<String> colunas(DatabaseMetaData metadados, Connection conexao) throws SQLException {
+        Set<String> colunas = new HashSet<>();
+        try (ResultSet linhas = metadados.getColumns(conexao.getCatalog(), conexao.getSchema(), "%", "%")) {
+            while (linhas.next()) {
+                colunas.add((linhas.getString("TABLE_NAME") + "." + linhas.getString("COLUMN_NAME")).toLowerCase(Locale.ROOT));
+            }
+        }
+        return colunas;
+    }
+
+    private static Set<String> indices(DatabaseMetaData metadados, Connection conexao) throws SQLException {
+        Set<String> indices = new HashSet<>();
+        for (String tabela : new String[] {"tarefas", "estudos", "metas", "anotacoes", "exclusoes"}) {
+            try (ResultSet linhas = metadados.getIndexInfo(conexao.getCatalog(), conexao.getSchema(), tabela, false, true)) {
+                while (linhas.next()) {
+                    String nome = linhas.getString("INDEX_NAME");
+                    if (nome != null) indices.add(nome.toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return indices;
+    }
+}
@@ -0,0 +1,107 @@
+-- Esquema equivalente ao que o Hibernate gerava com ddl-auto=update (dialeto MySQL).
+-- Bancos que já existiam antes das migrações recebem a baseline na versão 1 e pulam este script.
+-- As sequências são emuladas em tabelas *_seq (ids pooled, alocação de 50; ver AlinhadorSequencias).
+
+CREATE TABLE tarefas (
+    id BIGINT NOT NULL,
+    versao BIGINT NOT NULL,
+    titulo VARCHAR(255) NOT NULL,
+    descricao TEXT,
+    concluida BIT NOT NULL,
+    prazo DATE,
+    prioridade ENUM('BAIXA', 'MEDIA', 'MEDIA_ACENTUADA', 'ALTA') NOT NULL,
+    categoria ENUM('STUDY', 'WORK', 'PERSONAL', 'OTHER') NOT NULL,
+    data_criacao DATETIME(6) NOT NULL,
+    data_atualizacao DATETIME(6),
+    data_conclusao DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE tarefas_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO tarefas_seq VALUES (1);
+
+CREATE TABLE estudos (
+    id BIGINT NOT NULL,
+    versao BIGINT NOT NULL,
+    titulo VARCHAR(255) NOT NULL,
+    descricao VARCHAR(1000),
+    materia VARCHAR(100) NOT NULL,
+    prazo DATE,
+    concluido BIT NOT NULL,
+    duracao INTEGER NOT NULL,
+    anotacoes TEXT,
+    data_criacao DATETIME(6) NOT NULL,
+    data_atualizacao DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE estudos_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO estudos_seq VALUES (1);
+
+CREATE TABLE metas (
+    id BIGINT NOT NULL,
+    versao BIGINT NOT NULL,
+    nome VARCHAR(255) NOT NULL,
+    descricao TEXT,
+    progresso INTEGER NOT NULL,
+    tipo VARCHAR(50),
+    data_inicio DATETIME(6) NOT NULL,
+    data_limite DATETIME(6),
+    concluida BIT NOT NULL,
+    data_atualizacao DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE metas_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO metas_seq VALUES (1);
+
+CREATE TABLE anotacoes (
+    id BIGINT NOT NULL,
+    versao BIGINT NOT NULL,
+    titulo VARCHAR(255) NOT NULL,
+    conteudo TEXT,
+    data_criacao DATETIME(6) NOT NULL,
+    data_atualizacao DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE anotacoes_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO anotacoes_seq VALUES (1);
+
+-- Registros de exclusão para o /sync
+CREATE TABLE exclusoes (
+    id BIGINT NOT NULL,
+    tipo ENUM('TAREFA', 'ESTUDO', 'META', 'ANOTACAO') NOT NULL,
+    entidade_id BIGINT NOT NULL,
+    data_exclusao DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE exclusoes_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO exclusoes_seq VALUES (1);
+
+-- Paginação por cursor (data, id) e deltas do /sync
+CREATE INDEX idx_tarefas_data_criacao_id ON tarefas (data_criacao, id);
+CREATE INDEX idx_tarefas_data_atualizacao ON tarefas (data_atualizacao);
+CREATE INDEX idx_estudos_data_criacao_id ON estudos (data_criacao, id);
+CREATE INDEX idx_estudos_data_atualizacao ON estudos (data_atualizacao);
+CREATE INDEX idx_metas_data_inicio_id ON metas (data_inicio, id);
+CREATE INDEX idx_metas_data_atualizacao ON metas (data_atualizacao);
+CREATE INDEX idx_anotacoes_data_criacao_id ON anotacoes (data_criacao, id);
+CREATE INDEX idx_anotacoes_data_atualizacao ON anotacoes (data_atualizacao);
+CREATE INDEX idx_exclusoes_data_exclusao ON exclusoes (data_exclusao);
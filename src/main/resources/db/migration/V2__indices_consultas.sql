@@ -0,0 +1,34 @@
+-- Índices compostos casados com os filtros e ordenações dos repositórios.
+-- A coluna de igualdade vem primeiro e a de intervalo/ordenação depois.
+
+-- findTarefasComPrazo (ORDER BY prazo), findTarefasAtrasadas, countTarefasAtrasadas,
+-- findByConcluidaFalse, countConcluidas, countPendentes
+CREATE INDEX idx_tarefas_concluida_prazo ON tarefas (concluida, prazo);
+-- findByCategoria, findPendentesByCategoria, countPorCategoria
+CREATE INDEX idx_tarefas_categoria_concluida ON tarefas (categoria, concluida);
+-- findByPrioridade
+CREATE INDEX idx_tarefas_prioridade ON tarefas (prioridade);
+
+-- countEstudosAtrasados, findByConcluidoFalse, countConcluidos
+CREATE INDEX idx_estudos_concluido_prazo ON estudos (concluido, prazo);
+-- findConcluidosFromDate
+CREATE INDEX idx_estudos_concluido_data_criacao ON estudos (concluido, data_criacao);
+-- findByMateria, countByMateria
+CREATE INDEX idx_estudos_materia ON estudos (materia);
+
+-- findMetasAtrasadas, countMetasAtrasadas, findMetasExpirandoEm, findByConcluidaFalse,
+-- findTop3ByConcluidaFalseOrderByProgressoDesc, avgProgressoMetasAtivas
+CREATE INDEX idx_metas_concluida_data_limite ON metas (concluida, data_limite);
+-- findByTipo, countPorTipo
+CREATE INDEX idx_metas_tipo ON metas (tipo);
+
+-- Listas recentes e paginação por cursor ordenam por (data, id) DESC. Índices descendentes servem a
+-- ordenação sem varredura reversa no MySQL 8 e são os únicos que o H2 usa para ORDER BY ... DESC.
+DROP INDEX idx_tarefas_data_criacao_id ON tarefas;
+CREATE INDEX idx_tarefas_data_criacao_id ON tarefas (data_criacao DESC, id DESC);
+DROP INDEX idx_estudos_data_criacao_id ON estudos;
+CREATE INDEX idx_estudos_data_criacao_id ON estudos (data_criacao DESC, id DESC);
+DROP INDEX idx_metas_data_inicio_id ON metas;
+CREATE INDEX idx_metas_data_inicio_id ON metas (data_inicio DESC, id DESC);
+DROP INDEX idx_anotacoes_data_criacao_id ON anotacoes;
+CREATE INDEX idx_anotacoes_data_criacao_id ON anotacoes (data_criacao DESC, id DESC);
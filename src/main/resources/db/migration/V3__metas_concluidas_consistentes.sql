@@ -0,0 +1,3 @@
+-- Metas com progresso 100 gravadas com concluida = false (setConcluida(false) depois de
+-- setProgresso(100)) já apareciam como concluídas na API, mas não nas contagens por coluna.
+UPDATE metas SET concluida = TRUE WHERE progresso >= 100 AND concluida = FALSE;
@@ -0,0 +1,18 @@
+-- Resumo de estudos por (dia de criação, matéria), mantido pelos serviços a cada escrita.
+-- Totais, médias e séries de tempo leem daqui em O(dias x matérias) em vez de varrer estudos.
+CREATE TABLE estudos_resumo_diario (
+    dia DATE NOT NULL,
+    materia VARCHAR(100) NOT NULL,
+    estudos BIGINT NOT NULL,
+    concluidos BIGINT NOT NULL,
+    minutos_concluidos BIGINT NOT NULL,
+    PRIMARY KEY (dia, materia)
+) ENGINE = InnoDB;
+
+-- Carga inicial a partir dos estudos existentes (mesma consulta de ResumoEstudoDiarioRepository.reconstruir)
+INSERT INTO estudos_resumo_diario (dia, materia, estudos, concluidos, minutos_concluidos)
+SELECT CAST(data_criacao AS DATE), materia, COUNT(*),
+       SUM(CASE WHEN concluido = TRUE THEN 1 ELSE 0 END),
+       SUM(CASE WHEN concluido = TRUE THEN duracao ELSE 0 END)
+FROM estudos
+GROUP BY CAST(data_criacao AS DATE), materia;
@@ -0,0 +1,7 @@
+-- Posição persistida dos agendadores (ex.: lembretes de prazo), para retomar de onde pararam
+-- depois de um reinício
+CREATE TABLE cursores_agendamento (
+    nome VARCHAR(50) NOT NULL,
+    processado_ate DATETIME(6) NOT NULL,
+    PRIMARY KEY (nome)
+) ENGINE = InnoDB;
@@ -0,0 +1,3 @@
+-- findConcluidasEntre (/tarefas/concluidas-hoje): concluida = true e intervalo semiaberto em
+-- data_conclusao, mais recentes primeiro. findCriadasEntre (/tarefas/hoje) usa idx_tarefas_data_criacao_id.
+CREATE INDEX idx_tarefas_concluida_data_conclusao ON tarefas (concluida, data_conclusao DESC);
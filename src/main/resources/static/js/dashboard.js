@@ -5,15 +5,10 @@ class Dashboard {
             // Mostrar estado de loading
             this.showLoadingState();
             
-            const [tasks, studies, goals, notes] = await Promise.all([
-                this.fetchTasks(),
-                this.fetchStudies(),
-                this.fetchGoals(),
-                this.fetchNotes()
-            ]);
-
-            this.updateStats(tasks, studies, goals);
-            this.updateFeaturedGoals(goals);
+            const resumo = await this.fetchResumo();
+
+            this.updateStats(resumo);
+            this.updateFeaturedGoals(resumo.metasDestaque || []);
             
             // Remover loading
             this.hideLoadingState();
@@ -69,78 +64,28 @@ class Dashboard {
         }
     }
 
-    static async fetchTasks() {
-        try {
-            const response = await fetch('http://localhost:8080/tarefas');
-            if (!response.ok) throw new Error('Erro ao buscar tarefas');
-            return await response.json();
-        } catch (error) {
-            console.error('Erro ao carregar tarefas:', error);
-            return [];
-        }
-    }
-
-    static async fetchStudies() {
-        try {
-            const response = await fetch('http://localhost:8080/estudos');
-            if (!response.ok) throw new Error('Erro ao buscar estudos');
-            return await response.json();
-        } catch (error) {
-            console.error('Erro ao carregar estudos:', error);
-            return [];
-        }
+    // Um único endpoint com os números agregados no servidor
+    static async fetchResumo() {
+        const response = await fetch('http://localhost:8080/dashboard/resumo');
+        if (!response.ok) throw new Error('Erro ao buscar resumo do dashboard');
+        return await response.json();
     }
 
-    static async fetchGoals() {
-        try {
-            const response = await fetch('http://localhost:8080/metas');
-            if (!response.ok) throw new Error('Erro ao buscar metas');
-            return await response.json();
-        } catch (error) {
-            console.error('Erro ao carregar metas:', error);
-            return [];
-        }
-    }
-
-    static async fetchNotes() {
-        try {
-            const response = await fetch('http://localhost:8080/anotacoes');
-            if (!response.ok) throw new Error('Erro ao buscar anotações');
-            return await response.json();
-        } catch (error) {
-            console.error('Erro ao carregar anotações:', error);
-            return [];
-        }
-    }
-
-static updateStats(tasks, studies, goals) {
+static updateStats(resumo) {
     // Total de tarefas pendentes
-    const pendingTasks = tasks.filter(task => !task.concluida).length;
-    this.updateStatElement('totalTasks', pendingTasks);
+    this.updateStatElement('totalTasks', resumo.tarefasPendentes);
     
     // Metas concluídas
-    const completedGoals = goals.filter(goal => (goal.progresso || 0) >= 100).length;
-    this.updateStatElement('goalsCompleted', completedGoals);
-
-    // ⭐⭐ CORREÇÃO: Score de produtividade em porcentagem
-    const totalStudies = studies.length;
-    const completedStudies = studies.filter(study => study.concluido).length;
-    const totalItems = totalStudies + goals.length;
-    const completedItems = completedStudies + completedGoals;
-    
-    let productivity = 0;
-    if (totalItems > 0) {
-        productivity = Math.min(100, Math.round((completedItems / totalItems) * 100));
-    }
-    
-    // ⭐⭐ CORREÇÃO: Garantir que mostre com símbolo de porcentagem
+    this.updateStatElement('goalsCompleted', resumo.metasConcluidas);
+
+    // Score de produtividade já calculado no servidor
     const productivityElement = document.getElementById('productivityScore');
     if (productivityElement) {
-        productivityElement.textContent = `${productivity}%`;
+        productivityElement.textContent = `${resumo.produtividade}%`;
     }
 
     // Atualizar tendências
-    this.updateTrends(tasks, studies, goals);
+    this.updateTrends(resumo);
 }
 
     static updateStatElement(elementId, value) {
@@ -189,10 +134,10 @@ static updateStats(tasks, studies, goals) {
         requestAnimationFrame(update);
     }
 
-    static updateTrends(tasks, studies, goals) {
+    static updateTrends(resumo) {
         // Calcular tendências baseadas em dados históricos
-        const pendingTasks = tasks.filter(task => !task.concluida).length;
-        const completedGoals = goals.filter(goal => (goal.progresso || 0) >= 100).length;
+        const pendingTasks = resumo.tarefasPendentes;
+        const completedGoals = resumo.metasConcluidas;
         
         // Simular tendências (em produção, você teria dados históricos)
         const trends = {
@@ -235,11 +180,8 @@ static updateStats(tasks, studies, goals) {
 
         console.log('Metas recebidas para destaque:', goals);
 
-        // Ordenar metas: não concluídas primeiro, depois por progresso decrescente
-        const sortedGoals = goals
-            .filter(goal => (goal.progresso || 0) < 100) // Apenas metas não concluídas
-            .sort((a, b) => (b.progresso || 0) - (a.progresso || 0))
-            .slice(0, 3); // Pegar apenas as 3 principais
+        // O servidor já envia as 3 metas ativas com maior progresso
+        const sortedGoals = goals;
 
         console.log('Metas filtradas para destaque:', sortedGoals);
 
@@ -185,16 +185,17 @@ class MetaManager {
         const goal = this.goals.find(g => g.id == goalId);
         if (!goal) return;
         
-        let newProgress = Math.min(100, Math.max(0, (goal.progresso || 0) + change));
-        
         try {
-            const res = await fetch(`http://localhost:8080/metas/${goalId}/progresso?progresso=${newProgress}`, { 
+            // Envia só a variação: o servidor soma ao valor atual, sem perder cliques de outros dispositivos
+            const res = await fetch(`http://localhost:8080/metas/${goalId}/progresso/incremento?delta=${change}`, { 
                 method: 'PATCH' 
             });
             
             if (!res.ok) throw new Error('Erro ao atualizar progresso');
             
-            goal.progresso = newProgress;
+            const updated = await res.json();
+            Object.assign(goal, updated);
+            const newProgress = updated.progresso;
             this.renderGoals();
             
             if (newProgress === 100) {